@@ -0,0 +1,91 @@
+package com.project.code.benchmark;
+
+import com.project.code.CodeApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+// Starts the real application against an in-memory H2 database and fills it with a fixed, seeded data set,
+// so every run of a benchmark measures the same work.
+//
+// The schema comes from the Flyway migrations, as in production.
+// MongoDB isn't started: the Mongo client connects lazily, and the review benchmark stubs ReviewRepository.
+final class BenchmarkContext {
+
+    static final long STORE_ID = 1;
+
+    static final int STOCK_LEVEL = 1_000_000_000;
+
+    private static final String[] BRANDS = {"Samsung", "Apple", "Sony", "Dell", "Philips", "Bose", "Dyson", "Nespresso", "Canon", "Lenovo"};
+
+    private static final String[] ITEMS = {"Phone", "Laptop", "Headphones", "Monitor", "Vacuum Cleaner", "Coffee Maker", "Camera", "Speaker", "Tablet", "Charger"};
+
+    private static final String[] CATEGORIES = {"Mobile", "Computers", "Audio", "Home", "Kitchen"};
+
+    private BenchmarkContext() {
+    }
+
+    static ConfigurableApplicationContext start(String... properties) {
+        return start(WebApplicationType.NONE, properties);
+    }
+
+    static ConfigurableApplicationContext start(WebApplicationType webApplicationType, String... properties) {
+        // Passed as command line arguments so they override application.properties.
+        List<String> args = new ArrayList<>(List.of(
+                "--spring.datasource.url=jdbc:h2:mem:benchmark;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+                "--spring.datasource.username=sa",
+                "--spring.datasource.password=",
+                "--spring.jpa.show-sql=false",
+                "--spring.jpa.properties.hibernate.format_sql=false",
+                "--logging.level.root=WARN",
+                "--logging.level.org.mongodb.driver=OFF",
+                "--mongodb.ensure-indexes=false"));
+        for (String property : properties) {
+            args.add("--" + property);
+        }
+
+        return new SpringApplicationBuilder(CodeApplication.class)
+                .web(webApplicationType)
+                .run(args.toArray(new String[0]));
+    }
+
+    // Inserts one store, `products` products stocked in it and `customers` customers.
+    // Product names are built from a seeded Random, e.g. "Sony Headphones 17".
+    static void seed(ConfigurableApplicationContext context, int products, int customers) {
+        JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+        jdbcTemplate.update("INSERT INTO store (id, name, address) VALUES (?, ?, ?)", STORE_ID, "Benchmark Store", "1 Benchmark Road");
+
+        Random random = new Random(42);
+        List<Object[]> productRows = new ArrayList<>();
+        List<Object[]> inventoryRows = new ArrayList<>();
+        for (long id = 1; id <= products; id++) {
+            String name = BRANDS[random.nextInt(BRANDS.length)] + " " + ITEMS[random.nextInt(ITEMS.length)] + " " + random.nextInt(1000);
+            String category = CATEGORIES[random.nextInt(CATEGORIES.length)];
+            productRows.add(new Object[]{id, name, category, 10 + random.nextInt(2000), "SKU-" + id});
+            inventoryRows.add(new Object[]{id, id, STORE_ID, STOCK_LEVEL});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO product (id, name, category, price, sku) VALUES (?, ?, ?, ?, ?)", productRows);
+        jdbcTemplate.batchUpdate("INSERT INTO inventory (id, product_id, store_id, stock_level) VALUES (?, ?, ?, ?)", inventoryRows);
+
+        List<Object[]> customerRows = new ArrayList<>();
+        for (long id = 1; id <= customers; id++) {
+            customerRows.add(new Object[]{id, "Customer " + id, email(id), "555-" + id});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO customer (id, name, email, phone) VALUES (?, ?, ?, ?)", customerRows);
+
+        // Rows were inserted with explicit ids; move the identity columns past them.
+        jdbcTemplate.execute("ALTER TABLE store ALTER COLUMN id RESTART WITH 2");
+        jdbcTemplate.execute("ALTER TABLE product ALTER COLUMN id RESTART WITH " + (products + 1));
+        jdbcTemplate.execute("ALTER TABLE inventory ALTER COLUMN id RESTART WITH " + (products + 1));
+        jdbcTemplate.execute("ALTER TABLE customer ALTER COLUMN id RESTART WITH " + (customers + 1));
+    }
+
+    static String email(long customerId) {
+        return "customer" + customerId + "@example.com";
+    }
+}
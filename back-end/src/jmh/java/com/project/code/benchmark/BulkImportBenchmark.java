@@ -0,0 +1,112 @@
+package com.project.code.benchmark;
+
+import com.project.code.Model.BulkImportResult;
+import com.project.code.Service.BulkRowReader;
+import com.project.code.Service.InventoryImportService;
+import com.project.code.Service.ProductImportService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+// Bulk import throughput in rows per second (the score is per row, see @OperationsPerInvocation).
+//    - importProducts: a catalog of ROWS products upserted by SKU, half of them new and half already present.
+//    - importInventory: stock levels for ROWS (store, product) pairs, half of them new and half already present.
+// Each invocation imports a fresh body, so every run does the same mix of INSERTs and UPDATEs.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@OperationsPerInvocation(BulkImportBenchmark.ROWS)
+public class BulkImportBenchmark {
+
+    static final int ROWS = 10_000;
+
+    @Param({"text/csv", "application/x-ndjson"})
+    public String format;
+
+    private ConfigurableApplicationContext context;
+
+    private ProductImportService productImportService;
+
+    private InventoryImportService inventoryImportService;
+
+    private JdbcTemplate jdbcTemplate;
+
+    private MediaType contentType;
+
+    private long invocation;
+
+    private byte[] productBody;
+
+    private byte[] inventoryBody;
+
+    @Setup(Level.Trial)
+    public void start() {
+        context = BenchmarkContext.start();
+        // Products 1..ROWS are stocked in store 1 and have SKUs SKU-1..SKU-ROWS.
+        BenchmarkContext.seed(context, ROWS, 0);
+        jdbcTemplate = context.getBean(JdbcTemplate.class);
+        jdbcTemplate.update("INSERT INTO store (id, name, address) VALUES (2, 'Second Store', '2 Benchmark Road')");
+        productImportService = context.getBean(ProductImportService.class);
+        inventoryImportService = context.getBean(InventoryImportService.class);
+        contentType = MediaType.parseMediaType(format);
+    }
+
+    // Products: the first half of the rows updates seeded SKUs, the second half adds SKUs no earlier invocation
+    // used. Inventory: the first half updates the seeded store, the second half stocks store 2, emptied first.
+    // Building the bodies here keeps it out of the measured time.
+    @Setup(Level.Invocation)
+    public void prepare() {
+        invocation++;
+        jdbcTemplate.update("DELETE FROM inventory WHERE store_id = 2");
+
+        StringBuilder products = new StringBuilder(format.equals(BulkRowReader.TEXT_CSV) ? "sku,name,category,price\n" : "");
+        StringBuilder inventory = new StringBuilder(format.equals(BulkRowReader.TEXT_CSV) ? "storeId,productId,stockLevel\n" : "");
+        for (int i = 1; i <= ROWS; i++) {
+            String sku = i <= ROWS / 2 ? "SKU-" + i : "NEW-" + invocation + "-" + i;
+            long storeId = i <= ROWS / 2 ? BenchmarkContext.STORE_ID : 2;
+            if (format.equals(BulkRowReader.TEXT_CSV)) {
+                products.append(sku).append(",Product ").append(i).append(" v").append(invocation).append(",Home,").append(10 + i % 100).append('\n');
+                inventory.append(storeId).append(',').append(i).append(',').append(BenchmarkContext.STOCK_LEVEL).append('\n');
+            } else {
+                products.append("{\"sku\":\"").append(sku).append("\",\"name\":\"Product ").append(i).append(" v").append(invocation)
+                        .append("\",\"category\":\"Home\",\"price\":").append(10 + i % 100).append("}\n");
+                inventory.append("{\"storeId\":").append(storeId).append(",\"productId\":").append(i)
+                        .append(",\"stockLevel\":").append(BenchmarkContext.STOCK_LEVEL).append("}\n");
+            }
+        }
+        productBody = products.toString().getBytes(StandardCharsets.UTF_8);
+        inventoryBody = inventory.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() {
+        context.close();
+    }
+
+    @Benchmark
+    public BulkImportResult importProducts() throws IOException {
+        return check(productImportService.importProducts(new ByteArrayInputStream(productBody), contentType));
+    }
+
+    @Benchmark
+    public BulkImportResult importInventory() throws IOException {
+        return check(inventoryImportService.importInventory(new ByteArrayInputStream(inventoryBody), contentType));
+    }
+
+    private static BulkImportResult check(BulkImportResult result) {
+        if (result.getRejected() > 0 || result.getCreated() != ROWS / 2 || result.getUpdated() != ROWS / 2) {
+            throw new IllegalStateException("Unexpected import result: created " + result.getCreated()
+                    + ", updated " + result.getUpdated() + ", rejected " + result.getRejected() + " " + result.getErrors());
+        }
+        return result;
+    }
+}
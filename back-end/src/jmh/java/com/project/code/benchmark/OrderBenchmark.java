@@ -0,0 +1,140 @@
+package com.project.code.benchmark;
+
+import com.project.code.Model.PlaceOrderRequestDTO;
+import com.project.code.Model.PurchaseProductDTO;
+import com.project.code.Service.InventoryLedger;
+import com.project.code.Service.OrderService;
+import com.project.code.config.SqlRequestStats;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// OrderService.saveOrder at several cart sizes, with stock decremented by guarded UPDATEs (default) or reserved
+// through the in-memory inventory ledger (`ledger=true`). Run with `-t 8` to measure contention on hot products.
+//
+// The JDBC round trips are reported next to the timings as `statements`, counted by the datasource proxy (a JDBC
+// batch is one round trip, see SqlMonitoringConfig), and the orders placed as `orders`; statements / orders is the
+// round trips per order. Both are totals over all threads and measurement iterations. Only the benchmark threads
+// are counted, not the ledger flusher or the outbox dispatcher. Run with `-p jdbcBatchSize=1` to compare against
+// unbatched order inserts.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class OrderBenchmark {
+
+    private static final int PRODUCTS = 1_000;
+
+    private static final int CUSTOMERS = 1_000;
+
+    @Param({"1", "5", "20"})
+    public int cartSize;
+
+    @Param({"false", "true"})
+    public boolean ledger;
+
+    @Param({"50"})
+    public int jdbcBatchSize;
+
+    private ConfigurableApplicationContext context;
+
+    private OrderService orderService;
+
+    private JdbcTemplate jdbcTemplate;
+
+    // JMH reports the public fields as event counters of the iteration.
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Carts {
+
+        public long statements;
+
+        public long orders;
+
+        private final Random random = new Random(7);
+
+        private SqlRequestStats stats;
+
+        @Setup(Level.Iteration)
+        public void startCounting() {
+            stats = SqlRequestStats.start();
+            statements = 0;
+            orders = 0;
+        }
+
+        @TearDown(Level.Iteration)
+        public void stopCounting() {
+            SqlRequestStats.stop();
+            statements = stats.getStatements();
+        }
+
+        private PlaceOrderRequestDTO next(int cartSize) {
+            long customerId = 1 + random.nextInt(CUSTOMERS);
+
+            PlaceOrderRequestDTO request = new PlaceOrderRequestDTO();
+            request.setStoreId(BenchmarkContext.STORE_ID);
+            request.setCustomerName("Customer " + customerId);
+            request.setCustomerEmail(BenchmarkContext.email(customerId));
+            request.setCustomerPhone("555-" + customerId);
+            request.setTotalPrice(10.0 * cartSize);
+
+            List<PurchaseProductDTO> items = new ArrayList<>();
+            for (int i = 0; i < cartSize; i++) {
+                PurchaseProductDTO item = new PurchaseProductDTO();
+                item.setId(1L + random.nextInt(PRODUCTS));
+                item.setQuantity(1);
+                items.add(item);
+            }
+            request.setPurchaseProduct(items);
+            orders++;
+            return request;
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void start() {
+        context = BenchmarkContext.start("inventory.ledger.enabled=" + ledger,
+                "spring.jpa.properties.hibernate.jdbc.batch_size=" + jdbcBatchSize);
+        BenchmarkContext.seed(context, PRODUCTS, CUSTOMERS);
+        orderService = context.getBean(OrderService.class);
+        jdbcTemplate = context.getBean(JdbcTemplate.class);
+        reloadLedger();
+    }
+
+    // Orders left over from earlier iterations would keep growing the order and outbox tables and their indexes, so
+    // later iterations would insert into bigger tables than earlier ones. Start each iteration from the seeded state.
+    @Setup(Level.Iteration)
+    public void reset() {
+        if (ledger) {
+            context.getBean(InventoryLedger.class).flush();
+        }
+        jdbcTemplate.update("DELETE FROM order_outbox");
+        jdbcTemplate.update("DELETE FROM order_item");
+        jdbcTemplate.update("DELETE FROM order_details");
+        jdbcTemplate.update("UPDATE inventory SET stock_level = ?", BenchmarkContext.STOCK_LEVEL);
+        reloadLedger();
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() {
+        context.close();
+    }
+
+    @Benchmark
+    public void saveOrder(Carts carts) {
+        orderService.saveOrder(carts.next(cartSize));
+    }
+
+    private void reloadLedger() {
+        if (ledger) {
+            context.getBean(InventoryLedger.class).load();
+        }
+    }
+}
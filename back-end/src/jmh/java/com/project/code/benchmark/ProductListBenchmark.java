@@ -0,0 +1,51 @@
+package com.project.code.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.code.Controller.ProductController;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.util.concurrent.TimeUnit;
+
+// One page of `GET /product`: ProductController.listProduct plus the JSON serialization of its result.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ProductListBenchmark {
+
+    private static final int PRODUCTS = 10_000;
+
+    @Param({"100", "1000"})
+    public int pageSize;
+
+    private ConfigurableApplicationContext context;
+
+    private ProductController productController;
+
+    private ObjectMapper objectMapper;
+
+    @Setup(Level.Trial)
+    public void start() {
+        context = BenchmarkContext.start();
+        BenchmarkContext.seed(context, PRODUCTS, 0);
+        productController = context.getBean(ProductController.class);
+        objectMapper = context.getBean(ObjectMapper.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() {
+        context.close();
+    }
+
+    @Benchmark
+    public byte[] listProduct() throws Exception {
+        return objectMapper.writeValueAsBytes(productController.listProduct(0L, pageSize,
+                new ServletWebRequest(new MockHttpServletRequest(), new MockHttpServletResponse())));
+    }
+}
@@ -0,0 +1,74 @@
+package com.project.code.benchmark;
+
+import com.project.code.Model.Product;
+import com.project.code.Model.ProductSummary;
+import com.project.code.Repo.ProductRepository;
+import com.project.code.Service.ProductSearchIndex;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Product name search: the `LIKE '%x%'` repository queries next to the in-memory ProductSearchIndex.
+// Use `-p products=1000000` to check the index at catalog scale (seeding then takes a while).
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ProductSearchBenchmark {
+
+    @Param({"10000"})
+    public int products;
+
+    // A common word, a rarer brand + item pair, and a term that matches nothing.
+    @Param({"phone", "sony head", "xyz"})
+    public String query;
+
+    private ConfigurableApplicationContext context;
+
+    private ProductRepository productRepository;
+
+    private ProductSearchIndex productSearchIndex;
+
+    @Setup(Level.Trial)
+    public void start() {
+        context = BenchmarkContext.start();
+        BenchmarkContext.seed(context, products, 0);
+        productRepository = context.getBean(ProductRepository.class);
+        productSearchIndex = context.getBean(ProductSearchIndex.class);
+        productSearchIndex.rebuild();
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<Product> findProductBySubName() {
+        return productRepository.findProductBySubName(query);
+    }
+
+    @Benchmark
+    public List<Product> findProductBySubNameAndCategory() {
+        return productRepository.findProductBySubNameAndCategory(query, "Mobile");
+    }
+
+    @Benchmark
+    public List<Product> findByNameAndCategory() {
+        return productRepository.findByNameAndCategory(BenchmarkContext.STORE_ID, query, "Mobile");
+    }
+
+    @Benchmark
+    public List<ProductSummary> searchIndex() {
+        return productSearchIndex.search(query, null, 20);
+    }
+
+    @Benchmark
+    public List<ProductSummary> searchIndexInStore() {
+        return productSearchIndex.search(query, BenchmarkContext.STORE_ID, 20);
+    }
+}
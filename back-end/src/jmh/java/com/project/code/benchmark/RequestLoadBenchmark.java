@@ -0,0 +1,99 @@
+package com.project.code.benchmark;
+
+import com.project.code.Controller.ReviewController;
+import com.project.code.Model.Review;
+import com.project.code.Repo.ReviewRepository;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.lang.reflect.Proxy;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// Load comparison of the two request execution modes: Tomcat's platform-thread pool and virtual threads
+// (`spring.threads.virtual.enabled`). 500 client threads call `GET /reviews/{storeId}/{productId}` over HTTP.
+// The review lookup is stubbed to block for `ioLatencyMs`, like a MongoDB round trip; customer names come from H2
+// through the Hikari pool. JMH reports throughput and the latency percentiles (p99 included) of both modes.
+//
+// `virtualThreads=true` needs a JDK 21 runtime: run Maven with JAVA_HOME pointing at one.
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Threads(500)
+@Fork(1)
+public class RequestLoadBenchmark {
+
+    private static final int CUSTOMERS = 10_000;
+
+    @Param({"false", "true"})
+    public boolean virtualThreads;
+
+    @Param({"20"})
+    public int ioLatencyMs;
+
+    private ConfigurableApplicationContext context;
+
+    private HttpClient httpClient;
+
+    private URI uri;
+
+    @Setup(Level.Trial)
+    public void start() {
+        if (virtualThreads && Runtime.version().feature() < 21) {
+            throw new IllegalStateException("Virtual threads need JDK 21, running on " + Runtime.version());
+        }
+
+        context = BenchmarkContext.start(WebApplicationType.SERVLET,
+                "server.port=0",
+                "spring.threads.virtual.enabled=" + virtualThreads);
+        BenchmarkContext.seed(context, 1, CUSTOMERS);
+
+        Random random = new Random(42);
+        List<Review> reviews = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            reviews.add(new Review(1L + random.nextInt(CUSTOMERS), 1L, BenchmarkContext.STORE_ID, 1 + random.nextInt(5), "Review " + i));
+        }
+        ReflectionTestUtils.setField(context.getBean(ReviewController.class), "reviewRepository", slowRepository(reviews, ioLatencyMs));
+
+        httpClient = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        uri = URI.create("http://localhost:" + context.getEnvironment().getProperty("local.server.port")
+                + "/reviews/" + BenchmarkContext.STORE_ID + "/1");
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() {
+        context.close();
+    }
+
+    @Benchmark
+    public int getReviews() throws Exception {
+        HttpResponse<Void> response = httpClient.send(HttpRequest.newBuilder(uri).GET().build(), HttpResponse.BodyHandlers.discarding());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("HTTP " + response.statusCode());
+        }
+        return response.statusCode();
+    }
+
+    // Answers the paged findByStoreIdAndProductId after blocking for `latencyMs`.
+    private static ReviewRepository slowRepository(List<Review> reviews, int latencyMs) {
+        return (ReviewRepository) Proxy.newProxyInstance(ReviewRepository.class.getClassLoader(),
+                new Class<?>[]{ReviewRepository.class}, (proxy, method, args) -> {
+                    if (method.getName().equals("findByStoreIdAndProductId") && args.length == 3 && args[2] instanceof Pageable) {
+                        Thread.sleep(latencyMs);
+                        return reviews;
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                });
+    }
+}
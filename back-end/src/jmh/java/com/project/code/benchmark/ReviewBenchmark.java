@@ -0,0 +1,72 @@
+package com.project.code.benchmark;
+
+import com.project.code.Controller.ReviewController;
+import com.project.code.Model.Review;
+import com.project.code.Repo.ReviewRepository;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// ReviewController.getReviews: one page of reviews enriched with customer names from the database.
+// The reviews themselves come from an in-memory stub of ReviewRepository, so only the enrichment is measured.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ReviewBenchmark {
+
+    private static final int CUSTOMERS = 10_000;
+
+    @Param({"20", "100"})
+    public int pageSize;
+
+    private ConfigurableApplicationContext context;
+
+    private ReviewController reviewController;
+
+    @Setup(Level.Trial)
+    public void start() {
+        context = BenchmarkContext.start();
+        BenchmarkContext.seed(context, 1, CUSTOMERS);
+
+        Random random = new Random(42);
+        List<Review> reviews = new ArrayList<>();
+        for (int i = 0; i < pageSize; i++) {
+            reviews.add(new Review(1L + random.nextInt(CUSTOMERS), 1L, BenchmarkContext.STORE_ID, 1 + random.nextInt(5), "Review " + i));
+        }
+
+        reviewController = context.getBean(ReviewController.class);
+        ReflectionTestUtils.setField(reviewController, "reviewRepository", stubRepository(reviews));
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() {
+        context.close();
+    }
+
+    @Benchmark
+    public Map<String, Object> getReviews() {
+        return reviewController.getReviews(BenchmarkContext.STORE_ID, 1L, 0, pageSize);
+    }
+
+    // Answers the paged findByStoreIdAndProductId with the same reviews every time.
+    private static ReviewRepository stubRepository(List<Review> reviews) {
+        return (ReviewRepository) Proxy.newProxyInstance(ReviewRepository.class.getClassLoader(),
+                new Class<?>[]{ReviewRepository.class}, (proxy, method, args) -> {
+                    if (method.getName().equals("findByStoreIdAndProductId") && args.length == 3 && args[2] instanceof Pageable) {
+                        return reviews;
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                });
+    }
+}
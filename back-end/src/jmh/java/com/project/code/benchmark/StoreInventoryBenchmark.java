@@ -0,0 +1,227 @@
+package com.project.code.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.code.Controller.InventoryController;
+import com.project.code.Repo.ProductRepository;
+import com.sun.management.GarbageCollectionNotificationInfo;
+import com.sun.management.GcInfo;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.ThreadParams;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import javax.management.ListenerNotFoundException;
+import javax.management.Notification;
+import javax.management.NotificationEmitter;
+import javax.management.NotificationListener;
+import javax.management.openmbean.CompositeData;
+import java.io.IOException;
+import java.lang.management.*;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+// `GET /inventory/{storeId}` for a store that carries PRODUCTS products, served to REQUESTS concurrent clients and
+// written to responses that discard the bytes (the network isn't measured):
+//    - listThenSerialize: the previous implementation. All summaries are loaded into a List, wrapped in a Map and
+//      serialized by Jackson, as Spring MVC does with a returned Map.
+//    - stream: InventoryController.getAllProducts, which writes every summary as it comes off the database cursor.
+// Both allocate about the same per request (every row becomes a summary object either way, see gc.alloc.rate.norm
+// with `-prof gc`); the difference is how much of it is reachable at once: the whole List for listThenSerialize, the
+// current row for stream. That is reported as retainedMb, the most heap still in use right after any garbage
+// collection during the iteration, minus the heap in use once the data set is seeded:
+//    mvn -P benchmarks verify -Djmh.args="StoreInventoryBenchmark"
+// The embedded H2 database keeps its own copy of a result in memory regardless; with MySQL and
+// `useCursorFetch=true` the driver holds one fetch-size window of rows.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 1, time = 25)
+@Fork(1)
+@Threads(StoreInventoryBenchmark.REQUESTS)
+public class StoreInventoryBenchmark {
+
+    static final int REQUESTS = 8;
+
+    private static final int PRODUCTS = 100_000;
+
+    private ConfigurableApplicationContext context;
+
+    private InventoryController inventoryController;
+
+    private ProductRepository productRepository;
+
+    private ObjectMapper objectMapper;
+
+    private long idleHeap;
+
+    private final HeapAfterGc heapAfterGc = new HeapAfterGc();
+
+    @Setup(Level.Trial)
+    public void start() {
+        context = BenchmarkContext.start();
+        BenchmarkContext.seed(context, PRODUCTS, 0);
+        inventoryController = context.getBean(InventoryController.class);
+        productRepository = context.getBean(ProductRepository.class);
+        objectMapper = context.getBean(ObjectMapper.class);
+        idleHeap = HeapAfterGc.idle();
+    }
+
+    @Setup(Level.Iteration)
+    public void resetHeap() {
+        heapAfterGc.reset();
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() {
+        heapAfterGc.close();
+        context.close();
+    }
+
+    // Reported next to the timings. JMH sums event counters over the threads and the measurement iterations, so only
+    // the first thread reports and the measurement is a single iteration.
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class RetainedHeap {
+
+        public long retainedMb;
+
+        private boolean reporting;
+
+        @Setup(Level.Iteration)
+        public void reset(ThreadParams threadParams) {
+            reporting = threadParams.getThreadIndex() == 0;
+            retainedMb = 0;
+        }
+
+        void record(StoreInventoryBenchmark benchmark) {
+            if (reporting) {
+                retainedMb = Math.max(0, benchmark.heapAfterGc.max() - benchmark.idleHeap) / (1024 * 1024);
+            }
+        }
+    }
+
+    @Benchmark
+    public long listThenSerialize(RetainedHeap retainedHeap) throws IOException {
+        DiscardingResponse response = new DiscardingResponse();
+        objectMapper.writeValue(response.getOutputStream(),
+                Map.of("products", productRepository.findSummariesByStoreId(BenchmarkContext.STORE_ID)));
+        retainedHeap.record(this);
+        return response.written();
+    }
+
+    @Benchmark
+    public long stream(RetainedHeap retainedHeap) {
+        DiscardingResponse response = new DiscardingResponse();
+        inventoryController.getAllProducts(BenchmarkContext.STORE_ID,
+                new ServletWebRequest(new MockHttpServletRequest(), response), response);
+        retainedHeap.record(this);
+        return response.written();
+    }
+
+    // Tracks the largest heap occupancy right after a garbage collection, from the collectors' notifications.
+    // Unlike the allocation rate or a sample of the heap at a random moment, that only counts what was still
+    // reachable (plus old generation garbage that no collection has looked at yet).
+    private static class HeapAfterGc implements NotificationListener {
+
+        private final Set<String> heapPools = new HashSet<>();
+
+        private final AtomicLong max = new AtomicLong();
+
+        HeapAfterGc() {
+            for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+                if (pool.getType() == MemoryType.HEAP) {
+                    heapPools.add(pool.getName());
+                }
+            }
+            for (GarbageCollectorMXBean collector : ManagementFactory.getGarbageCollectorMXBeans()) {
+                ((NotificationEmitter) collector).addNotificationListener(this, null, null);
+            }
+        }
+
+        // Heap in use after a full collection with no request running.
+        static long idle() {
+            System.gc();
+            return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+        }
+
+        @Override
+        public void handleNotification(Notification notification, Object handback) {
+            if (!notification.getType().equals(GarbageCollectionNotificationInfo.GARBAGE_COLLECTION_NOTIFICATION)) {
+                return;
+            }
+            GcInfo gcInfo = GarbageCollectionNotificationInfo.from((CompositeData) notification.getUserData()).getGcInfo();
+            long used = 0;
+            for (Map.Entry<String, MemoryUsage> pool : gcInfo.getMemoryUsageAfterGc().entrySet()) {
+                if (heapPools.contains(pool.getKey())) {
+                    used += pool.getValue().getUsed();
+                }
+            }
+            max.accumulateAndGet(used, Math::max);
+        }
+
+        long max() {
+            return max.get();
+        }
+
+        void reset() {
+            max.set(0);
+        }
+
+        void close() {
+            for (GarbageCollectorMXBean collector : ManagementFactory.getGarbageCollectorMXBeans()) {
+                try {
+                    ((NotificationEmitter) collector).removeNotificationListener(this);
+                } catch (ListenerNotFoundException e) {
+                    // Not registered on this collector.
+                }
+            }
+        }
+    }
+
+    // Counts the body bytes instead of keeping them.
+    private static class DiscardingResponse extends MockHttpServletResponse {
+
+        private long written;
+
+        private final ServletOutputStream out = new ServletOutputStream() {
+            @Override
+            public void write(int b) {
+                written++;
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len) {
+                written += len;
+            }
+
+            @Override
+            public boolean isReady() {
+                return true;
+            }
+
+            @Override
+            public void setWriteListener(WriteListener writeListener) {
+            }
+        };
+
+        @Override
+        public ServletOutputStream getOutputStream() {
+            return out;
+        }
+
+        long written() {
+            if (written == 0) {
+                throw new IllegalStateException("Nothing was written");
+            }
+            return written;
+        }
+    }
+}
@@ -2,10 +2,8 @@ package com.project.code;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
-import org.springframework.context.annotation.ComponentScan;
 
 @SpringBootApplication
-@ComponentScan("com.project.code")
 public class CodeApplication {
 
 	public static void main(String[] args) {
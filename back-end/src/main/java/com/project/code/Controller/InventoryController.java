@@ -1,18 +1,39 @@
 package com.project.code.Controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.code.Model.BulkImportResult;
 import com.project.code.Model.CombinedRequest;
 import com.project.code.Model.Inventory;
 import com.project.code.Model.Product;
+import com.project.code.Model.ProductSummary;
+import com.project.code.Model.StoreProductSummary;
 import com.project.code.Repo.InventoryRepository;
 import com.project.code.Repo.ProductRepository;
+import com.project.code.Service.BulkRowReader;
+import com.project.code.Service.CatalogVersions;
+import com.project.code.Service.InventoryImportService;
+import com.project.code.Service.InventoryLedger;
+import com.project.code.Service.ProductCache;
+import com.project.code.Service.ProductSearchIndex;
 import com.project.code.Service.ServiceClass;
+import com.project.code.Service.StoreShards;
+import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Stream;
 
 @RestController
 @RequestMapping("/inventory")
@@ -37,6 +58,37 @@ public class InventoryController {
     @Autowired
     ServiceClass serviceClass;
 
+    @Autowired
+    ProductCache productCache;
+
+    @Autowired
+    ProductSearchIndex productSearchIndex;
+
+    @Autowired
+    InventoryImportService inventoryImportService;
+
+    @Autowired
+    CatalogVersions catalogVersions;
+
+    // Reads run in read-only transactions, which go to a read replica when replicas are configured (see
+    // ReplicaRoutingConfig).
+    @Autowired
+    @Qualifier("readOnlyTransactionTemplate")
+    TransactionTemplate readOnlyTransactionTemplate;
+
+    @Autowired
+    ObjectMapper objectMapper;
+
+    // A store's inventory lives on its shard; products are changed on shard 0 and copied (see ShardingConfig).
+    @Autowired
+    StoreShards storeShards;
+
+    private static final int MAX_SEARCH_RESULTS = 100;
+
+    // Only present in inventory ledger mode; told about stock levels changed here so its counters stay in sync.
+    @Autowired(required = false)
+    InventoryLedger inventoryLedger;
+
 
     // 3. Define the `updateInventory` Method:
     //    - This method handles HTTP PUT requests to update inventory for a product.
@@ -57,16 +109,32 @@ public class InventoryController {
             return map;
         }
 
+        // Evict the old and the new version: the product's SKU, category and embedded inventory may all change here.
+        productCache.evict(productRepository.findByid(product.getId()));
         productRepository.save(product);
+        storeShards.syncProducts(List.of(product.getId()));
+        productCache.evict(product);
+        productSearchIndex.index(product);
+        catalogVersions.productChanged(product.getId());
 
         map.put("message", "Successfully updated product with id: " + product.getId());
 
         if (inventory != null) {
             try {
-                Inventory result = serviceClass.getInventoryId(inventory);
-                if (result != null) {
+                boolean updated = storeShards.inStore(inventory.getStore().getId(), () -> {
+                    Inventory result = serviceClass.getInventoryId(inventory);
+                    if (result == null) {
+                        return false;
+                    }
                     inventory.setId(result.getId());
                     inventoryRepository.save(inventory);
+                    if (inventoryLedger != null) {
+                        inventoryLedger.refresh(inventory.getStore().getId(), inventory.getProduct().getId());
+                    }
+                    return true;
+                });
+                if (updated) {
+                    catalogVersions.stockChanged(inventory.getStore().getId(), List.of(inventory.getProduct().getId()));
                 } else {
                     map.put("message", "No data available for this product or store id");
                     return map;
@@ -94,8 +162,18 @@ public class InventoryController {
         Map<String, String> map = new HashMap<>();
 
         try {
-            if (serviceClass.validateInventory(inventory)) {
+            boolean saved = storeShards.inStore(inventory.getStore().getId(), () -> {
+                if (!serviceClass.validateInventory(inventory)) {
+                    return false;
+                }
                 inventoryRepository.save(inventory);
+                return true;
+            });
+            if (saved) {
+                // Cached products embed their inventory list, so the new row has to show up there.
+                productCache.evict(productRepository.findByid(inventory.getProduct().getId()));
+                productSearchIndex.addStore(inventory.getProduct().getId(), inventory.getStore().getId());
+                catalogVersions.stockChanged(inventory.getStore().getId(), List.of(inventory.getProduct().getId()));
             } else {
                 map.put("message", "Data Already present in inventory");
                 return map;
@@ -113,56 +191,77 @@ public class InventoryController {
         return map;
     }
 
+    // 4a. Define the `importInventory` Method:
+    //    - This method handles HTTP POST requests to `/inventory/import` that set many stock levels at once.
+    //    - The body is streamed as CSV (`text/csv`, header `storeId,productId,stockLevel`) or NDJSON
+    //      (`application/x-ndjson`, one `{"storeId":..,"productId":..,"stockLevel":..}` per line) and is never
+    //      held in memory as a whole.
+    //    - Existing inventory records are updated, missing ones are created.
+    //    - Returns the `BulkImportResult`: row counts, the rejected rows with their errors, and rows per second.
+    @PostMapping(value = "/import", consumes = {BulkRowReader.TEXT_CSV, BulkRowReader.APPLICATION_NDJSON})
+    public BulkImportResult importInventory(InputStream body, @RequestHeader(HttpHeaders.CONTENT_TYPE) MediaType contentType) throws IOException {
+        return inventoryImportService.importInventory(body, contentType);
+    }
+
     // 5. Define the `getAllProducts` Method:
     //    - This method handles HTTP GET requests to retrieve products for a specific store.
     //    - It uses the `storeId` as a path variable and fetches the list of products from the database for the given store.
-    //    - The products are returned in a `Map` with the key `"products"`.
+    //    - Each product is a `StoreProductSummary` (id, name, category, price, sku and this store's `stockLevel`).
+    //    - The products are returned as a JSON object with the key `"products"`.
+    //    - A store can carry 100k products, so they are read through a database cursor (`streamSummariesByStoreId()`)
+    //      and written to the response one by one (see `JsonObjectStream`) instead of being collected in a list.
+    //    - Conditional GET: answered with 304 and no database or JSON work while the store's inventory and the product
+    //      details are unchanged since the client's ETag (see `CatalogVersions`).
     @GetMapping("/{storeId}")
-    public Map<String, Object> getAllProducts(@PathVariable Long storeId) {
-        Map<String, Object> map = new HashMap<>();
-
-        List<Product> result = productRepository.findProductsByStoreId(storeId);
-
-        map.put("products", result);
+    public void getAllProducts(@PathVariable Long storeId, ServletWebRequest request, HttpServletResponse response) {
+        if (CatalogVersions.checkNotModified(request, catalogVersions.store(storeId))) {
+            return;
+        }
 
-        return map;
+        storeShards.inStore(storeId, () -> readOnlyTransactionTemplate.executeWithoutResult(status -> {
+            try (Stream<StoreProductSummary> result = productRepository.streamSummariesByStoreId(storeId);
+                 JsonObjectStream json = JsonObjectStream.open(response, objectMapper)) {
+                json.writeArray("products", result.iterator());
+                json.finish();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }));
     }
 
 
     // 6. Define the `getProductName` Method:
     //    - This method handles HTTP GET requests to filter products by category and name.
     //    - If either the category or name is `"null"`, adjust the filtering logic accordingly.
-    //    - Return the filtered products in the response with the key `"product"`.
+    //    - Return the filtered products (as `StoreProductSummary`) in the response with the key `"product"`.
     @GetMapping("filter/{category}/{name}/{storeId}")
     public Map<String, Object> getProductName(@PathVariable Long storeId, @PathVariable String category, @PathVariable String name) {
 
         Map<String, Object> map = new HashMap<>();
 
-        if (category.equals("null")) {
-            List<Product> product = productRepository.findByNameLike(storeId, name);
-            map.put("product", product);
-            return map;
-        } else if (name.equals("null")) {
-            List<Product> product = productRepository.findByCategoryAndStoreId(storeId, category);
-            map.put("product", product);
-            return map;
-        }
-
-        List<Product> product = productRepository.findByNameAndCategory(storeId, name, category);
+        List<StoreProductSummary> product = storeShards.inStore(storeId, () -> readOnlyTransactionTemplate.execute(status -> {
+            if (category.equals("null")) {
+                return productRepository.findSummariesByStoreIdAndName(storeId, name);
+            } else if (name.equals("null")) {
+                return productRepository.findSummariesByStoreIdAndCategory(storeId, category);
+            }
+            return productRepository.findSummariesByStoreIdAndNameAndCategory(storeId, name, category);
+        }));
         map.put("product", product);
         return map;
     }
 
 
     // 7. Define the `searchProduct` Method:
-    //    - This method handles HTTP GET requests to search for products by name within a specific store.
-    //    - It uses `name` and `storeId` as parameters and searches for products that match the `name` in the specified store.
-    //    - The search results are returned in the response with the key `"product"`.
+    //    - This method handles HTTP GET requests to search for products by name (or SKU) within a specific store.
+    //    - It is answered from the in-memory `ProductSearchIndex`, limited to products the store carries.
+    //    - The best `limit` matches (default 20, max 100) are returned in the response with the key `"product"`.
     @GetMapping("search/{name}/{storeId}")
-    public Map<String, Object> searchProduct(@PathVariable String name, @PathVariable Long storeId) {
+    public Map<String, Object> searchProduct(@PathVariable String name, @PathVariable Long storeId,
+                                             @RequestParam(defaultValue = "20") int limit) {
         Map<String, Object> map = new HashMap<>();
 
-        List<Product> product = productRepository.findByNameLike(storeId, name);
+        List<ProductSummary> product = productSearchIndex.search(name, storeId, Math.min(limit, MAX_SEARCH_RESULTS));
 
         map.put("product", product);
 
@@ -183,7 +282,12 @@ public class InventoryController {
             map.put("message", "Id " + id + " not present in database");
         }
 
+        Product previous = productRepository.findByid(id);
         productRepository.deleteById(id);
+        storeShards.syncProducts(List.of(id));
+        productCache.evict(previous);
+        productSearchIndex.remove(id);
+        catalogVersions.productChanged(id);
         map.put("message", "Successfully deleted product with id: " + id);
 
         return map;
@@ -197,7 +301,8 @@ public class InventoryController {
     @GetMapping("validate/{quantity}/{storeId}/{productId}")
     public boolean validateQuantity(@PathVariable Long quantity, @PathVariable Long storeId, @PathVariable Long productId) {
 
-        Inventory inventory = inventoryRepository.findByProduct_IdAndStore_Id(productId, storeId);
+        Inventory inventory = storeShards.inStore(storeId, () -> readOnlyTransactionTemplate.execute(status ->
+                inventoryRepository.findByProduct_IdAndStore_Id(productId, storeId)));
 
         return inventory.getStockLevel() >= quantity;
     }
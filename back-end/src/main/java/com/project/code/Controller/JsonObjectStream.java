@@ -0,0 +1,79 @@
+package com.project.code.Controller;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.MediaType;
+
+import java.io.IOException;
+import java.util.Iterator;
+
+// Writes a JSON object response field by field with Jackson's streaming generator, so a list field can be written
+// row by row as the rows arrive (e.g. from a database cursor) instead of being collected into a List and a Map and
+// serialized at the end. Only the current row and the generator's buffer are held in memory.
+//
+// The body is flushed to the client every FLUSH_ROWS rows, which commits the response: an error after that can't
+// change the status any more. The document is only closed by finish(), so a failure (say a cursor or serializer
+// error) leaves it open instead of ending it with `]}`: the client gets JSON that doesn't parse, and Tomcat drops
+// the connection without the final chunk, rather than a 200 with a valid but shortened list. Before the first flush
+// nothing has been sent, and the error becomes an error status as usual.
+final class JsonObjectStream implements AutoCloseable {
+
+    private static final int FLUSH_ROWS = 500;
+
+    private final ObjectMapper objectMapper;
+
+    private final JsonGenerator generator;
+
+    private boolean finished;
+
+    private JsonObjectStream(ObjectMapper objectMapper, JsonGenerator generator) {
+        this.objectMapper = objectMapper;
+        this.generator = generator;
+    }
+
+    // Starts a JSON object as the response body.
+    static JsonObjectStream open(HttpServletResponse response, ObjectMapper objectMapper) throws IOException {
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(response.getOutputStream());
+        generator.writeStartObject();
+        return new JsonObjectStream(objectMapper, generator);
+    }
+
+    // Writes `field` as an array of all remaining `rows` and returns how many there were. The SequenceWriter
+    // resolves serializers once for the whole array instead of once per row. Closing it writes the `]`, so that
+    // only happens once every row was written.
+    long writeArray(String field, Iterator<?> rows) throws IOException {
+        generator.writeFieldName(field);
+        long count = 0;
+        SequenceWriter array = objectMapper.writer().writeValuesAsArray(generator);
+        while (rows.hasNext()) {
+            array.write(rows.next());
+            if (++count % FLUSH_ROWS == 0) {
+                array.flush();
+            }
+        }
+        array.close();
+        return count;
+    }
+
+    void writeField(String field, Object value) throws IOException {
+        generator.writeObjectField(field, value);
+    }
+
+    // Ends the object once everything was written.
+    void finish() throws IOException {
+        generator.writeEndObject();
+        finished = true;
+    }
+
+    // Without finish() the document is left truncated: neither the open array and object nor the rows still in the
+    // generator's buffer are written.
+    @Override
+    public void close() throws IOException {
+        if (finished) {
+            generator.close();
+        }
+    }
+}
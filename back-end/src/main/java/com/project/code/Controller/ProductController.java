@@ -1,16 +1,41 @@
 package com.project.code.Controller;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.code.Model.BulkImportResult;
 import com.project.code.Model.Product;
+import com.project.code.Model.ProductSummary;
 import com.project.code.Repo.InventoryRepository;
 import com.project.code.Repo.ProductRepository;
+import com.project.code.Service.BulkRowReader;
+import com.project.code.Service.CatalogVersions;
+import com.project.code.Service.ProductCache;
+import com.project.code.Service.ProductImportService;
+import com.project.code.Service.ProductSearchIndex;
 import com.project.code.Service.ServiceClass;
+import com.project.code.Service.StoreShards;
+import jakarta.persistence.EntityManager;
+import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Stream;
 
 @RestController
 @RequestMapping("/product")
@@ -34,6 +59,40 @@ public class ProductController {
     @Autowired
     InventoryRepository inventoryRepository;
 
+    @Autowired
+    ProductCache productCache;
+
+    @Autowired
+    ProductSearchIndex productSearchIndex;
+
+    // Reads run in read-only transactions, which go to a read replica when replicas are configured (see
+    // ReplicaRoutingConfig).
+    @Autowired
+    @Qualifier("readOnlyTransactionTemplate")
+    TransactionTemplate readOnlyTransactionTemplate;
+
+    @Autowired
+    ObjectMapper objectMapper;
+
+    @Autowired
+    EntityManager entityManager;
+
+    @Autowired
+    ProductImportService productImportService;
+
+    @Autowired
+    CatalogVersions catalogVersions;
+
+    // Products are created and changed on shard 0 and copied to the other inventory shards (see ShardingConfig).
+    @Autowired
+    StoreShards storeShards;
+
+    private static final int MAX_PAGE_SIZE = 1000;
+
+    private static final int STREAM_FLUSH_ROWS = 500;
+
+    private static final int MAX_SEARCH_RESULTS = 100;
+
 
     // 3. Define the `addProduct` Method:
     //    - Annotate with `@PostMapping` to handle POST requests for adding a new product.
@@ -48,6 +107,10 @@ public class ProductController {
         try {
             if (serviceClass.validateProduct(product)) {
                 Product result = productRepository.save(product);
+                storeShards.syncProducts(List.of(result.getId()));
+                productCache.evict(result);
+                productSearchIndex.index(result);
+                catalogVersions.productChanged(result.getId());
                 map.put("message", "Successfully saved product with id: " + result.getId());
             } else {
                 map.put("message", "Product already present in database");
@@ -68,16 +131,34 @@ public class ProductController {
     }
 
 
+    // 3a. Define the `importProducts` Method:
+    //    - Handles POST requests to `/product/import` that create or update many products at once, keyed by SKU.
+    //    - The body is streamed as CSV (`text/csv`, header `sku,name,category,price`) or NDJSON
+    //      (`application/x-ndjson`, one product object per line) and is never held in memory as a whole.
+    //    - Returns the `BulkImportResult`: created/updated/rejected counts, the rejected rows with their errors,
+    //      and rows per second.
+    @PostMapping(value = "/import", consumes = {BulkRowReader.TEXT_CSV, BulkRowReader.APPLICATION_NDJSON})
+    public BulkImportResult importProducts(InputStream body, @RequestHeader(HttpHeaders.CONTENT_TYPE) MediaType contentType) throws IOException {
+        return productImportService.importProducts(body, contentType);
+    }
+
+
     // 4. Define the `getProductbyId` Method:
     //    - Annotate with `@GetMapping("/product/{id}")` to handle GET requests for retrieving a product by ID.
     //    - Accept product ID via `@PathVariable`.
     //    - Use `findById(id)` method from `ProductRepository` to fetch the product.
     //    - Return the product in a `Map<String, Object>` with key `products`.
+    //    - Conditional GET: answered with 304 and no database or JSON work while the product's version
+    //      (see `CatalogVersions`) still matches the client's ETag.
     @GetMapping("/product/{id}")
-    public Map<String, Object> getProductById(@PathVariable Long id) {
+    public Map<String, Object> getProductById(@PathVariable Long id, ServletWebRequest request) {
+        if (CatalogVersions.checkNotModified(request, catalogVersions.product(id))) {
+            return null;
+        }
+
         Map<String, Object> map = new HashMap<>();
 
-        Product result = productRepository.findByid(id);
+        Product result = readOnlyTransactionTemplate.execute(status -> productRepository.findByid(id));
 
         map.put("product", result);
 
@@ -94,7 +175,14 @@ public class ProductController {
     public Map<String, String> updateProduct(@RequestBody Product product) {
         Map<String, String> map = new HashMap<>();
 
+        // Keep the old version around so a changed SKU or category evicts the old cache entries too.
+        Product previous = productRepository.findByid(product.getId());
         Product result = productRepository.save(product);
+        storeShards.syncProducts(List.of(result.getId()));
+        productCache.evict(previous);
+        productCache.evict(result);
+        productSearchIndex.index(result);
+        catalogVersions.productChanged(result.getId());
 
         map.put("message", "Successfully updated product with id: " + result.getId());
 
@@ -108,6 +196,7 @@ public class ProductController {
     //    - Fetch products based on category using methods like `findByCategory()` or `findProductBySubNameAndCategory()`.
     //    - Return filtered products in a `Map<String, Object>` with key `products`.
     @GetMapping("/category/{name}/{category}")
+    @Transactional(readOnly = true)
     public Map<String, Object> getProductByCategory(@PathVariable String name, @PathVariable String category) {
         Map<String, Object> map = new HashMap<>();
 
@@ -117,6 +206,8 @@ public class ProductController {
             return map;
         } else if (category.equals("null")) {
             List<Product> result = productRepository.findProductBySubName(name);
+            map.put("products", result);
+            return map;
         }
 
         List<Product> result = productRepository.findProductBySubNameAndCategory(name, category);
@@ -126,20 +217,67 @@ public class ProductController {
 
 
     // 7. Define the `listProduct` Method:
-    //    - Annotate with `@GetMapping` to handle GET requests to fetch all products.
-    //    - Fetch all products using `findAll()` method from `ProductRepository`.
-    //    - Return all products in a `Map<String, Object>` with key `products`.
+    //    - Annotate with `@GetMapping` to handle GET requests to fetch products.
+    //    - Products are paged by id (keyset pagination): pass the last id of the previous page as `afterId`.
+    //    - Fetch the ids of one page using `findIdsAfter()` and then those products with their inventory using
+    //      `findByIdInOrderByIdAsc()` from `ProductRepository`: two queries per page; `limit` is capped at 1000.
+    //    - Return the page in a `Map<String, Object>` with key `products`, and the `afterId` of the next page
+    //      with key `nextAfterId` (null on the last page).
+    //    - Conditional GET: answered with 304 while no product or inventory record has changed (see `CatalogVersions`).
     @GetMapping
-    public Map<String, Object> listProduct() {
+    public Map<String, Object> listProduct(@RequestParam(defaultValue = "0") Long afterId,
+                                           @RequestParam(defaultValue = "100") Integer limit,
+                                           ServletWebRequest request) {
+        if (CatalogVersions.checkNotModified(request, catalogVersions.catalog())) {
+            return null;
+        }
+
         Map<String, Object> map = new HashMap<>();
 
-        List<Product> result = productRepository.findAll();
+        int pageSize = Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+        List<Long> ids = readOnlyTransactionTemplate.execute(status -> productRepository.findIdsAfter(afterId, Limit.of(pageSize)));
+        List<Product> result = ids.isEmpty() ? List.of()
+                : readOnlyTransactionTemplate.execute(status -> productRepository.findByIdInOrderByIdAsc(ids));
 
         map.put("products", result);
+        map.put("nextAfterId", ids.size() == pageSize ? ids.get(ids.size() - 1) : null);
         return map;
     }
 
 
+    // 7b. Define the `streamProducts` Method:
+    //    - Handles `GET /product` with `Accept: application/x-ndjson`.
+    //    - Writes every product as one JSON line while it is read from a database cursor, so memory stays flat
+    //      no matter how big the catalog is.
+    //    - The entity manager is cleared every `STREAM_FLUSH_ROWS` rows so the persistence context doesn't grow either.
+    //    - Each product's inventory is loaded lazily while it is written, for 100 products per query
+    //      (`default_batch_fetch_size`).
+    //    - The content type is set explicitly: no message converter writes a StreamingResponseBody, so `produces`
+    //      alone leaves the response without one.
+    @GetMapping(produces = BulkRowReader.APPLICATION_NDJSON)
+    public StreamingResponseBody streamProducts(HttpServletResponse response) {
+        response.setContentType(BulkRowReader.APPLICATION_NDJSON);
+        return out -> readOnlyTransactionTemplate.executeWithoutResult(status -> {
+            try (Stream<Product> products = productRepository.streamAllByOrderByIdAsc();
+                 JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+                generator.setRootValueSeparator(new SerializedString("\n"));
+
+                int rows = 0;
+                for (Product product : (Iterable<Product>) products::iterator) {
+                    generator.writeObject(product);
+                    if (++rows % STREAM_FLUSH_ROWS == 0) {
+                        generator.flush();
+                        entityManager.clear();
+                    }
+                }
+                generator.writeRaw('\n');
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+
     // 8. Define the `getProductbyCategoryAndStoreId` Method:
     //    - Annotate with `@GetMapping("filter/{category}/{storeid}")` to filter products by `category` and `storeId`.
     //    - Use `findProductByCategory()` method from `ProductRepository` to retrieve products.
@@ -147,7 +285,7 @@ public class ProductController {
     public Map<String, Object> getProductByCategoryAndStoreId(@PathVariable String category, @PathVariable Long storeId) {
         Map<String, Object> map = new HashMap<>();
 
-        List<Product> result = productRepository.findProductByCategory(category, storeId);
+        List<Product> result = storeShards.inStore(storeId, () -> productRepository.findProductByCategory(category, storeId));
 
         map.put("products", result);
 
@@ -158,7 +296,8 @@ public class ProductController {
     // 9. Define the `deleteProduct` Method:
     //    - Annotate with `@DeleteMapping("/{id}")` to handle DELETE requests for removing a product by its ID.
     //    - Validate product existence using `ValidateProductId()` in `ServiceClass`.
-    //    - Remove product from `Inventory` first using `deleteByProductId(id)` in `InventoryRepository`.
+    //    - Remove product from `Inventory` first using `deleteByProductId(id)` in `InventoryRepository`, on every
+    //      inventory shard.
     //    - Remove product from `Product` using `deleteById(id)` in `ProductRepository`.
     //    - Return a success message with key `message` indicating product deletion.
 
@@ -170,8 +309,13 @@ public class ProductController {
             map.put("message", "Id " + id + " not present in database");
         }
 
-        inventoryRepository.deleteByProductId(id);
+        Product previous = productRepository.findByid(id);
+        storeShards.forEachShard(() -> inventoryRepository.deleteByProductId(id));
         productRepository.deleteById(id);
+        storeShards.syncProducts(List.of(id));
+        productCache.evict(previous);
+        productSearchIndex.remove(id);
+        catalogVersions.productChanged(id);
 
         map.put("message", "Successfully deleted product with id: " + id);
 
@@ -180,15 +324,15 @@ public class ProductController {
 
 
     // 10. Define the `searchProduct` Method:
-    //    - Annotate with `@GetMapping("/searchProduct/{name}")` to search for products by `name`.
-    //    - Use `findProductBySubName()` method from `ProductRepository` to search products by name.
-    //    - Return search results in a `Map<String, Object>` with key `products`.
+    //    - Annotate with `@GetMapping("/searchProduct/{name}")` to search for products by `name` (or SKU).
+    //    - Answered from the in-memory `ProductSearchIndex` instead of a `LIKE '%name%'` table scan.
+    //    - Return the best `limit` matches (default 20, max 100) in a `Map<String, Object>` with key `products`.
 
     @GetMapping("/searchProduct/{name}")
-    public Map<String, Object> searchProduct(@PathVariable String name) {
+    public Map<String, Object> searchProduct(@PathVariable String name, @RequestParam(defaultValue = "20") int limit) {
         Map<String, Object> map = new HashMap<>();
 
-        List<Product> result = productRepository.findProductBySubName(name);
+        List<ProductSummary> result = productSearchIndex.search(name, null, Math.min(limit, MAX_SEARCH_RESULTS));
 
         map.put("products", result);
 
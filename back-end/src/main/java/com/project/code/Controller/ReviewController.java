@@ -1,19 +1,24 @@
 package com.project.code.Controller;
 
-import com.project.code.Model.Customer;
+import com.project.code.Model.Product;
+import com.project.code.Model.ProductSummary;
 import com.project.code.Model.Review;
 import com.project.code.Repo.CustomerRepository;
+import com.project.code.Repo.ProductRepository;
 import com.project.code.Repo.ReviewRepository;
+import com.project.code.Service.ConcurrentLookups;
+import com.project.code.Service.ReviewRollupService;
+import com.project.code.Service.StoreShards;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.web.bind.annotation.GetMapping;
-import org.springframework.web.bind.annotation.PathVariable;
-import org.springframework.web.bind.annotation.RequestMapping;
-import org.springframework.web.bind.annotation.RestController;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.web.bind.annotation.*;
 
-import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
 
 @RestController
 @RequestMapping("/reviews")
@@ -34,19 +39,72 @@ public class ReviewController {
     @Autowired
     CustomerRepository customerRepository;
 
+    @Autowired
+    ProductRepository productRepository;
+
+    @Autowired
+    ReviewRollupService reviewRollupService;
+
+    @Autowired
+    ConcurrentLookups concurrentLookups;
+
+    @Autowired
+    StoreShards storeShards;
+
+    @Autowired
+    MeterRegistry meterRegistry;
+
+    private static final int MAX_PAGE_SIZE = 100;
+
 
     // 3. Define the `getReviews` Method:
     //    - Annotate with `@GetMapping("/{storeId}/{productId}")` to fetch reviews for a specific product in a store by `storeId` and `productId`.
-    //    - Accept `storeId` and `productId` via `@PathVariable`.
-    //    - Fetch reviews using `findByStoreIdAndProductId()` method from `ReviewRepository`.
+    //    - Accept `storeId` and `productId` via `@PathVariable`, and the page to return via `page` and `size` (capped at 100).
+    //    - Fetch one page of reviews using `findByStoreIdAndProductId()` method from `ReviewRepository`, while the
+    //      product's details are loaded in parallel through `ConcurrentLookups`.
     //    - Filter reviews to include only `comment`, `rating`, and the `customerName` associated with the review.
-    //    - Use `findById(review.getCustomerId())` from `CustomerRepository` to get customer name.
-    //    - Return filtered reviews in a `Map<String, Object>` with key `reviews`.
+    //    - Resolve all customer names of the page with one `findNamesByIdIn()` query from `CustomerRepository`. It
+    //      needs the reviews, so it runs after them on the request thread. Both queries have a timeout (see the
+    //      repositories). If the names query times out or fails, the names fall back to "Unknown" instead of failing
+    //      the request; `customerNamesComplete` is then false and `reviews.customer_names.unresolved` is counted.
+    //      Customers are saved with their orders, so with inventory shards the names are read on the store's shard.
+    //    - Return filtered reviews in a `Map<String, Object>` with key `reviews`, plus `customerNamesComplete`,
+    //      `product` (null if its lookup failed), `page` and `size`.
     @GetMapping("/{storeId}/{productId}")
-    public Map<String, Object> getReviews(@PathVariable Long storeId, @PathVariable Long productId) {
+    public Map<String, Object> getReviews(@PathVariable Long storeId, @PathVariable Long productId,
+                                          @RequestParam(defaultValue = "0") int page,
+                                          @RequestParam(defaultValue = "20") int size) {
         Map<String, Object> map = new HashMap<>();
 
-        List<Review> reviews = reviewRepository.findByStoreIdAndProductId(storeId, productId);
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        CompletableFuture<ProductSummary> product = concurrentLookups.submit(() -> {
+            Product found = productRepository.findByid(productId);
+            return found == null ? null : new ProductSummary(found);
+        });
+
+        List<Review> reviews = reviewRepository.findByStoreIdAndProductId(storeId, productId,
+                PageRequest.of(Math.max(page, 0), pageSize, Sort.by("id")));
+
+        Set<Long> customerIds = new HashSet<>();
+        for (Review review : reviews) {
+            if (review.getCustomerId() != null) {
+                customerIds.add(review.getCustomerId());
+            }
+        }
+
+        Map<Long, String> customerNames = new HashMap<>();
+        boolean customerNamesComplete = true;
+        if (!customerIds.isEmpty()) {
+            try {
+                for (CustomerRepository.CustomerName customer : storeShards.inStore(storeId,
+                        () -> customerRepository.findNamesByIdIn(customerIds))) {
+                    customerNames.put(customer.getId(), customer.getName());
+                }
+            } catch (DataAccessException e) {
+                customerNamesComplete = false;
+                meterRegistry.counter("reviews.customer_names.unresolved").increment();
+            }
+        }
 
         List<Map<String, Object>> reviewsWithCustomerNames = new ArrayList<>();
 
@@ -55,20 +113,45 @@ public class ReviewController {
 
             reviewMap.put("review", review.getComment());
             reviewMap.put("rating", review.getRating());
+            reviewMap.put("customerName", customerNames.getOrDefault(review.getCustomerId(), "Unknown"));
 
-            // Fetch customer details using customerId
-            Customer customer = customerRepository.findByid(review.getCustomerId());
-            if (customer != null) {
-                reviewMap.put("customerName", customer.getName());
-            } else {
-                reviewMap.put("customerName", "Unknown");
-            }
             reviewsWithCustomerNames.add(reviewMap);
         }
 
-        map.put("reviews", reviews);
+        map.put("reviews", reviewsWithCustomerNames);
+        map.put("customerNamesComplete", customerNamesComplete);
+        map.put("product", concurrentLookups.get(product, null));
+        map.put("page", Math.max(page, 0));
+        map.put("size", pageSize);
+        return map;
+    }
+
+    // 4. Define the `addReview` Method:
+    //    - Annotate with `@PostMapping` to store a new review.
+    //    - Also adds the review to its product's rating rollup, so the rollup endpoint never has to scan reviews.
+    //    - Return a success message with key `message`.
+    @PostMapping
+    public Map<String, String> addReview(@Valid @RequestBody Review review) {
+        Map<String, String> map = new HashMap<>();
+
+        reviewRepository.save(review);
+        reviewRollupService.recordReview(review);
+
+        map.put("message", "Review added successfully");
+        return map;
+    }
+
+
+    // 5. Define the `getRollups` Method:
+    //    - Annotate with `@GetMapping("/rollups/{storeId}")` to fetch the average rating, review count and 1-5 star
+    //      histogram of many products at once, e.g. `/reviews/rollups/1?productIds=1,2,3`.
+    //    - Return the rollups in a `Map<String, Object>` with key `rollups`, one per requested product ID.
+    @GetMapping("/rollups/{storeId}")
+    public Map<String, Object> getRollups(@PathVariable Long storeId, @RequestParam List<Long> productIds) {
+        Map<String, Object> map = new HashMap<>();
+
+        map.put("rollups", reviewRollupService.getRollups(storeId, productIds));
         return map;
     }
-    
-   
+
 }
@@ -4,11 +4,15 @@ package com.project.code.Controller;
 import com.project.code.Model.PlaceOrderRequestDTO;
 import com.project.code.Model.Store;
 import com.project.code.Repo.StoreRepository;
+import com.project.code.Service.IdempotencyService;
 import com.project.code.Service.OrderService;
+import com.project.code.Service.StoreShards;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 @RestController
@@ -29,6 +33,12 @@ public class StoreController {
     @Autowired
     public OrderService orderService;
 
+    @Autowired
+    public IdempotencyService idempotencyService;
+
+    @Autowired
+    public StoreShards storeShards;
+
 
     // 3. Define the `addStore` Method:
     //    - Annotate with `@PostMapping` to create an endpoint for adding a new store.
@@ -39,6 +49,7 @@ public class StoreController {
         Map<String, String> map = new HashMap<>();
 
         Store result = storeRepository.save(store);
+        storeShards.syncStores(List.of(result.getId()));
         map.put("message", "Successfully saved store with id: " + result.getId());
 
         return map;
@@ -49,6 +60,7 @@ public class StoreController {
     //    - Annotate with `@GetMapping("validate/{storeId}")` to check if a store exists by its `storeId`.
     //    - Return a **boolean** indicating if the store exists.
     @GetMapping("validate/{storeId}")
+    @Transactional(readOnly = true)
     public boolean validateStore(@PathVariable Long storeId) {
         Store result = storeRepository.findByid(storeId);
 
@@ -61,18 +73,25 @@ public class StoreController {
     //    - Accept `PlaceOrderRequestDTO` in the request body.
     //    - Return a success message with key `message` if the order is successfully placed.
     //    - Return an error message with key `Error` if there is an issue processing the order.
+    //    - With an `Idempotency-Key` header, retries of a request return the first response instead of placing the
+    //      order again (see `IdempotencyService`).
+    //    - Runs on the store's inventory shard, together with its idempotency record (see `StoreShards`).
     @PostMapping("/placeOrder")
-    public Map<String, String> placeOrder(@RequestBody PlaceOrderRequestDTO placeOrderRequest) {
-        Map<String, String> map = new HashMap<>();
-
+    public Map<String, String> placeOrder(@RequestBody PlaceOrderRequestDTO placeOrderRequest,
+                                          @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey) {
         try {
-            orderService.saveOrder(placeOrderRequest);
-            map.put("message", "Order placed successfully");
-        } catch (Error e) {
-            map.put("Error", "" + e);
+            return storeShards.inStore(placeOrderRequest.getStoreId(), () ->
+                    idempotencyService.execute(idempotencyKey, placeOrderRequest, () -> {
+                        orderService.saveOrder(placeOrderRequest);
+                        Map<String, String> map = new HashMap<>();
+                        map.put("message", "Order placed successfully");
+                        return map;
+                    }));
+        } catch (Exception e) {
+            Map<String, String> map = new HashMap<>();
+            map.put("Error", e.getMessage());
+            return map;
         }
-
-        return map;
     }
 
 
@@ -0,0 +1,102 @@
+package com.project.code.Model;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+// Summary of one bulk import: how many rows were read, created, updated and rejected, why each rejected row was
+// rejected (the first MAX_ERRORS of them), and how fast the rows went through.
+public class BulkImportResult {
+
+    public static final int MAX_ERRORS = 1000;
+
+    private final long startNanos = System.nanoTime();
+
+    private long rows;
+
+    private long created;
+
+    private long updated;
+
+    private long rejected;
+
+    private final List<RowError> errors = new ArrayList<>();
+
+    private boolean aborted;
+
+    private long elapsedMs;
+
+    private long rowsPerSecond;
+
+    public void read() {
+        rows++;
+    }
+
+    public void created(long count) {
+        created += count;
+    }
+
+    public void updated(long count) {
+        updated += count;
+    }
+
+    // Rejects one row; `row` is its 1-based position among the data rows of the body.
+    public void reject(long row, String message) {
+        rejected++;
+        if (errors.size() < MAX_ERRORS) {
+            errors.add(new RowError(row, message));
+        }
+    }
+
+    // The body couldn't be parsed past `row`: that row is rejected and the rest of the body is skipped.
+    public void abort(long row, String message) {
+        aborted = true;
+        rejected++;
+        if (errors.size() < MAX_ERRORS) {
+            errors.add(new RowError(row, message));
+        }
+    }
+
+    public BulkImportResult finish() {
+        errors.sort(Comparator.comparingLong(RowError::row));
+        long elapsedNanos = Math.max(System.nanoTime() - startNanos, 1);
+        elapsedMs = elapsedNanos / 1_000_000;
+        rowsPerSecond = rows * 1_000_000_000L / elapsedNanos;
+        return this;
+    }
+
+    public long getRows() {
+        return rows;
+    }
+
+    public long getCreated() {
+        return created;
+    }
+
+    public long getUpdated() {
+        return updated;
+    }
+
+    public long getRejected() {
+        return rejected;
+    }
+
+    public List<RowError> getErrors() {
+        return errors;
+    }
+
+    public boolean isAborted() {
+        return aborted;
+    }
+
+    public long getElapsedMs() {
+        return elapsedMs;
+    }
+
+    public long getRowsPerSecond() {
+        return rowsPerSecond;
+    }
+
+    public record RowError(long row, String message) {
+    }
+}
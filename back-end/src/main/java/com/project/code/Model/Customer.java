@@ -7,6 +7,8 @@ import jakarta.validation.constraints.NotNull;
 import java.util.List;
 
 @Entity
+// Mirrors the migrations (db/migration): every order looks its customer up by email.
+@Table(name = "customer", indexes = @Index(name = "idx_customer_email", columnList = "email"))
 public class Customer {
 
     // 1. Add 'id' field:
@@ -47,10 +49,11 @@ public class Customer {
     //    - Specify "mappedBy = 'customer'" to indicate that the 'customer' field in the 'Order' entity owns the relationship.
     //    - Use @JsonManagedReference to ensure proper JSON serialization of related orders.
 
-    // Example: @OneToMany(mappedBy = "customer", fetch = FetchType.EAGER)
+    // Example: @OneToMany(mappedBy = "customer", fetch = FetchType.LAZY)
     // Example: @JsonManagedReference
 
-    @OneToMany(mappedBy = "customer", fetch = FetchType.EAGER)
+    // Lazy, so looking up a customer doesn't load their whole order history.
+    @OneToMany(mappedBy = "customer", fetch = FetchType.LAZY)
     @JsonManagedReference
     private List<OrderDetails> orders;
 
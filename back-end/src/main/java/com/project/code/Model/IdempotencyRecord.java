@@ -0,0 +1,49 @@
+package com.project.code.Model;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+// Durable record of a request made with an `Idempotency-Key` header (see IdempotencyRecordStore), written in the
+// same transaction as the request's own changes.
+@Entity
+@Table(name = "idempotency_record")
+public class IdempotencyRecord {
+
+    // 1. 'idempotencyKey' field:
+    //    - The client's key; the primary key makes a second claim of the same key fail.
+    @Id
+    @Column(length = 100)
+    private String idempotencyKey;
+
+    // 2. 'fingerprint' field:
+    //    - SHA-256 of the request body, so a key reused for a different request is detected.
+    @Column(length = 64, nullable = false)
+    private String fingerprint;
+
+    // 3. 'response' field:
+    //    - The JSON response returned to the first request, replayed to every retry.
+    @Column(length = 2000)
+    private String response;
+
+    private LocalDateTime createdAt;
+
+    public IdempotencyRecord() {
+    }
+
+    public String getIdempotencyKey() {
+        return idempotencyKey;
+    }
+
+    public String getFingerprint() {
+        return fingerprint;
+    }
+
+    public String getResponse() {
+        return response;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+}
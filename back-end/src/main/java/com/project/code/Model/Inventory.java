@@ -5,6 +5,8 @@ import com.fasterxml.jackson.annotation.JsonBackReference;
 import jakarta.persistence.*;
 
 @Entity
+// Mirrors the migrations (db/migration): one stock level per store and product, found by store first.
+@Table(name = "inventory", uniqueConstraints = @UniqueConstraint(name = "uk_inventory_store_product", columnNames = {"store_id", "product_id"}))
 public class Inventory {
     // 1. Add 'id' field:
     //    - Type: private long
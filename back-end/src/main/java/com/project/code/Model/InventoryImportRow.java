@@ -0,0 +1,45 @@
+package com.project.code.Model;
+
+// One row of a bulk inventory import: sets a store's stock level for a product, creating the inventory record if
+// the store doesn't carry the product yet.
+public class InventoryImportRow {
+
+    private Long storeId;
+
+    private Long productId;
+
+    private Integer stockLevel;
+
+    public InventoryImportRow() {
+    }
+
+    public InventoryImportRow(Long storeId, Long productId, Integer stockLevel) {
+        this.storeId = storeId;
+        this.productId = productId;
+        this.stockLevel = stockLevel;
+    }
+
+    public Long getStoreId() {
+        return storeId;
+    }
+
+    public void setStoreId(Long storeId) {
+        this.storeId = storeId;
+    }
+
+    public Long getProductId() {
+        return productId;
+    }
+
+    public void setProductId(Long productId) {
+        this.productId = productId;
+    }
+
+    public Integer getStockLevel() {
+        return stockLevel;
+    }
+
+    public void setStockLevel(Integer stockLevel) {
+        this.stockLevel = stockLevel;
+    }
+}
@@ -0,0 +1,68 @@
+package com.project.code.Model;
+
+import com.project.code.config.ShardedSequence;
+import jakarta.persistence.*;
+
+// Journal row written by inventory ledger mode (see InventoryLedger): one row per product and order whose stock
+// was reserved in memory but hasn't been subtracted from the `inventory` table yet.
+@Entity
+@Table(name = "inventory_ledger_entry")
+public class InventoryLedgerEntry {
+
+    // 1. 'id' field:
+    //    - Taken from a pooled sequence so the entries of an order are inserted as one JDBC batch.
+    @Id
+    @ShardedSequence(name = "inventory_ledger_entry_seq")
+    private Long id;
+
+    // 2. 'storeId' and 'productId' fields:
+    //    - Plain ids rather than associations; the flusher only needs them to address the inventory row.
+    private Long storeId;
+
+    private Long productId;
+
+    // 3. 'quantity' field:
+    //    - The amount still to be subtracted from the inventory row's stock level.
+    private Integer quantity;
+
+    public InventoryLedgerEntry() {
+    }
+
+    public InventoryLedgerEntry(Long storeId, Long productId, Integer quantity) {
+        this.storeId = storeId;
+        this.productId = productId;
+        this.quantity = quantity;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public Long getStoreId() {
+        return storeId;
+    }
+
+    public Long getProductId() {
+        return productId;
+    }
+
+    public Integer getQuantity() {
+        return quantity;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public void setStoreId(Long storeId) {
+        this.storeId = storeId;
+    }
+
+    public void setProductId(Long productId) {
+        this.productId = productId;
+    }
+
+    public void setQuantity(Integer quantity) {
+        this.quantity = quantity;
+    }
+}
@@ -1,6 +1,7 @@
 package com.project.code.Model;
 
 import com.fasterxml.jackson.annotation.JsonManagedReference;
+import com.project.code.config.ShardedSequence;
 import jakarta.persistence.*;
 
 import java.time.LocalDate;
@@ -12,11 +13,14 @@ public class OrderDetails {
 
     // 1. Add 'id' field:
     //    - Type: private Long
-    //    - This field will be auto-incremented.
+    //    - This field is generated by Hibernate from a pooled sequence.
     //    - Use @Id to mark it as the primary key.
-    //    - Use @GeneratedValue(strategy = GenerationType.IDENTITY) to auto-increment it.
+    //    - Use a pooled sequence instead of IDENTITY: Hibernate can't batch IDENTITY inserts, but with
+    //      allocationSize = 50 it hands out ids from memory and only touches `order_details_seq` once per 50 rows.
+    //      (MySQL has no sequences, so Hibernate emulates it with a single-row table of that name.)
+    //    - @ShardedSequence keeps the ids unique with inventory shards (see ShardedSequenceGenerator).
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @ShardedSequence(name = "order_details_seq")
     private Long id;
 
     // 2. Add 'customer' field:
@@ -24,7 +28,7 @@ public class OrderDetails {
     //    - This field refers to the customer who placed the order.
     //    - Use @ManyToOne with @JoinColumn(name = "customer_id") to define the foreign key relationship.
     //    - Apply @JsonManagedReference to handle bidirectional relationships and JSON serialization.
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "customer_id")
     @JsonManagedReference
     private Customer customer;
@@ -34,7 +38,7 @@ public class OrderDetails {
     //    - This field refers to the store from where the order was placed.
     //    - Use @ManyToOne with @JoinColumn(name = "store_id") to define the foreign key relationship.
     //    - Apply @JsonManagedReference to handle bidirectional relationships and JSON serialization.
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "store_id")
     @JsonManagedReference
     private Store store;
@@ -52,9 +56,9 @@ public class OrderDetails {
     // 6. Add 'orderItems' field:
     //    - Type: private List<OrderItem>
     //    - This field represents the list of items in the order.
-    //    - Use @OneToMany(mappedBy = "order", fetch = FetchType.EAGER) to establish the one-to-many relationship with OrderItem.
+    //    - Use @OneToMany(mappedBy = "order", fetch = FetchType.LAZY) to establish the one-to-many relationship with OrderItem.
     //    - Apply @JsonManagedReference to prevent circular references during JSON serialization.
-    @OneToMany(mappedBy = "order", fetch = FetchType.EAGER)
+    @OneToMany(mappedBy = "order", fetch = FetchType.LAZY)
     @JsonManagedReference
     private List<OrderItem> orderItems;
 
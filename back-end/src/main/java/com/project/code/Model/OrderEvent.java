@@ -0,0 +1,15 @@
+package com.project.code.Model;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+// A placed order as OrderEventConsumers receive it from the outbox (see OrderOutbox). Delivered at least once:
+// a consumer may see the same event again after a failed or interrupted delivery, and should use `orderId` to
+// recognize repeats.
+public record OrderEvent(Long orderId, Long storeId, Long customerId, Double totalPrice, LocalDateTime placedAt,
+                         List<Item> items) {
+
+    // One order line: product, units and the unit price charged.
+    public record Item(Long productId, Integer quantity, Double price) {
+    }
+}
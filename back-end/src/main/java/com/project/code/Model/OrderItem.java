@@ -1,6 +1,7 @@
 package com.project.code.Model;
 
 import com.fasterxml.jackson.annotation.JsonManagedReference;
+import com.project.code.config.ShardedSequence;
 import jakarta.persistence.*;
 
 @Entity
@@ -8,12 +9,15 @@ public class OrderItem {
 
     // 1. Add 'id' field:
     //    - Type: private Long
-    //    - This field will be auto-incremented.
+    //    - This field is generated by Hibernate from a pooled sequence.
     //    - Use @Id to mark it as the primary key.
-    //    - Use @GeneratedValue(strategy = GenerationType.IDENTITY) to auto-increment it.
+    //    - Use a pooled sequence instead of IDENTITY: Hibernate can't batch IDENTITY inserts, but with
+    //      allocationSize = 50 it hands out ids from memory and only touches `order_item_seq` once per 50 rows.
+    //      (MySQL has no sequences, so Hibernate emulates it with a single-row table of that name.)
+    //    - @ShardedSequence keeps the ids unique with inventory shards (see ShardedSequenceGenerator).
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @ShardedSequence(name = "order_item_seq")
     private Long id;
 
     // 2. Add 'order' field:
@@ -21,7 +25,7 @@ public class OrderItem {
     //    - This field refers to the order this item belongs to.
     //    - Use @ManyToOne with @JoinColumn(name = "order_id") to define the foreign key relationship.
     //    - Apply @JsonManagedReference to manage bidirectional relationships and JSON serialization.
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "order_id")
     @JsonManagedReference
     private OrderDetails order;
@@ -31,7 +35,7 @@ public class OrderItem {
     //    - This field refers to the product in the order.
     //    - Use @ManyToOne with @JoinColumn(name = "product_id") to define the foreign key relationship.
     //    - Apply @JsonManagedReference to prevent circular references during JSON serialization.
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "product_id")
     @JsonManagedReference
     private Product product;
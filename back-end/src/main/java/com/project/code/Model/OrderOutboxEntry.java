@@ -0,0 +1,89 @@
+package com.project.code.Model;
+
+import com.project.code.config.ShardedSequence;
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+// Outbox row written by OrderService for every placed order (see OrderOutbox), in the order's own transaction, and
+// deleted by the dispatcher once the order event has been delivered to every consumer.
+@Entity
+@Table(name = "order_outbox")
+public class OrderOutboxEntry {
+
+    // 1. 'id' field:
+    //    - Taken from a pooled sequence so the row goes out in the same JDBC batch flush as the order. The dispatcher
+    //      reads rows in id order.
+    @Id
+    @ShardedSequence(name = "order_outbox_seq")
+    private Long id;
+
+    // 2. 'orderId', 'storeId' and 'customerId' fields:
+    //    - Plain ids rather than associations; the order's items are read by id when the event is dispatched.
+    @Column(nullable = false)
+    private Long orderId;
+
+    @Column(nullable = false)
+    private Long storeId;
+
+    private Long customerId;
+
+    private Double totalPrice;
+
+    // 3. 'createdAt' field:
+    //    - When the order was placed; the dispatcher measures delivery lag from it.
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    // 4. 'attempts' field:
+    //    - Failed deliveries so far. Rows that reach `order.outbox.max-attempts` are no longer dispatched.
+    @Column(nullable = false)
+    private int attempts;
+
+    public OrderOutboxEntry() {
+    }
+
+    public OrderOutboxEntry(OrderDetails order) {
+        this.orderId = order.getId();
+        this.storeId = order.getStore().getId();
+        this.customerId = order.getCustomer().getId();
+        this.totalPrice = order.getTotalPrice();
+        this.createdAt = order.getDate();
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public Long getOrderId() {
+        return orderId;
+    }
+
+    public Long getStoreId() {
+        return storeId;
+    }
+
+    public Long getCustomerId() {
+        return customerId;
+    }
+
+    public Double getTotalPrice() {
+        return totalPrice;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public int getAttempts() {
+        return attempts;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public void setAttempts(int attempts) {
+        this.attempts = attempts;
+    }
+}
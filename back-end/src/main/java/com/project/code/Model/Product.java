@@ -8,9 +8,16 @@ import jakarta.validation.constraints.NotNull;
 import java.util.List;
 
 @Entity
-@Table(name = "product", uniqueConstraints = @UniqueConstraint(columnNames = "sku"))
+@Table(name = "product", uniqueConstraints = @UniqueConstraint(name = "uk_product_sku", columnNames = "sku"), indexes = {
+        @Index(name = "idx_product_name", columnList = "name"),
+        @Index(name = "idx_product_category", columnList = "category")
+})
+// Loads a product together with its inventory rows, for the endpoints that return the full product.
+@NamedEntityGraph(name = Product.WITH_INVENTORY, attributeNodes = @NamedAttributeNode("inventory"))
 public class Product {
 
+    public static final String WITH_INVENTORY = "Product.inventory";
+
     // 1. Add 'id' field:
     //    - Type: private long
     //    - This field will be auto-incremented.
@@ -51,8 +58,9 @@ public class Product {
     //    - **Inventory**: A product can have multiple inventory entries.
     //    - Use @OneToMany(mappedBy = "product") to reflect the one-to-many relationship with Inventory.
     //    - Use @JsonManagedReference("inventory-product") to manage bidirectional relationships and avoid circular references.
+    //    - Lazy: queries that need the inventory load it with the `Product.WITH_INVENTORY` entity graph.
 
-    @OneToMany(mappedBy = "product", fetch = FetchType.EAGER)
+    @OneToMany(mappedBy = "product", fetch = FetchType.LAZY)
     @JsonManagedReference("inventory-product")
     private List<Inventory> inventory;
 
@@ -0,0 +1,56 @@
+package com.project.code.Model;
+
+// One row of a bulk product import, keyed by SKU: creates the product if the SKU is new, and otherwise overwrites
+// the name, category and price of the product with that SKU.
+public class ProductImportRow {
+
+    private String sku;
+
+    private String name;
+
+    private String category;
+
+    private Double price;
+
+    public ProductImportRow() {
+    }
+
+    public ProductImportRow(String sku, String name, String category, Double price) {
+        this.sku = sku;
+        this.name = name;
+        this.category = category;
+        this.price = price;
+    }
+
+    public String getSku() {
+        return sku;
+    }
+
+    public void setSku(String sku) {
+        this.sku = sku;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public String getCategory() {
+        return category;
+    }
+
+    public void setCategory(String category) {
+        this.category = category;
+    }
+
+    public Double getPrice() {
+        return price;
+    }
+
+    public void setPrice(Double price) {
+        this.price = price;
+    }
+}
@@ -0,0 +1,48 @@
+package com.project.code.Model;
+
+// Lightweight, read-only view of a product: just the columns lists and search suggestions display,
+// without the product's inventory.
+public class ProductSummary {
+
+    private final long id;
+
+    private final String name;
+
+    private final String category;
+
+    private final Double price;
+
+    private final String sku;
+
+    public ProductSummary(long id, String name, String category, Double price, String sku) {
+        this.id = id;
+        this.name = name;
+        this.category = category;
+        this.price = price;
+        this.sku = sku;
+    }
+
+    public ProductSummary(Product product) {
+        this(product.getId(), product.getName(), product.getCategory(), product.getPrice(), product.getSku());
+    }
+
+    public long getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getCategory() {
+        return category;
+    }
+
+    public Double getPrice() {
+        return price;
+    }
+
+    public String getSku() {
+        return sku;
+    }
+}
@@ -5,9 +5,12 @@ import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotNull;
 import org.bson.types.ObjectId;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 @Document(collection = "reviews")
+// Every read pages through the reviews of one product in one store (created by MongoIndexes).
+@CompoundIndex(name = "store_product", def = "{'storeId': 1, 'productId': 1}")
 public class Review {
 
     // 1. Add 'customerId' field:
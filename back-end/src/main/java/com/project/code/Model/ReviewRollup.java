@@ -0,0 +1,118 @@
+package com.project.code.Model;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+// Precomputed rating summary of one product in one store, kept in the `review_rollups` collection.
+// Updated incrementally whenever a review is written, and rebuilt from `reviews` by ReviewRollupService.rebuild().
+@Document(collection = "review_rollups")
+// findByStoreIdAndProductIdIn looks rollups up by store and product rather than by id (created by MongoIndexes).
+@CompoundIndex(name = "store_product", def = "{'storeId': 1, 'productId': 1}")
+public class ReviewRollup {
+
+    // 1. 'id' field:
+    //    - "storeId:productId", so a rollup can be upserted without looking it up first (see key()).
+    @Id
+    private String id;
+
+    // 2. 'storeId' and 'productId' fields:
+    //    - The store and product this rollup summarizes.
+    private Long storeId;
+
+    private Long productId;
+
+    // 3. 'count' and 'sum' fields:
+    //    - Number of reviews and the sum of their ratings; the average rating is sum / count.
+    private long count;
+
+    private long sum;
+
+    // 4. 'stars1' .. 'stars5' fields:
+    //    - Histogram: number of reviews with each rating. Plain fields rather than an array so a single
+    //      upsert with $inc can create and update them.
+    private long stars1;
+
+    private long stars2;
+
+    private long stars3;
+
+    private long stars4;
+
+    private long stars5;
+
+    public ReviewRollup() {
+    }
+
+    public static String key(Long storeId, Long productId) {
+        return storeId + ":" + productId;
+    }
+
+    public double getAverage() {
+        return count == 0 ? 0 : (double) sum / count;
+    }
+
+    public long[] getHistogram() {
+        return new long[]{stars1, stars2, stars3, stars4, stars5};
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public Long getStoreId() {
+        return storeId;
+    }
+
+    public Long getProductId() {
+        return productId;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public long getSum() {
+        return sum;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    public void setStoreId(Long storeId) {
+        this.storeId = storeId;
+    }
+
+    public void setProductId(Long productId) {
+        this.productId = productId;
+    }
+
+    public void setCount(long count) {
+        this.count = count;
+    }
+
+    public void setSum(long sum) {
+        this.sum = sum;
+    }
+
+    public void setStars1(long stars1) {
+        this.stars1 = stars1;
+    }
+
+    public void setStars2(long stars2) {
+        this.stars2 = stars2;
+    }
+
+    public void setStars3(long stars3) {
+        this.stars3 = stars3;
+    }
+
+    public void setStars4(long stars4) {
+        this.stars4 = stars4;
+    }
+
+    public void setStars5(long stars5) {
+        this.stars5 = stars5;
+    }
+}
@@ -0,0 +1,17 @@
+package com.project.code.Model;
+
+// A product as one store lists it: the ProductSummary columns plus that store's stock level.
+// Read straight from an inventory/product join, so no Product entity or inventory list is loaded.
+public class StoreProductSummary extends ProductSummary {
+
+    private final Integer stockLevel;
+
+    public StoreProductSummary(long id, String name, String category, Double price, String sku, Integer stockLevel) {
+        super(id, name, category, price, sku);
+        this.stockLevel = stockLevel;
+    }
+
+    public Integer getStockLevel() {
+        return stockLevel;
+    }
+}
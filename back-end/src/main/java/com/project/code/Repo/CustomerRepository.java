@@ -2,9 +2,14 @@ package com.project.code.Repo;
 
 
 import com.project.code.Model.Customer;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.SpecHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -39,6 +44,22 @@ public interface CustomerRepository extends JpaRepository<Customer, Long> {
     // Example: public List<Customer> findByName(String name);
     public List<Customer> findByName(String name);
 
+    //    - **findNamesByIdIn**:
+    //      - Resolves the names of many customers in one query, e.g. for the authors of a page of reviews.
+    //      - Returns a projection, so the customers' order history is never loaded.
+    //      - Times out after 1 second (JDBC query timeouts are whole seconds), so callers can fall back quickly.
+    //      - Return type: List<CustomerName>
+    //      - Parameter: Collection<Long> ids
+    @QueryHints(@QueryHint(name = SpecHints.HINT_SPEC_QUERY_TIMEOUT, value = "1000"))
+    @Query("SELECT c.id AS id, c.name AS name FROM Customer c WHERE c.id IN :ids")
+    public List<CustomerName> findNamesByIdIn(Collection<Long> ids);
+
+    public interface CustomerName {
+        Long getId();
+
+        String getName();
+    }
+
     // 4. Add @Repository annotation:
     //    - Mark the interface with @Repository to indicate that it's a Spring Data JPA repository.
     //    - This annotation is optional if you extend JpaRepository, as Spring Data automatically registers the repository, but it's good practice to add it for clarity.
@@ -0,0 +1,31 @@
+package com.project.code.Repo;
+
+import com.project.code.Model.IdempotencyRecord;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+
+@Repository
+public interface IdempotencyRecordRepository extends JpaRepository<IdempotencyRecord, String> {
+
+    // insert: Claim a key with a plain INSERT (save() would merge, i.e. silently overwrite another claim).
+    //    - Fails with a DataIntegrityViolationException if the key is already taken. While another transaction holds
+    //      an uncommitted claim on the key, the INSERT waits for that transaction to finish.
+    @Modifying
+    @Query(value = "INSERT INTO idempotency_record (idempotency_key, fingerprint, created_at) VALUES (:key, :fingerprint, :createdAt)",
+            nativeQuery = true)
+    public void insert(String key, String fingerprint, LocalDateTime createdAt);
+
+    // saveResponse: Store the response of a claimed key.
+    @Modifying
+    @Query("UPDATE IdempotencyRecord r SET r.response = :response WHERE r.idempotencyKey = :key")
+    public void saveResponse(String key, String response);
+
+    // deleteOlderThan: Drop the records whose retry window has passed.
+    @Modifying
+    @Query("DELETE FROM IdempotencyRecord r WHERE r.createdAt < :cutoff")
+    public int deleteOlderThan(LocalDateTime cutoff);
+}
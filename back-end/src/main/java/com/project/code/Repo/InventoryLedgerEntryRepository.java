@@ -0,0 +1,14 @@
+package com.project.code.Repo;
+
+import com.project.code.Model.InventoryLedgerEntry;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface InventoryLedgerEntryRepository extends JpaRepository<InventoryLedgerEntry, Long> {
+
+    // findTop1000ByOrderByIdAsc: Fetch the oldest journal entries, one flush batch at a time.
+    public List<InventoryLedgerEntry> findTop1000ByOrderByIdAsc();
+}
@@ -2,17 +2,22 @@ package com.project.code.Repo;
 
 
 import com.project.code.Model.Inventory;
+import jakarta.persistence.QueryHint;
 import jakarta.transaction.Transactional;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
-public interface InventoryRepository extends JpaRepository<Inventory, Long> {
+public interface InventoryRepository extends JpaRepository<Inventory, Long>, InventoryRepositoryCustom {
     // 1. Add the repository interface:
     //    - Extend JpaRepository<Inventory, Long> to inherit basic CRUD functionality.
     //    - This allows the repository to perform operations like save, delete, update, and find without having to implement these methods manually.
@@ -38,6 +43,50 @@ public interface InventoryRepository extends JpaRepository<Inventory, Long> {
     public List<Inventory> findByStore_Id(Long storeId);
     public List<Inventory> findAllByStore_Id(Long storeId);
 
+    //    - **findByStoreIdAndProductIds**:
+    //      - This method will fetch the inventory records of many products in one store with a single IN query.
+    //      - Return type: List<Inventory>
+    //      - Parameters: Long storeId, Collection<Long> productIds
+    @Query("SELECT i FROM Inventory i WHERE i.store.id = :storeId AND i.product.id IN :productIds")
+    public List<Inventory> findByStoreIdAndProductIds(Long storeId, Collection<Long> productIds);
+
+    //    - **findIdsByStoreIdAndProductIds**:
+    //      - This method will look up which of many products already have an inventory record in one store, with a
+    //        single IN query and without loading entities. Used by the bulk import to tell inserts from updates.
+    //      - Return type: List<Object[]> (productId, inventory id)
+    //      - Parameters: Long storeId, Collection<Long> productIds
+    @Query("SELECT i.product.id, i.id FROM Inventory i WHERE i.store.id = :storeId AND i.product.id IN :productIds")
+    public List<Object[]> findIdsByStoreIdAndProductIds(Long storeId, Collection<Long> productIds);
+
+    //    - **streamProductStoreIds**:
+    //      - This method will read the (productId, storeId) pair of every inventory record through a cursor.
+    //      - Used to know which stores carry which products when building the product search index.
+    //      - Return type: Stream<Object[]>
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT i.product.id, i.store.id FROM Inventory i")
+    public Stream<Object[]> streamProductStoreIds();
+
+    //    - **findAvailableStock**:
+    //      - Used by inventory ledger mode to (re)build its in-memory counters.
+    //      - Returns the stock level minus the ledger entries that haven't been flushed yet, computed in one statement
+    //        so a concurrent flush can't be counted twice or not at all.
+    //      - Return type: List<Object[]> (storeId, productId, available) for every row, or Integer for a single row
+    @Query("SELECT i.store.id, i.product.id, i.stockLevel - COALESCE((SELECT SUM(e.quantity) FROM InventoryLedgerEntry e " +
+            "WHERE e.storeId = i.store.id AND e.productId = i.product.id), 0) FROM Inventory i")
+    public List<Object[]> findAvailableStock();
+
+    @Query("SELECT i.stockLevel - COALESCE((SELECT SUM(e.quantity) FROM InventoryLedgerEntry e " +
+            "WHERE e.storeId = i.store.id AND e.productId = i.product.id), 0) FROM Inventory i " +
+            "WHERE i.store.id = :storeId AND i.product.id = :productId")
+    public Integer findAvailableStock(Long storeId, Long productId);
+
+    //    - Same, but leaving out the given ledger entries: the ledger subtracts the reservations that are still in flight
+    //      itself, whether or not their entries have committed yet.
+    @Query("SELECT i.stockLevel - COALESCE((SELECT SUM(e.quantity) FROM InventoryLedgerEntry e " +
+            "WHERE e.storeId = i.store.id AND e.productId = i.product.id AND e.id NOT IN :entryIds), 0) FROM Inventory i " +
+            "WHERE i.store.id = :storeId AND i.product.id = :productId")
+    public Integer findAvailableStockExcluding(Long storeId, Long productId, Collection<Long> entryIds);
+
     //    - **deleteByProductId**:
     //      - This method will allow you to delete all inventory records related to a specific product ID.
     //      - Return type: void
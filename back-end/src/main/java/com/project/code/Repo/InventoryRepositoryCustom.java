@@ -0,0 +1,30 @@
+package com.project.code.Repo;
+
+import java.util.List;
+import java.util.Map;
+
+public interface InventoryRepositoryCustom {
+    // 1. **decrementStockBatch**:
+    //    - Atomically subtracts each quantity from its stock level, but only while enough stock is left.
+    //    - The check and the write happen in a single UPDATE per product, so concurrent orders can never oversell.
+    //    - All UPDATE statements are sent to the database as one JDBC batch.
+    //    - Return type: List<Long> (product IDs whose guard didn't match, empty if every row was updated)
+    //    - Parameters: Long storeId, Map<Long, Integer> quantities (product ID -> quantity to subtract)
+    public List<Long> decrementStockBatch(Long storeId, Map<Long, Integer> quantities);
+
+    // 2. **subtractStockBatch**:
+    //    - Subtracts the given quantities without a stock guard, as one JDBC batch.
+    //    - Used by inventory ledger mode, where stock was already reserved in memory and only has to be written back.
+    //    - Parameters: Long storeId, Map<Long, Integer> quantities (product ID -> quantity to subtract)
+    public void subtractStockBatch(Long storeId, Map<Long, Integer> quantities);
+
+    // 3. **setStockLevelBatch**:
+    //    - Overwrites the stock level of existing inventory records, as one JDBC batch.
+    //    - Parameters: Map<Long, Integer> stockLevels (inventory ID -> new stock level)
+    public void setStockLevelBatch(Map<Long, Integer> stockLevels);
+
+    // 4. **insertBatch**:
+    //    - Inserts new inventory records for one store, as one JDBC batch.
+    //    - Parameters: Long storeId, Map<Long, Integer> stockLevels (product ID -> stock level)
+    public void insertBatch(Long storeId, Map<Long, Integer> stockLevels);
+}
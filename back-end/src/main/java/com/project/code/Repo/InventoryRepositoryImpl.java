@@ -0,0 +1,78 @@
+package com.project.code.Repo;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+// Spring Data picks this class up as the implementation of InventoryRepositoryCustom because of the `Impl` suffix.
+public class InventoryRepositoryImpl implements InventoryRepositoryCustom {
+
+    private static final String DECREMENT_STOCK =
+            "UPDATE inventory SET stock_level = stock_level - ? WHERE product_id = ? AND store_id = ? AND stock_level >= ?";
+
+    private static final String SUBTRACT_STOCK =
+            "UPDATE inventory SET stock_level = stock_level - ? WHERE product_id = ? AND store_id = ?";
+
+    private static final String SET_STOCK_LEVEL =
+            "UPDATE inventory SET stock_level = ? WHERE id = ?";
+
+    private static final String INSERT =
+            "INSERT INTO inventory (product_id, store_id, stock_level) VALUES (?, ?, ?)";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Override
+    public List<Long> decrementStockBatch(Long storeId, Map<Long, Integer> quantities) {
+        List<Object[]> args = new ArrayList<>();
+        List<Long> productIds = new ArrayList<>(quantities.keySet());
+        for (Long productId : productIds) {
+            Integer qty = quantities.get(productId);
+            args.add(new Object[]{qty, productId, storeId, qty});
+        }
+
+        // Runs inside the caller's transaction, so a failed guard can still roll back the whole order.
+        int[] updated = jdbcTemplate.batchUpdate(DECREMENT_STOCK, args);
+
+        List<Long> rejected = new ArrayList<>();
+        for (int i = 0; i < updated.length; i++) {
+            if (updated[i] == 0) {
+                rejected.add(productIds.get(i));
+            }
+        }
+        return rejected;
+    }
+
+    @Override
+    public void subtractStockBatch(Long storeId, Map<Long, Integer> quantities) {
+        List<Object[]> args = new ArrayList<>();
+        for (Map.Entry<Long, Integer> entry : quantities.entrySet()) {
+            args.add(new Object[]{entry.getValue(), entry.getKey(), storeId});
+        }
+
+        jdbcTemplate.batchUpdate(SUBTRACT_STOCK, args);
+    }
+
+    @Override
+    public void setStockLevelBatch(Map<Long, Integer> stockLevels) {
+        List<Object[]> args = new ArrayList<>();
+        for (Map.Entry<Long, Integer> entry : stockLevels.entrySet()) {
+            args.add(new Object[]{entry.getValue(), entry.getKey()});
+        }
+
+        jdbcTemplate.batchUpdate(SET_STOCK_LEVEL, args);
+    }
+
+    @Override
+    public void insertBatch(Long storeId, Map<Long, Integer> stockLevels) {
+        List<Object[]> args = new ArrayList<>();
+        for (Map.Entry<Long, Integer> entry : stockLevels.entrySet()) {
+            args.add(new Object[]{entry.getKey(), storeId, entry.getValue()});
+        }
+
+        jdbcTemplate.batchUpdate(INSERT, args);
+    }
+}
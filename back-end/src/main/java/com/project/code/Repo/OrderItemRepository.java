@@ -3,8 +3,12 @@ package com.project.code.Repo;
 
 import com.project.code.Model.OrderItem;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+
 @Repository
 public interface OrderItemRepository extends JpaRepository<OrderItem, Long> {
     // 1. Add the repository interface:
@@ -15,6 +19,12 @@ public interface OrderItemRepository extends JpaRepository<OrderItem, Long> {
 
     // 2. Since no custom methods are required for this repository, the default CRUD operations (save, delete, update, findById, etc.) are available out of the box.
 
+    // 3. **findLinesByOrderIds**:
+    //    - The lines of many orders with one IN query, for the order events of an outbox batch (see OrderOutbox).
+    //    - Returns rows of [orderId, productId, quantity, price] without loading OrderItem entities.
+    @Query("SELECT i.order.id, i.product.id, i.quantity, i.price FROM OrderItem i WHERE i.order.id IN :orderIds ORDER BY i.id")
+    public List<Object[]> findLinesByOrderIds(Collection<Long> orderIds);
+
 }
 
 
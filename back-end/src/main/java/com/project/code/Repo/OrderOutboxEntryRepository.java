@@ -0,0 +1,29 @@
+package com.project.code.Repo;
+
+import com.project.code.Model.OrderOutboxEntry;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface OrderOutboxEntryRepository extends JpaRepository<OrderOutboxEntry, Long> {
+
+    // findByIdGreaterThanAndAttemptsLessThanOrderByIdAsc: The next dispatch batch, in id order. Starting after the
+    // previous batch keeps a run from picking up the events that just failed again.
+    public List<OrderOutboxEntry> findByIdGreaterThanAndAttemptsLessThanOrderByIdAsc(Long id, int attempts, Limit limit);
+
+    // countByAttemptsLessThan / countByAttemptsGreaterThanEqual: Rows still to be dispatched, and dead letters.
+    public long countByAttemptsLessThan(int attempts);
+
+    public long countByAttemptsGreaterThanEqual(int attempts);
+
+    // incrementAttempts: Records a failed delivery of the given rows.
+    @Modifying
+    @Query("UPDATE OrderOutboxEntry e SET e.attempts = e.attempts + 1 WHERE e.id IN :ids")
+    public int incrementAttempts(Collection<Long> ids);
+}
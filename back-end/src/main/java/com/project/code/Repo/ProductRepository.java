@@ -1,20 +1,31 @@
 package com.project.code.Repo;
 
 import com.project.code.Model.Product;
+import com.project.code.Model.ProductSummary;
+import com.project.code.Model.StoreProductSummary;
+import com.project.code.Service.ProductCache;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
-public interface ProductRepository extends JpaRepository<Product, Long> {
+public interface ProductRepository extends JpaRepository<Product, Long>, ProductRepositoryCustom {
     // 1. Add the repository interface:
     //    - Extend JpaRepository<Product, Long> to inherit basic CRUD functionality.
     //    - This allows the repository to perform operations like save, delete, update, and find without having to implement these methods manually.
 
-    // Example: public interface ProductRepository extends JpaRepository<Product, Long> {}
+    // Example: public interface ProductRepository extends JpaRepository<Product, Long>, ProductRepositoryCustom {}
 
     // 2. Add custom query methods:
     //    - **findAll**:
@@ -24,12 +35,60 @@ public interface ProductRepository extends JpaRepository<Product, Long> {
     // Example: public List<Product> findAll();
     public List<Product> findAll();
 
+    //    - **findIdsAfter**:
+    //      - This method will retrieve the ids of one page of products using keyset pagination (the page after `afterId`).
+    //      - Unlike OFFSET paging it seeks straight to the primary key, so every page costs the same.
+    //      - Only ids: a LIMIT can't be combined with fetching the inventory collection in the same query.
+    //      - Return type: List<Long>
+    //      - Parameters: Long afterId, Limit limit
+    @Query("SELECT p.id FROM Product p WHERE p.id > :afterId ORDER BY p.id")
+    public List<Long> findIdsAfter(Long afterId, Limit limit);
+
+    //    - **findByIdInOrderByIdAsc**:
+    //      - This method will retrieve the products with the given ids, with their inventory, in one query.
+    //      - Return type: List<Product>
+    //      - Parameter: Collection<Long> ids
+    @EntityGraph(Product.WITH_INVENTORY)
+    public List<Product> findByIdInOrderByIdAsc(Collection<Long> ids);
+
+    //    - **findIdsBySkuIn**:
+    //      - This method will look up the products with any of the given SKUs with a single IN query, without loading
+    //        entities. Used by the bulk import to tell inserts from updates.
+    //      - Return type: List<Object[]> (sku, product id)
+    //      - Parameter: Collection<String> skus
+    @Query("SELECT p.sku, p.id FROM Product p WHERE p.sku IN :skus")
+    public List<Object[]> findIdsBySkuIn(Collection<String> skus);
+
+    //    - **findExistingIds**:
+    //      - This method will return which of the given product IDs exist, with one IN query.
+    //      - Return type: List<Long>
+    //      - Parameter: Collection<Long> ids
+    @Query("SELECT p.id FROM Product p WHERE p.id IN :ids")
+    public List<Long> findExistingIds(Collection<Long> ids);
+
+    //    - **streamAllByOrderByIdAsc**:
+    //      - This method will read all products through a database cursor instead of loading them into a list.
+    //      - Must be consumed inside a transaction and closed afterwards.
+    //      - Return type: Stream<Product>
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    public Stream<Product> streamAllByOrderByIdAsc();
+
+    //    - **streamSummaries**:
+    //      - This method will read the id, name, category, price and SKU of every product through a cursor,
+    //        without loading entities or their inventory. Used to build the product search index.
+    //      - Return type: Stream<ProductSummary>
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT new com.project.code.Model.ProductSummary(p.id, p.name, p.category, p.price, p.sku) FROM Product p")
+    public Stream<ProductSummary> streamSummaries();
+
     //    - **findByCategory**:
     //      - This method will retrieve products by their category.
     //      - Return type: List<Product>
     //      - Parameter: String category
 
     // Example: public List<Product> findByCategory(String category);
+    @Cacheable(ProductCache.BY_CATEGORY)
+    @EntityGraph(Product.WITH_INVENTORY)
     public List<Product> findByCategory(String category);
 
     //    - **findByPriceBetween**:
@@ -56,6 +115,10 @@ public interface ProductRepository extends JpaRepository<Product, Long> {
     // Example: public Product findByName(String name);
     public Product findByName(String name);
 
+    // findByid and findByCategory are read-through cached (see CacheConfig); every write to a product
+    // or its inventory must evict it through ProductCache.evict().
+    @Cacheable(ProductCache.BY_ID)
+    @EntityGraph(Product.WITH_INVENTORY)
     Product findByid(Long id);
 
     //    - **findByNameLike**:
@@ -64,7 +127,7 @@ public interface ProductRepository extends JpaRepository<Product, Long> {
     //      - Parameters: Long storeId, String pname
     //      - Use @Query annotation to write a custom query.
 
-    @Query("SELECT i.product FROM Inventory i WHERE i.store.id = :storeId AND i.product.category = :category")
+    @Query("SELECT i.product FROM Inventory i WHERE i.store.id = :storeId AND LOWER(i.product.name) LIKE LOWER(CONCAT('%', :pname, '%'))")
     public List<Product> findByNameLike(@Param("storeId") Long storeId, @Param("pname") String pname);
 
     // findByNameAndCategory: Find products by name and category for a specific store.
@@ -76,6 +139,7 @@ public interface ProductRepository extends JpaRepository<Product, Long> {
     public List<Product> findByCategoryAndStoreId(Long storeId, String category);
 
     // findProductBySubName: Find products by a name pattern (ignoring case).
+    @EntityGraph(Product.WITH_INVENTORY)
     @Query("SELECT i FROM Product i WHERE LOWER(i.name) LIKE LOWER(CONCAT('%', :pname, '%'))")
     public List<Product> findProductBySubName(String pname);
 
@@ -84,10 +148,40 @@ public interface ProductRepository extends JpaRepository<Product, Long> {
     public List<Product> findProductsByStoreId(Long storeId);
 
     // findProductByCategory: Find products by category for a specific store.
-    @Query("SELECT i.product FROM Inventory i WHERE i.product.category = :category and i.store.id = :storeId")
+    @EntityGraph(Product.WITH_INVENTORY)
+    @Query("SELECT p FROM Product p WHERE p.category = :category AND p.id IN (SELECT i.product.id FROM Inventory i WHERE i.store.id = :storeId)")
     public List<Product> findProductByCategory(String category, Long storeId);
 
     // findProductBySubNameAndCategory: Find products by a name pattern and category.
+    @EntityGraph(Product.WITH_INVENTORY)
     @Query("SELECT i FROM Product i WHERE LOWER(i.name) LIKE LOWER(CONCAT('%', :pname, '%')) AND i.category = :category")
     public List<Product> findProductBySubNameAndCategory(String pname, String category);
+
+    // Store listings as StoreProductSummary projections: only id, name, category, price, SKU and the store's own
+    // stock level are selected from the inventory/product join, so no Product entity, no inventory list and no
+    // other store's stock is loaded or serialized.
+    String STORE_PRODUCT_SUMMARY = "SELECT new com.project.code.Model.StoreProductSummary(p.id, p.name, p.category, p.price, p.sku, i.stockLevel) "
+            + "FROM Inventory i JOIN i.product p WHERE i.store.id = :storeId";
+
+    // findSummariesByStoreId: List every product of a store.
+    @Query(STORE_PRODUCT_SUMMARY + " ORDER BY p.id")
+    public List<StoreProductSummary> findSummariesByStoreId(Long storeId);
+
+    // streamSummariesByStoreId: Every product of a store, read through a database cursor instead of into a list.
+    // Must be consumed inside a transaction and closed afterwards.
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query(STORE_PRODUCT_SUMMARY + " ORDER BY p.id")
+    public Stream<StoreProductSummary> streamSummariesByStoreId(Long storeId);
+
+    // findSummariesByStoreIdAndName: List the products of a store whose name contains `pname` (ignoring case).
+    @Query(STORE_PRODUCT_SUMMARY + " AND LOWER(p.name) LIKE LOWER(CONCAT('%', :pname, '%')) ORDER BY p.id")
+    public List<StoreProductSummary> findSummariesByStoreIdAndName(Long storeId, String pname);
+
+    // findSummariesByStoreIdAndCategory: List the products of a store in one category.
+    @Query(STORE_PRODUCT_SUMMARY + " AND p.category = :category ORDER BY p.id")
+    public List<StoreProductSummary> findSummariesByStoreIdAndCategory(Long storeId, String category);
+
+    // findSummariesByStoreIdAndNameAndCategory: List the products of a store in one category whose name contains `pname`.
+    @Query(STORE_PRODUCT_SUMMARY + " AND LOWER(p.name) LIKE LOWER(CONCAT('%', :pname, '%')) AND p.category = :category ORDER BY p.id")
+    public List<StoreProductSummary> findSummariesByStoreIdAndNameAndCategory(Long storeId, String pname, String category);
 }
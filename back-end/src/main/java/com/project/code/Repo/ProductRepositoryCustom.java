@@ -0,0 +1,18 @@
+package com.project.code.Repo;
+
+import com.project.code.Model.ProductImportRow;
+
+import java.util.Collection;
+import java.util.Map;
+
+public interface ProductRepositoryCustom {
+    // 1. **updateBatch**:
+    //    - Overwrites name, category and price of existing products, as one JDBC batch.
+    //    - Parameters: Map<Long, ProductImportRow> products (product ID -> new values)
+    public void updateBatch(Map<Long, ProductImportRow> products);
+
+    // 2. **insertBatch**:
+    //    - Inserts new products, as one JDBC batch.
+    //    - Parameters: Collection<ProductImportRow> products
+    public void insertBatch(Collection<ProductImportRow> products);
+}
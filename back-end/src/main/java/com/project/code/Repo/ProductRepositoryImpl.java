@@ -0,0 +1,44 @@
+package com.project.code.Repo;
+
+import com.project.code.Model.ProductImportRow;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+// Spring Data picks this class up as the implementation of ProductRepositoryCustom because of the `Impl` suffix.
+public class ProductRepositoryImpl implements ProductRepositoryCustom {
+
+    private static final String UPDATE =
+            "UPDATE product SET name = ?, category = ?, price = ? WHERE id = ?";
+
+    private static final String INSERT =
+            "INSERT INTO product (sku, name, category, price) VALUES (?, ?, ?, ?)";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void updateBatch(Map<Long, ProductImportRow> products) {
+        List<Object[]> args = new ArrayList<>();
+        for (Map.Entry<Long, ProductImportRow> entry : products.entrySet()) {
+            ProductImportRow product = entry.getValue();
+            args.add(new Object[]{product.getName(), product.getCategory(), product.getPrice(), entry.getKey()});
+        }
+
+        jdbcTemplate.batchUpdate(UPDATE, args);
+    }
+
+    @Override
+    public void insertBatch(Collection<ProductImportRow> products) {
+        List<Object[]> args = new ArrayList<>();
+        for (ProductImportRow product : products) {
+            args.add(new Object[]{product.getSku(), product.getName(), product.getCategory(), product.getPrice()});
+        }
+
+        jdbcTemplate.batchUpdate(INSERT, args);
+    }
+}
@@ -1,6 +1,8 @@
 package com.project.code.Repo;
 
 import com.project.code.Model.Review;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.mongodb.repository.Meta;
 import org.springframework.data.mongodb.repository.MongoRepository;
 
 import java.util.List;
@@ -22,4 +24,9 @@ public interface ReviewRepository extends MongoRepository<Review, String> {
 
     public List<Review> findByStoreIdAndProductId(Long storeId, Long productId);
 
+    // findByStoreIdAndProductId (paged): Same lookup, but only returns the requested page of reviews.
+    // MongoDB aborts the query after 2 seconds (maxTimeMS), so a slow query fails the request instead of holding it.
+    @Meta(maxExecutionTimeMs = 2000)
+    public List<Review> findByStoreIdAndProductId(Long storeId, Long productId, Pageable pageable);
+
 }
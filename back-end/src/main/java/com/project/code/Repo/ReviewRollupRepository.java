@@ -0,0 +1,13 @@
+package com.project.code.Repo;
+
+import com.project.code.Model.ReviewRollup;
+import org.springframework.data.mongodb.repository.MongoRepository;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface ReviewRollupRepository extends MongoRepository<ReviewRollup, String> {
+
+    // findByStoreIdAndProductIdIn: Fetch the rollups of many products in one store with a single query.
+    public List<ReviewRollup> findByStoreIdAndProductIdIn(Long storeId, Collection<Long> productIds);
+}
@@ -4,6 +4,7 @@ import com.project.code.Model.Store;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -23,6 +24,13 @@ public interface StoreRepository extends JpaRepository<Store, Long> {
     // Example: public Store findById(Long id);
     public Store findByid(Long id);
 
+    //    - **findExistingIds**:
+    //      - This method will return which of the given store IDs exist, with one IN query.
+    //      - Return type: List<Long>
+    //      - Parameter: Collection<Long> ids
+    @Query("SELECT s.id FROM Store s WHERE s.id IN :ids")
+    public List<Long> findExistingIds(Collection<Long> ids);
+
     //    - **findBySubName**:
     //      - This method will retrieve stores whose name contains a given substring.
     //      - Return type: List<Store>
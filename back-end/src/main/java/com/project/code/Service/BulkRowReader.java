@@ -0,0 +1,94 @@
+package com.project.code.Service;
+
+import com.fasterxml.jackson.core.JacksonException;
+import com.fasterxml.jackson.core.exc.StreamReadException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+import com.project.code.Model.BulkImportResult;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+// Reads the body of a bulk import one row at a time and hands the rows on in fixed-size batches, so an import of
+// millions of rows never holds more than one batch in memory.
+//
+// Two formats are accepted:
+//    - `text/csv`: a header line naming the columns, then one row per line.
+//    - `application/x-ndjson`: one JSON object per line.
+// A row that parses but doesn't bind (e.g. `abc` as a number) is rejected and reading goes on with the next row.
+// Malformed input the parser can't recover from ends the import: batches already handed on stay imported.
+@Service
+public class BulkRowReader {
+
+    public static final String TEXT_CSV = "text/csv";
+
+    public static final String APPLICATION_NDJSON = "application/x-ndjson";
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private final CsvMapper csvMapper = new CsvMapper();
+
+    // 1. **read Method**:
+    //    - Parses `body` as `type` rows and calls `handler` with every `batchSize` rows (and once more with the rest).
+    //    - Counts every row in `result`, and records rows that can't be read as rejected.
+    //    - Parameters: InputStream body, MediaType contentType (CSV or NDJSON), Class<T> type, int batchSize,
+    //      BulkImportResult result, Consumer<List<Row<T>>> handler
+    public <T> void read(InputStream body, MediaType contentType, Class<T> type, int batchSize,
+                         BulkImportResult result, Consumer<List<Row<T>>> handler) throws IOException {
+        List<Row<T>> batch = new ArrayList<>(batchSize);
+        try (MappingIterator<T> rows = reader(contentType, type).readValues(body)) {
+            long row = 0;
+            while (true) {
+                long read = result.getRows();
+                try {
+                    if (!rows.hasNextValue()) {
+                        break;
+                    }
+                    row++;
+                    result.read();
+                    batch.add(new Row<>(row, rows.nextValue()));
+                } catch (StreamReadException e) {
+                    if (result.getRows() == read) {
+                        row++;
+                        result.read();
+                    }
+                    result.abort(row, "Malformed input: " + e.getOriginalMessage());
+                    break;
+                } catch (JacksonException e) {
+                    result.reject(row, "Invalid row: " + e.getOriginalMessage());
+                }
+                if (batch.size() == batchSize) {
+                    handler.accept(batch);
+                    batch = new ArrayList<>(batchSize);
+                }
+            }
+        }
+        if (!batch.isEmpty()) {
+            handler.accept(batch);
+        }
+    }
+
+    private ObjectReader reader(MediaType contentType, Class<?> type) {
+        if (contentType.isCompatibleWith(MediaType.parseMediaType(TEXT_CSV))) {
+            return csvMapper.readerFor(type).with(CsvSchema.emptySchema().withHeader());
+        }
+        if (contentType.isCompatibleWith(MediaType.parseMediaType(APPLICATION_NDJSON))) {
+            return objectMapper.readerFor(type);
+        }
+        throw new IllegalArgumentException("Unsupported content type: " + contentType);
+    }
+
+    // One parsed row and its 1-based position among the data rows of the body.
+    public record Row<T>(long row, T value) {
+    }
+}
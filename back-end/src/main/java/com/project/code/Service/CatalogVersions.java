@@ -0,0 +1,158 @@
+package com.project.code.Service;
+
+import com.project.code.config.ReplicaRoutingDataSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Version counters behind the ETag/Last-Modified headers of the catalog and inventory reads, so a client whose copy
+// is current gets a 304 without the server touching the repositories or Jackson:
+//    - per product: GET /product/product/{id}. Bumped when the product or any of its inventory records changes.
+//    - per store: GET /inventory/{storeId}. Bumped when the store's inventory changes; the response also embeds
+//      product names and prices, so its ETag includes the version of the product details as well.
+//    - the whole catalog: GET /product pages. Bumped by every product or inventory change.
+//
+// Every write that changes what those endpoints return has to report it here: the controllers, the imports,
+// checkout (OrderService) and the ledger flush. Inside a transaction the bump waits for the commit, so a client
+// can't be handed a new ETag together with data that is about to roll back or isn't visible yet.
+//
+// The counters live in one JVM and start over on restart. The ETags carry a per-start epoch, so a restarted instance
+// never answers 304 to a copy from before the restart. Behind a load balancer with several instances, a write on
+// one instance isn't seen by the counters of the others; use sticky sessions or disable conditional GETs there.
+//
+// With read replicas, a version is bumped as soon as the primary commits, while a replica may not have the change
+// yet. A client reading the replica then would store the old data under the new ETag and be told 304 for it from then
+// on. So a response whose version changed within the last `replica.stick-to-primary-after-write` is read from the
+// primary (see checkNotModified()).
+@Service
+public class CatalogVersions {
+
+    @Autowired
+    private ProductCache productCache;
+
+    // How long after a change reads of it go to the primary; zero without read replicas.
+    private final long replicaLagMillis;
+
+    private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+
+    private final Version start = new Version(0, System.currentTimeMillis());
+
+    private final AtomicLong clock = new AtomicLong();
+
+    private final Map<Long, Version> products = new ConcurrentHashMap<>();
+
+    private final Map<Long, Version> stores = new ConcurrentHashMap<>();
+
+    private volatile Version productDetails = start;
+
+    private volatile Version catalog = start;
+
+    public CatalogVersions(@Value("${replica.datasource.urls:}") String replicaUrls,
+                           @Value("${replica.stick-to-primary-after-write:5s}") Duration stickToPrimaryAfterWrite) {
+        this.replicaLagMillis = replicaUrls.isBlank() ? 0 : stickToPrimaryAfterWrite.toMillis();
+    }
+
+    // 1. **productChanged Method**:
+    //    - Reports a product that was created, updated or deleted.
+    public void productChanged(Long productId) {
+        afterCommit(() -> {
+            Version version = next();
+            products.put(productId, version);
+            productDetails = version;
+            catalog = version;
+        });
+    }
+
+    // 2. **stockChanged Method**:
+    //    - Reports inventory records of `storeId` that were created, updated or deleted, for `productIds`.
+    //    - Also evicts those products from the product caches before the new version is published, so
+    //      GET /product/product/{id} can't serve a cached copy with the old stock under the new ETag.
+    public void stockChanged(Long storeId, Collection<Long> productIds) {
+        afterCommit(() -> {
+            productCache.evictStock(productIds);
+            Version version = next();
+            stores.put(storeId, version);
+            for (Long productId : productIds) {
+                products.put(productId, version);
+            }
+            catalog = version;
+        });
+    }
+
+    // 3. **product / store / catalog Methods**:
+    //    - The current validators of one product, of one store's inventory and of the product pages.
+    public Validators product(Long productId) {
+        Version version = products.getOrDefault(productId, start);
+        return new Validators("W/\"" + epoch + "-" + version.value() + "\"", version.lastModified(), recent(version));
+    }
+
+    public Validators store(Long storeId) {
+        Version stock = stores.getOrDefault(storeId, start);
+        Version details = productDetails;
+        return new Validators("W/\"" + epoch + "-" + stock.value() + "-" + details.value() + "\"",
+                Math.max(stock.lastModified(), details.lastModified()), recent(stock) || recent(details));
+    }
+
+    public Validators catalog() {
+        Version version = catalog;
+        return new Validators("W/\"" + epoch + "-" + version.value() + "\"", version.lastModified(), recent(version));
+    }
+
+    // 4. **checkNotModified Method**:
+    //    - Sets ETag and Last-Modified on the response and returns true if the request's If-None-Match (or
+    //      If-Modified-Since) shows the client's copy is current; the caller then returns null and Spring answers 304.
+    //    - `Cache-Control: no-cache` makes browsers revalidate every time instead of guessing a freshness lifetime.
+    //    - When the body has to be sent and its version changed within the replica lag, the rest of the request reads
+    //      from the primary (ReadYourWritesFilter unpins the thread when the request ends).
+    public static boolean checkNotModified(ServletWebRequest request, Validators validators) {
+        if (request.getResponse() != null) {
+            request.getResponse().setHeader(HttpHeaders.CACHE_CONTROL, "no-cache");
+        }
+        if (request.checkNotModified(validators.etag(), validators.lastModified())) {
+            return true;
+        }
+        if (validators.recentlyChanged()) {
+            ReplicaRoutingDataSource.pinToPrimary(true);
+        }
+        return false;
+    }
+
+    // A change the replicas may not have yet. The start version isn't a change.
+    private boolean recent(Version version) {
+        return replicaLagMillis > 0 && version != start
+                && System.currentTimeMillis() - version.lastModified() < replicaLagMillis;
+    }
+
+    private Version next() {
+        return new Version(clock.incrementAndGet(), System.currentTimeMillis());
+    }
+
+    private static void afterCommit(Runnable bump) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    bump.run();
+                }
+            });
+        } else {
+            bump.run();
+        }
+    }
+
+    private record Version(long value, long lastModified) {
+    }
+
+    public record Validators(String etag, long lastModified, boolean recentlyChanged) {
+    }
+}
@@ -0,0 +1,50 @@
+package com.project.code.Service;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+// Runs independent lookups of one request (MongoDB, MySQL, ...) in parallel on the bounded `lookupExecutor`, so a
+// request takes as long as its slowest lookup instead of the sum of all of them.
+// Every lookup gets its own timeout (`lookup.timeout`, counted from submit()). A lookup that times out, fails or is
+// rejected by a full executor yields the caller's fallback, so one slow source degrades the response instead of
+// failing it. A timed-out lookup is not interrupted; it finishes in the background and its result is dropped.
+@Service
+public class ConcurrentLookups {
+
+    @Autowired
+    @Qualifier("lookupExecutor")
+    private Executor lookupExecutor;
+
+    @Value("${lookup.timeout:300ms}")
+    private Duration timeout;
+
+    // 1. **submit Method**:
+    //    - Starts a lookup on the lookup executor and returns at once.
+    public <T> CompletableFuture<T> submit(Supplier<T> lookup) {
+        try {
+            return CompletableFuture.supplyAsync(lookup, lookupExecutor)
+                    .orTimeout(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    // 2. **get Method**:
+    //    - Waits for a submitted lookup and returns its result, or `fallback` if it timed out or failed.
+    public <T> T get(CompletableFuture<T> lookup, T fallback) {
+        try {
+            return lookup.join();
+        } catch (RuntimeException e) {
+            return fallback;
+        }
+    }
+}
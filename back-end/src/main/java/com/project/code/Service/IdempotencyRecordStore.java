@@ -0,0 +1,99 @@
+package com.project.code.Service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.code.Model.IdempotencyRecord;
+import com.project.code.Repo.IdempotencyRecordRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+// Database-backed idempotency keys (enable with `idempotency.store=jdbc`), behind IdempotencyService's in-memory
+// cache.
+//
+// A request claims its key by inserting an `idempotency_record` row in the same transaction as its own changes, and
+// stores its response in that row before committing. So the order and the record commit or roll back together:
+//    - A retry after a restart, or on another instance, finds the committed record and gets its response back.
+//    - A concurrent request with the same key on another instance blocks on the uncommitted row, then fails to
+//      insert it and returns the winner's response. Its own changes are rolled back.
+// Records are deleted once they are older than `idempotency.ttl`.
+@Service
+@ConditionalOnProperty(name = "idempotency.store", havingValue = "jdbc")
+public class IdempotencyRecordStore {
+
+    private static final TypeReference<Map<String, String>> RESPONSE = new TypeReference<>() {
+    };
+
+    @Autowired
+    private IdempotencyRecordRepository recordRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Value("${idempotency.ttl:24h}")
+    private Duration ttl;
+
+    // 1. **execute Method**:
+    //    - Returns the stored response for `key`, or runs `action` and stores its response, in one transaction.
+    public Map<String, String> execute(String key, String fingerprint, Supplier<Map<String, String>> action) {
+        Optional<Map<String, String>> stored = find(key, fingerprint);
+        if (stored.isPresent()) {
+            return stored.get();
+        }
+
+        try {
+            return transactionTemplate.execute(status -> {
+                recordRepository.insert(key, fingerprint, LocalDateTime.now());
+                Map<String, String> response = action.get();
+                recordRepository.saveResponse(key, write(response));
+                return response;
+            });
+        } catch (DataIntegrityViolationException e) {
+            // Either another request claimed the key first, or the action itself failed on a constraint.
+            return find(key, fingerprint).orElseThrow(() -> e);
+        }
+    }
+
+    // 2. **deleteExpired Method**:
+    //    - Deletes the records older than `idempotency.ttl`, once an hour by default.
+    @Scheduled(fixedDelayString = "${idempotency.cleanup-interval-ms:3600000}")
+    public void deleteExpired() {
+        transactionTemplate.executeWithoutResult(status ->
+                recordRepository.deleteOlderThan(LocalDateTime.now().minus(ttl)));
+    }
+
+    private Optional<Map<String, String>> find(String key, String fingerprint) {
+        Optional<IdempotencyRecord> record = recordRepository.findById(key);
+        if (record.isEmpty() || record.get().getResponse() == null) {
+            return Optional.empty();
+        }
+        IdempotencyService.checkFingerprint(key, record.get().getFingerprint(), fingerprint);
+        try {
+            return Optional.of(objectMapper.readValue(record.get().getResponse(), RESPONSE));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private String write(Map<String, String> response) {
+        try {
+            return objectMapper.writeValueAsString(response);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
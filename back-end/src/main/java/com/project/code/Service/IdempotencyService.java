@@ -0,0 +1,107 @@
+package com.project.code.Service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
+
+// `Idempotency-Key` support, used by POST /store/placeOrder.
+//
+// Clients retry on timeouts, often while the database is slow, and each retry would place the order again. Here the
+// first request with a key runs, and its response is kept for `idempotency.ttl` in a bounded in-memory cache
+// (at most `idempotency.max-keys` keys):
+//    - A retry after the first request finished gets the stored response back, without touching the database.
+//    - A retry that arrives while the first request is still running waits for it and gets the same response,
+//      instead of running the order a second time.
+//    - A failed request isn't stored, so a retry runs again (the failed attempt was rolled back).
+//    - Reusing a key for a different request body is refused.
+// The cache lives in one JVM and is lost on restart. With `idempotency.store=jdbc` every key is also claimed in
+// the database in the request's own transaction (see IdempotencyRecordStore), which covers restarts and several
+// application instances.
+@Service
+public class IdempotencyService {
+
+    // Length of the `idempotency_record` key column.
+    static final int MAX_KEY_LENGTH = 100;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    // Only present with `idempotency.store=jdbc`.
+    @Autowired(required = false)
+    private IdempotencyRecordStore recordStore;
+
+    private final Cache<String, Execution> executions;
+
+    public IdempotencyService(@Value("${idempotency.max-keys:100000}") long maxKeys,
+                              @Value("${idempotency.ttl:24h}") Duration ttl) {
+        this.executions = Caffeine.newBuilder().maximumSize(maxKeys).expireAfterWrite(ttl).build();
+    }
+
+    // 1. **execute Method**:
+    //    - Runs `action` once per key and returns its response to every request with that key.
+    //    - Parameters: String key (null runs `action` without any bookkeeping), Object request (the request body,
+    //      fingerprinted to detect a reused key), Supplier<Map<String, String>> action (throws if the request fails)
+    //    - Return Type: Map<String, String> (the response of the first successful execution)
+    public Map<String, String> execute(String key, Object request, Supplier<Map<String, String>> action) {
+        if (key == null) {
+            return action.get();
+        }
+        if (key.isBlank() || key.length() > MAX_KEY_LENGTH) {
+            throw new IllegalArgumentException("Idempotency-Key must be 1 to " + MAX_KEY_LENGTH + " characters");
+        }
+
+        String fingerprint = fingerprint(request);
+        Execution mine = new Execution(fingerprint, new CompletableFuture<>());
+        Execution existing = executions.asMap().putIfAbsent(key, mine);
+        if (existing != null) {
+            checkFingerprint(key, existing.fingerprint(), fingerprint);
+            try {
+                return existing.response().join();
+            } catch (CompletionException e) {
+                throw e.getCause() instanceof RuntimeException cause ? cause : e;
+            }
+        }
+
+        try {
+            Map<String, String> response = recordStore != null ? recordStore.execute(key, fingerprint, action) : action.get();
+            mine.response().complete(response);
+            return response;
+        } catch (RuntimeException e) {
+            executions.asMap().remove(key, mine);
+            mine.response().completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    static void checkFingerprint(String key, String expected, String actual) {
+        if (!expected.equals(actual)) {
+            throw new IllegalArgumentException("Idempotency-Key " + key + " was already used for a different request");
+        }
+    }
+
+    private String fingerprint(Object request) {
+        try {
+            byte[] body = objectMapper.writeValueAsBytes(request);
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(body));
+        } catch (JsonProcessingException | NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private record Execution(String fingerprint, CompletableFuture<Map<String, String>> response) {
+    }
+}
@@ -0,0 +1,192 @@
+package com.project.code.Service;
+
+import com.project.code.Model.BulkImportResult;
+import com.project.code.Model.InventoryImportRow;
+import com.project.code.Repo.InventoryRepository;
+import com.project.code.Repo.ProductRepository;
+import com.project.code.Repo.StoreRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataAccessException;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.*;
+
+// Bulk inventory import: sets stock levels for many (storeId, productId) pairs from a streamed CSV or NDJSON body.
+//
+// Rows are read incrementally (see BulkRowReader) and processed BATCH_SIZE at a time. For each batch the referenced
+// stores, products and existing inventory records are looked up with one IN query each, instead of three queries
+// per row, and then the batch is written as one JDBC batch of UPDATEs and one of INSERTs in its own transaction.
+// A batch the database refuses is rolled back and its rows are rejected; the batches before it stay imported and
+// the import goes on with the next one. With inventory shards, each shard's part of a batch is its own transaction.
+//
+// When the same (storeId, productId) appears more than once, the last row wins.
+@Service
+public class InventoryImportService {
+
+    static final int BATCH_SIZE = 1000;
+
+    @Autowired
+    private BulkRowReader bulkRowReader;
+
+    @Autowired
+    private InventoryRepository inventoryRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private StoreRepository storeRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private ProductCache productCache;
+
+    @Autowired
+    private ProductSearchIndex productSearchIndex;
+
+    // Only present in inventory ledger mode; its counters are reloaded after an import.
+    @Autowired(required = false)
+    private InventoryLedger inventoryLedger;
+
+    @Autowired
+    private CatalogVersions catalogVersions;
+
+    @Autowired
+    private StoreShards storeShards;
+
+    // 1. **importInventory Method**:
+    //    - Imports every row of `body` and reports the outcome.
+    //    - Parameters: InputStream body, MediaType contentType (`text/csv` or `application/x-ndjson`)
+    //    - Return Type: BulkImportResult (rows, created, updated, rejected with per-row errors, rows per second)
+    public BulkImportResult importInventory(InputStream body, MediaType contentType) throws IOException {
+        BulkImportResult result = new BulkImportResult();
+        Set<Long> knownStores = new HashSet<>();
+        try {
+            bulkRowReader.read(body, contentType, InventoryImportRow.class, BATCH_SIZE, result,
+                    batch -> importBatch(batch, knownStores, result));
+        } finally {
+            // Cached products embed their inventory, and far too many products may have changed to evict them one
+            // by one.
+            if (result.getCreated() + result.getUpdated() > 0) {
+                productCache.clear();
+                if (inventoryLedger != null) {
+                    inventoryLedger.load();
+                }
+            }
+        }
+        return result.finish();
+    }
+
+    private void importBatch(List<BulkRowReader.Row<InventoryImportRow>> batch, Set<Long> knownStores, BulkImportResult result) {
+        List<BulkRowReader.Row<InventoryImportRow>> valid = new ArrayList<>();
+        Set<Long> storeIds = new HashSet<>();
+        Set<Long> productIds = new HashSet<>();
+        for (BulkRowReader.Row<InventoryImportRow> row : batch) {
+            String error = validate(row.value());
+            if (error != null) {
+                result.reject(row.row(), error);
+                continue;
+            }
+            valid.add(row);
+            storeIds.add(row.value().getStoreId());
+            productIds.add(row.value().getProductId());
+        }
+        if (valid.isEmpty()) {
+            return;
+        }
+
+        storeIds.removeAll(knownStores);
+        if (!storeIds.isEmpty()) {
+            knownStores.addAll(storeRepository.findExistingIds(storeIds));
+        }
+        Set<Long> knownProducts = new HashSet<>(productRepository.findExistingIds(productIds));
+
+        // Store ID -> product ID -> stock level, last row wins.
+        Map<Long, Map<Long, Integer>> stockLevels = new HashMap<>();
+        long duplicates = 0;
+        for (BulkRowReader.Row<InventoryImportRow> row : valid) {
+            InventoryImportRow value = row.value();
+            if (!knownStores.contains(value.getStoreId())) {
+                result.reject(row.row(), "Store " + value.getStoreId() + " not present in database");
+            } else if (!knownProducts.contains(value.getProductId())) {
+                result.reject(row.row(), "Product " + value.getProductId() + " not present in database");
+            } else if (stockLevels.computeIfAbsent(value.getStoreId(), id -> new HashMap<>())
+                    .put(value.getProductId(), value.getStockLevel()) != null) {
+                duplicates++;
+            }
+        }
+
+        // Shard -> store ID -> product ID -> stock level: every shard's part of the batch is one transaction.
+        Map<Integer, Map<Long, Map<Long, Integer>>> shards = new TreeMap<>();
+        stockLevels.forEach((storeId, levels) ->
+                shards.computeIfAbsent(storeShards.shardOf(storeId), shard -> new HashMap<>()).put(storeId, levels));
+
+        // Store ID -> products that got a new inventory record.
+        Map<Long, Set<Long>> created = new HashMap<>();
+        boolean failed = false;
+        for (Map.Entry<Integer, Map<Long, Map<Long, Integer>>> shard : shards.entrySet()) {
+            try {
+                storeShards.inShard(shard.getKey(), () -> transactionTemplate.execute(status -> {
+                    for (Map.Entry<Long, Map<Long, Integer>> store : shard.getValue().entrySet()) {
+                        Map<Long, Integer> inserts = new HashMap<>(store.getValue());
+                        Map<Long, Integer> updates = new HashMap<>();
+                        for (Object[] existing : inventoryRepository.findIdsByStoreIdAndProductIds(store.getKey(), store.getValue().keySet())) {
+                            Long productId = (Long) existing[0];
+                            updates.put((Long) existing[1], store.getValue().get(productId));
+                            inserts.remove(productId);
+                        }
+                        inventoryRepository.setStockLevelBatch(updates);
+                        inventoryRepository.insertBatch(store.getKey(), inserts);
+                        created.put(store.getKey(), inserts.keySet());
+                    }
+                    return null;
+                }));
+            } catch (DataAccessException e) {
+                // This shard's part was rolled back as a whole: reject its rows, and go on with the other shards.
+                failed = true;
+                Map<Long, Map<Long, Integer>> rolledBack = shard.getValue();
+                rolledBack.keySet().forEach(created::remove);
+                for (BulkRowReader.Row<InventoryImportRow> row : valid) {
+                    if (rolledBack.containsKey(row.value().getStoreId())
+                            && rolledBack.get(row.value().getStoreId()).containsKey(row.value().getProductId())) {
+                        result.reject(row.row(), "Batch failed: " + e.getMostSpecificCause().getMessage());
+                    }
+                }
+            }
+        }
+
+        // Duplicate rows can't be told apart by shard, so they only count as updated when nothing was rolled back.
+        long updated = failed ? 0 : duplicates;
+        for (Map.Entry<Long, Set<Long>> store : created.entrySet()) {
+            catalogVersions.stockChanged(store.getKey(), stockLevels.get(store.getKey()).keySet());
+            for (Long productId : store.getValue()) {
+                productSearchIndex.addStore(productId, store.getKey());
+            }
+            result.created(store.getValue().size());
+            updated += stockLevels.get(store.getKey()).size() - store.getValue().size();
+        }
+        result.updated(updated);
+    }
+
+    private static String validate(InventoryImportRow row) {
+        if (row == null || row.getStoreId() == null) {
+            return "storeId is required";
+        }
+        if (row.getProductId() == null) {
+            return "productId is required";
+        }
+        if (row.getStockLevel() == null) {
+            return "stockLevel is required";
+        }
+        if (row.getStockLevel() < 0) {
+            return "stockLevel must not be negative";
+        }
+        return null;
+    }
+}
@@ -0,0 +1,312 @@
+package com.project.code.Service;
+
+import com.project.code.Model.InventoryLedgerEntry;
+import com.project.code.Repo.InventoryLedgerEntryRepository;
+import com.project.code.Repo.InventoryRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+// Inventory ledger mode (enable with `inventory.ledger.enabled=true`).
+//
+// During flash sales every checkout for a hot product would update the same `inventory` row. In ledger mode
+// OrderService reserves stock against an in-memory counter per (storeId, productId) instead, and the counters are
+// guarded by striped locks so unrelated products don't contend. Every reservation is also journaled as an
+// InventoryLedgerEntry, inserted in the order's own transaction (plain batched inserts, no hot row). A scheduled
+// flusher subtracts the journaled quantities from `inventory` in batched updates and deletes those entries in the
+// same transaction.
+//
+// Crash recovery:
+//    - An order and its ledger entries commit or roll back together, so every acknowledged order is durable.
+//    - `inventory.stock_level - SUM(unflushed entries)` is always the true available stock. A flush changes both
+//      sides of that difference in one transaction, so the invariant holds before and after it.
+//    - On startup the counters are rebuilt from that difference, and the flusher drains whatever entries were left
+//      by the crashed process. Nothing is lost or applied twice, and no manual replay is needed.
+//    - The counters live in one JVM: ledger mode assumes a single application instance (or one instance per store).
+//      Stock changed directly through InventoryController is picked up via refresh().
+//    - With inventory shards, ledger entries are saved on the order's shard, the flusher drains every shard and the
+//      counters are loaded from all of them.
+//
+// Reloading a counter (load(), refresh()) while orders are checking out must not forget their reservations. Each
+// counter therefore tracks the reservations whose transaction hasn't completed yet, with their entry ids. A reload
+// reads the stock without those entries, committed or not, and subtracts the in-flight quantity itself, under the
+// counter's lock. The flusher leaves in-flight entries alone until their transaction has completed.
+@Service
+@ConditionalOnProperty(name = "inventory.ledger.enabled", havingValue = "true")
+public class InventoryLedger {
+
+    private static final int STRIPES = 64;
+
+    @Autowired
+    private InventoryRepository inventoryRepository;
+
+    @Autowired
+    private InventoryLedgerEntryRepository ledgerEntryRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private CatalogVersions catalogVersions;
+
+    @Autowired
+    private StoreShards storeShards;
+
+    private final Map<StockKey, Integer> available = new ConcurrentHashMap<>();
+
+    private final Map<StockKey, InFlight> inFlight = new ConcurrentHashMap<>();
+
+    private final Set<Long> inFlightEntries = ConcurrentHashMap.newKeySet();
+
+    private final AtomicLong changes = new AtomicLong();
+
+    private final ReentrantLock[] locks = new ReentrantLock[STRIPES];
+
+    public InventoryLedger() {
+        for (int i = 0; i < STRIPES; i++) {
+            locks[i] = new ReentrantLock();
+        }
+    }
+
+    // 1. **load Method**:
+    //    - Rebuilds every counter from the database once the application has started.
+    //    - Counters that had reservations in flight, or completed ones since the rows were read, are reloaded one by
+    //      one instead.
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        long since = changes.get();
+        for (Object[] row : storeShards.gather(inventoryRepository::findAvailableStock)) {
+            StockKey key = new StockKey((Long) row[0], (Long) row[1]);
+            ReentrantLock lock = lockFor(key);
+            lock.lock();
+            try {
+                InFlight reservations = inFlight.get(key);
+                if (reservations != null && (reservations.quantity > 0 || reservations.lastChange > since)) {
+                    reload(key);
+                } else {
+                    available.put(key, row[2] == null ? 0 : ((Number) row[2]).intValue());
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    // 2. **reserve Method**:
+    //    - Reserves all quantities of one order, or none of them.
+    //    - Must be called inside the order's transaction: the ledger entries are saved with the order, and the
+    //      reservation is handed back to the counters if that transaction rolls back.
+    //    - Parameters: Long storeId, Map<Long, Integer> quantities (product ID -> quantity)
+    //    - Return Type: List<Long> (product IDs without enough stock, empty if the reservation succeeded)
+    public List<Long> reserve(Long storeId, Map<Long, Integer> quantities) {
+        List<StockKey> keys = new ArrayList<>();
+        for (Long productId : quantities.keySet()) {
+            keys.add(new StockKey(storeId, productId));
+        }
+
+        List<Long> rejected = new ArrayList<>();
+        List<ReentrantLock> held = lockAll(keys);
+        try {
+            for (StockKey key : keys) {
+                Integer stock = current(key);
+                if (stock == null || stock < quantities.get(key.productId())) {
+                    rejected.add(key.productId());
+                }
+            }
+            if (!rejected.isEmpty()) {
+                return rejected;
+            }
+            for (StockKey key : keys) {
+                int quantity = quantities.get(key.productId());
+                available.put(key, available.get(key) - quantity);
+                InFlight reservations = inFlight.computeIfAbsent(key, k -> new InFlight());
+                reservations.quantity += quantity;
+                reservations.lastChange = changes.incrementAndGet();
+            }
+        } finally {
+            unlockAll(held);
+        }
+
+        List<InventoryLedgerEntry> entries = new ArrayList<>();
+        for (Map.Entry<Long, Integer> entry : quantities.entrySet()) {
+            entries.add(new InventoryLedgerEntry(storeId, entry.getKey(), entry.getValue()));
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                complete(entries, status == STATUS_COMMITTED);
+            }
+        });
+
+        ledgerEntryRepository.saveAll(entries);
+
+        // The ids are known now; a reload has to leave these entries out once they commit.
+        held = lockAll(keys);
+        try {
+            for (InventoryLedgerEntry entry : entries) {
+                inFlight.get(new StockKey(storeId, entry.getProductId())).entryIds.add(entry.getId());
+                inFlightEntries.add(entry.getId());
+            }
+        } finally {
+            unlockAll(held);
+        }
+
+        return rejected;
+    }
+
+    // 3. **refresh Method**:
+    //    - Re-reads one counter from the database after its stock level was changed outside of the ledger.
+    public void refresh(Long storeId, Long productId) {
+        StockKey key = new StockKey(storeId, productId);
+        ReentrantLock lock = lockFor(key);
+        lock.lock();
+        try {
+            reload(key);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // 4. **flush Method**:
+    //    - Writes journaled reservations back to the `inventory` table in batches of up to 1000 entries.
+    //    - Each batch subtracts the summed quantities and deletes its entries in one transaction.
+    //    - Entries of reservations still in flight are left for a later run.
+    //    - Only then do the stock levels in the table change, so that is when conditional GETs learn about them.
+    @Scheduled(fixedDelayString = "${inventory.ledger.flush-interval-ms:500}")
+    public void flush() {
+        storeShards.forEachShard(this::flushShard);
+    }
+
+    private void flushShard() {
+        int flushed;
+        do {
+            Map<Long, Map<Long, Integer>> quantitiesByStore = new HashMap<>();
+            flushed = transactionTemplate.execute(status -> {
+                List<InventoryLedgerEntry> read = ledgerEntryRepository.findTop1000ByOrderByIdAsc();
+                List<InventoryLedgerEntry> entries = new ArrayList<>();
+                for (InventoryLedgerEntry entry : read) {
+                    if (!inFlightEntries.contains(entry.getId())) {
+                        entries.add(entry);
+                    }
+                }
+
+                for (InventoryLedgerEntry entry : entries) {
+                    quantitiesByStore.computeIfAbsent(entry.getStoreId(), id -> new HashMap<>())
+                            .merge(entry.getProductId(), entry.getQuantity(), Integer::sum);
+                }
+                for (Map.Entry<Long, Map<Long, Integer>> store : quantitiesByStore.entrySet()) {
+                    inventoryRepository.subtractStockBatch(store.getKey(), store.getValue());
+                }
+
+                if (!entries.isEmpty()) {
+                    ledgerEntryRepository.deleteAllInBatch(entries);
+                }
+                // Stop once a batch is only in-flight entries, rather than reading it again.
+                return entries.isEmpty() ? 0 : read.size();
+            });
+            quantitiesByStore.forEach((storeId, quantities) -> catalogVersions.stockChanged(storeId, quantities.keySet()));
+        } while (flushed == 1000);
+    }
+
+    // Ends a reservation once its order's transaction has completed, handing the stock back if it rolled back.
+    private void complete(List<InventoryLedgerEntry> entries, boolean committed) {
+        for (InventoryLedgerEntry entry : entries) {
+            StockKey key = new StockKey(entry.getStoreId(), entry.getProductId());
+            ReentrantLock lock = lockFor(key);
+            lock.lock();
+            try {
+                if (!committed) {
+                    available.computeIfPresent(key, (k, stock) -> stock + entry.getQuantity());
+                }
+                InFlight reservations = inFlight.get(key);
+                reservations.quantity -= entry.getQuantity();
+                reservations.lastChange = changes.incrementAndGet();
+                if (entry.getId() != null) {
+                    reservations.entryIds.remove(entry.getId());
+                    inFlightEntries.remove(entry.getId());
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    // Returns the counter for a key, loading it from the database first if needed. Caller must hold the key's lock.
+    private Integer current(StockKey key) {
+        Integer stock = available.get(key);
+        return stock != null ? stock : reload(key);
+    }
+
+    // Reads a counter from the database, minus the reservations still in flight. Caller must hold the key's lock.
+    private Integer reload(StockKey key) {
+        InFlight reservations = inFlight.get(key);
+        Integer stock;
+        if (reservations == null || reservations.entryIds.isEmpty()) {
+            stock = storeShards.inStore(key.storeId(), () -> inventoryRepository.findAvailableStock(key.storeId(), key.productId()));
+        } else {
+            List<Long> entryIds = new ArrayList<>(reservations.entryIds);
+            stock = storeShards.inStore(key.storeId(),
+                    () -> inventoryRepository.findAvailableStockExcluding(key.storeId(), key.productId(), entryIds));
+        }
+        if (stock == null) {
+            available.remove(key);
+            return null;
+        }
+        if (reservations != null) {
+            stock -= reservations.quantity;
+        }
+        available.put(key, stock);
+        return stock;
+    }
+
+    private ReentrantLock lockFor(StockKey key) {
+        return locks[Math.floorMod(key.hashCode(), STRIPES)];
+    }
+
+    // Locks the stripes of all keys in index order, so two orders can't deadlock on each other.
+    private List<ReentrantLock> lockAll(List<StockKey> keys) {
+        SortedSet<Integer> stripes = new TreeSet<>();
+        for (StockKey key : keys) {
+            stripes.add(Math.floorMod(key.hashCode(), STRIPES));
+        }
+
+        List<ReentrantLock> held = new ArrayList<>();
+        for (int stripe : stripes) {
+            locks[stripe].lock();
+            held.add(locks[stripe]);
+        }
+        return held;
+    }
+
+    private void unlockAll(List<ReentrantLock> held) {
+        for (int i = held.size() - 1; i >= 0; i--) {
+            held.get(i).unlock();
+        }
+    }
+
+    private record StockKey(Long storeId, Long productId) {
+    }
+
+    // Reservations of one counter whose order transaction hasn't completed yet. Guarded by the counter's lock.
+    private static final class InFlight {
+
+        private int quantity;
+
+        private final Set<Long> entryIds = new HashSet<>();
+
+        // Value of `changes` when a reservation of this counter last started or completed.
+        private long lastChange;
+    }
+}
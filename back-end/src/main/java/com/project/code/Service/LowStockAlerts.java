@@ -0,0 +1,70 @@
+package com.project.code.Service;
+
+import com.project.code.Model.Inventory;
+import com.project.code.Model.OrderEvent;
+import com.project.code.Repo.InventoryRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Post-order consumer (see OrderEventConsumer) that reports products an order took down to
+// `inventory.low-stock-threshold` units or less in its store: logged, and counted as inventory.stock.low.
+// Events arrive after checkout, so the stock level read here is the current one, not the one right after the order.
+// A product is therefore reported once per store until an order finds it above the threshold again (restocked),
+// which also keeps redelivered events from reporting it twice. The reported pairs live in memory: after a restart a
+// product that is still low is reported once more. In inventory ledger mode the table's stock level trails the
+// ledger until the next flush, so alerts can come late.
+@Component
+public class LowStockAlerts implements OrderEventConsumer {
+
+    @Autowired
+    private InventoryRepository inventoryRepository;
+
+    private final int threshold;
+
+    private final Counter lowStock;
+
+    private final Set<StockKey> reported = ConcurrentHashMap.newKeySet();
+
+    public LowStockAlerts(MeterRegistry registry, @Value("${inventory.low-stock-threshold:5}") int threshold) {
+        this.threshold = threshold;
+        lowStock = Counter.builder("inventory.stock.low")
+                .description("Products reported at or below the low-stock threshold")
+                .register(registry);
+    }
+
+    @Override
+    public void onOrderPlaced(OrderEvent event) {
+        Set<Long> productIds = new HashSet<>();
+        for (OrderEvent.Item item : event.items()) {
+            productIds.add(item.productId());
+        }
+        if (productIds.isEmpty()) {
+            return;
+        }
+
+        List<Inventory> inventories = inventoryRepository.findByStoreIdAndProductIds(event.storeId(), productIds);
+        for (Inventory inventory : inventories) {
+            Long productId = inventory.getProduct().getId();
+            Integer stock = inventory.getStockLevel();
+            StockKey key = new StockKey(event.storeId(), productId);
+            if (stock == null || stock > threshold) {
+                reported.remove(key);
+            } else if (reported.add(key)) {
+                lowStock.increment();
+                System.out.println("Low stock: product " + productId + " has " + stock + " units left in store "
+                        + event.storeId() + " after order " + event.orderId());
+            }
+        }
+    }
+
+    private record StockKey(Long storeId, Long productId) {
+    }
+}
@@ -0,0 +1,23 @@
+package com.project.code.Service;
+
+import com.project.code.Model.OrderEvent;
+
+// Post-order work (analytics, stock alerts, notifications, ...) that runs after checkout instead of inside it. Every
+// Spring bean implementing this interface receives every placed order from the outbox dispatcher (see OrderOutbox),
+// so adding one doesn't add anything to checkout itself.
+//
+// Delivery is at least once: an event is redelivered to all consumers when any of them throws, and after a crash
+// between delivery and the outbox delete. Consumers run one after another on the dispatcher thread, with the
+// thread bound to the order's shard, and should be quick and idempotent. Slow work belongs on its own executor.
+public interface OrderEventConsumer {
+
+    // 1. **name Method**:
+    //    - Identifies the consumer in logs and in the `consumer` tag of order.outbox.failures.
+    default String name() {
+        return getClass().getSimpleName();
+    }
+
+    // 2. **onOrderPlaced Method**:
+    //    - Handles one order. Throwing marks the delivery as failed; it is retried on a later run.
+    void onOrderPlaced(OrderEvent event);
+}
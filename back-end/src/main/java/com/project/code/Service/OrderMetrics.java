@@ -0,0 +1,63 @@
+package com.project.code.Service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+// Business meters of the checkout, published next to the technical ones (see ServiceMetrics):
+//    - orders.placed: committed orders; rate(orders_placed_total) in Prometheus is orders per second.
+//    - order.items: units per committed order, as a histogram.
+//    - orders.rejected{reason=stock_out}: orders refused because a product didn't have enough stock left.
+@Component
+public class OrderMetrics {
+
+    private final Counter ordersPlaced;
+
+    private final DistributionSummary orderItems;
+
+    private final Counter stockOuts;
+
+    public OrderMetrics(MeterRegistry registry) {
+        ordersPlaced = Counter.builder("orders.placed")
+                .description("Orders placed")
+                .register(registry);
+        orderItems = DistributionSummary.builder("order.items")
+                .description("Units per order")
+                .baseUnit("items")
+                .publishPercentileHistogram()
+                .register(registry);
+        stockOuts = Counter.builder("orders.rejected")
+                .description("Orders rejected")
+                .tag("reason", "stock_out")
+                .register(registry);
+    }
+
+    // 1. **orderPlaced Method**:
+    //    - Counts an order of `items` units once its transaction commits, so rolled back orders aren't counted.
+    public void orderPlaced(int items) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    record(items);
+                }
+            });
+        } else {
+            record(items);
+        }
+    }
+
+    // 2. **stockOut Method**:
+    //    - Counts an order rejected for insufficient stock.
+    public void stockOut() {
+        stockOuts.increment();
+    }
+
+    private void record(int items) {
+        ordersPlaced.increment();
+        orderItems.record(items);
+    }
+}
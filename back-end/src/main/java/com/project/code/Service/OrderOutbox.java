@@ -0,0 +1,194 @@
+package com.project.code.Service;
+
+import com.project.code.Model.OrderDetails;
+import com.project.code.Model.OrderEvent;
+import com.project.code.Model.OrderOutboxEntry;
+import com.project.code.Repo.OrderItemRepository;
+import com.project.code.Repo.OrderOutboxEntryRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Transactional outbox of placed orders, feeding the post-order pipeline (see OrderEventConsumer).
+//
+// OrderService appends one `order_outbox` row per order in the order's own transaction: the row exists exactly when
+// the order committed, and checkout pays for one batched insert however many consumers there are. A scheduled
+// dispatcher reads the rows in batches of `order.outbox.batch-size`, loads their items with one query, hands each
+// event to every consumer and then deletes the delivered rows.
+//    - At least once: rows are deleted only after delivery, so a crash in between redelivers the whole batch.
+//      An event that any consumer failed on keeps its row, counts a failed attempt and is retried on the next run.
+//      After `order.outbox.max-attempts` failures the row is left in the table as a dead letter (order.outbox.dead);
+//      set its `attempts` back to 0 to deliver it again.
+//    - Backpressure: the table is the queue. The dispatcher only reads the next batch once the consumers are done
+//      with the current one, so slow consumers make the backlog grow in the database (order.outbox.pending) instead
+//      of in memory, and never slow down checkout.
+//    - Lag: order.outbox.lag is the time from placing an order to its delivery, as a histogram.
+//    - With inventory shards each row is written on its order's shard, and the dispatcher drains every shard.
+//    - The dispatcher assumes a single application instance. Several instances deliver the same rows more than
+//      once, which at-least-once consumers have to tolerate anyway.
+@Service
+public class OrderOutbox {
+
+    @Autowired
+    private OrderOutboxEntryRepository outboxRepository;
+
+    @Autowired
+    private OrderItemRepository orderItemRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private StoreShards storeShards;
+
+    @Autowired(required = false)
+    private List<OrderEventConsumer> consumers = List.of();
+
+    private final MeterRegistry registry;
+
+    private final int batchSize;
+
+    private final int maxAttempts;
+
+    private final Timer lag;
+
+    private final AtomicLong pending = new AtomicLong();
+
+    private final AtomicLong dead = new AtomicLong();
+
+    public OrderOutbox(MeterRegistry registry,
+                       @Value("${order.outbox.batch-size:500}") int batchSize,
+                       @Value("${order.outbox.max-attempts:10}") int maxAttempts) {
+        this.registry = registry;
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        lag = Timer.builder("order.outbox.lag")
+                .description("Time from placing an order to delivering its event")
+                .publishPercentileHistogram()
+                .register(registry);
+        Gauge.builder("order.outbox.pending", pending, AtomicLong::get)
+                .description("Order events waiting for delivery at the start of the last dispatch")
+                .register(registry);
+        Gauge.builder("order.outbox.dead", dead, AtomicLong::get)
+                .description("Order events given up after order.outbox.max-attempts failed deliveries")
+                .register(registry);
+    }
+
+    // 1. **append Method**:
+    //    - Records a placed order for the consumers. Must run inside the order's transaction, after the order was
+    //      saved, so the event commits or rolls back with it.
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void append(OrderDetails order) {
+        outboxRepository.save(new OrderOutboxEntry(order));
+    }
+
+    // 2. **dispatch Method**:
+    //    - Delivers every pending event of every shard, one batch at a time, and updates the pending/dead gauges.
+    @Scheduled(fixedDelayString = "${order.outbox.poll-interval-ms:500}",
+            initialDelayString = "${order.outbox.poll-interval-ms:500}")
+    public void dispatch() {
+        long[] totals = new long[2];
+        storeShards.forEachShard(() -> {
+            totals[0] += outboxRepository.countByAttemptsLessThan(maxAttempts);
+            dispatchShard();
+            totals[1] += outboxRepository.countByAttemptsGreaterThanEqual(maxAttempts);
+        });
+        pending.set(totals[0]);
+        dead.set(totals[1]);
+    }
+
+    private void dispatchShard() {
+        long after = 0;
+        List<OrderOutboxEntry> batch;
+        do {
+            long from = after;
+            List<OrderEvent> events = new ArrayList<>();
+            batch = transactionTemplate.execute(status -> {
+                List<OrderOutboxEntry> entries = outboxRepository.findByIdGreaterThanAndAttemptsLessThanOrderByIdAsc(
+                        from, maxAttempts, Limit.of(batchSize));
+                events.addAll(toEvents(entries));
+                return entries;
+            });
+            if (batch.isEmpty()) {
+                return;
+            }
+
+            List<Long> delivered = new ArrayList<>();
+            List<Long> failed = new ArrayList<>();
+            for (int i = 0; i < batch.size(); i++) {
+                OrderOutboxEntry entry = batch.get(i);
+                if (deliver(events.get(i))) {
+                    delivered.add(entry.getId());
+                    lag.record(Duration.between(entry.getCreatedAt(), LocalDateTime.now()));
+                } else {
+                    failed.add(entry.getId());
+                    if (entry.getAttempts() + 1 >= maxAttempts) {
+                        System.out.println("Giving up on the event of order " + entry.getOrderId() + " after "
+                                + maxAttempts + " failed deliveries");
+                    }
+                }
+            }
+            transactionTemplate.executeWithoutResult(status -> {
+                if (!delivered.isEmpty()) {
+                    outboxRepository.deleteAllByIdInBatch(delivered);
+                }
+                if (!failed.isEmpty()) {
+                    outboxRepository.incrementAttempts(failed);
+                }
+            });
+            after = batch.get(batch.size() - 1).getId();
+        } while (batch.size() == batchSize);
+    }
+
+    // Builds the events of a batch, in the same order, with the items of all its orders read in one query.
+    private List<OrderEvent> toEvents(List<OrderOutboxEntry> entries) {
+        if (entries.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, List<OrderEvent.Item>> items = new HashMap<>();
+        for (OrderOutboxEntry entry : entries) {
+            items.put(entry.getOrderId(), new ArrayList<>());
+        }
+        for (Object[] line : orderItemRepository.findLinesByOrderIds(items.keySet())) {
+            items.get((Long) line[0]).add(new OrderEvent.Item((Long) line[1], (Integer) line[2], (Double) line[3]));
+        }
+
+        List<OrderEvent> events = new ArrayList<>();
+        for (OrderOutboxEntry entry : entries) {
+            events.add(new OrderEvent(entry.getOrderId(), entry.getStoreId(), entry.getCustomerId(),
+                    entry.getTotalPrice(), entry.getCreatedAt(), items.get(entry.getOrderId())));
+        }
+        return events;
+    }
+
+    // Hands one event to every consumer, even after one of them failed; true if none failed.
+    private boolean deliver(OrderEvent event) {
+        boolean delivered = true;
+        for (OrderEventConsumer consumer : consumers) {
+            try {
+                consumer.onOrderPlaced(event);
+            } catch (RuntimeException e) {
+                delivered = false;
+                registry.counter("order.outbox.failures", "consumer", consumer.name()).increment();
+                System.out.println("Order event consumer " + consumer.name() + " failed on order " + event.orderId() + ": " + e);
+            }
+        }
+        return delivered;
+    }
+}
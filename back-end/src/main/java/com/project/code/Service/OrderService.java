@@ -6,9 +6,15 @@ import com.project.code.Repo.*;
 import org.hibernate.boot.model.naming.IllegalIdentifierException;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 
 @Service
 public class OrderService {
@@ -30,12 +36,31 @@ public class OrderService {
     @Autowired
     private CustomerRepository customerRepository;
 
+    // Only present in inventory ledger mode (`inventory.ledger.enabled=true`).
+    @Autowired(required = false)
+    private InventoryLedger inventoryLedger;
+
+    @Autowired
+    private OrderMetrics orderMetrics;
+
+    @Autowired
+    private CatalogVersions catalogVersions;
+
+    @Autowired
+    private StoreShards storeShards;
+
+    @Autowired
+    private OrderOutbox orderOutbox;
+
 
     // 1. **saveOrder Method**:
     //    - Processes a customer's order, including saving the order details and associated items.
     //    - Parameters: `PlaceOrderRequestDTO placeOrderRequest` (Request data for placing an order)
     //    - Return Type: `void` (This method doesn't return anything, it just processes the order)
+    //    - With inventory shards, callers run it on the store's shard (`StoreShards.inStore()`), like StoreController.
+    @Transactional
     public void saveOrder(PlaceOrderRequestDTO placeOrderRequest) {
+        storeShards.checkRouted(placeOrderRequest.getStoreId());
 
         // Retrieve or Create the Customer: Check if the customer already exists by their email using findByEmail.
         // If the customer exists, use the existing customer, otherwise, create a new Customer and save it to the repository.
@@ -55,51 +80,99 @@ public class OrderService {
                 .orElseThrow(() -> new IllegalIdentifierException("Store not found"));
 
         // Create OrderDetails: Create a new OrderDetails object and set customer, store, total price, and the current datetime.
-        // Hint: Set the order date with java.time.LocalDateTime.now() and save the order with orderDetailsRepository.save().
+        // Hint: Set the order date with java.time.LocalDateTime.now(); the order is saved together with its items below.
         OrderDetails orderDetails = new OrderDetails();
         orderDetails.setCustomer(customer);
         orderDetails.setStore(store);
         orderDetails.setTotalPrice(placeOrderRequest.getTotalPrice());
         orderDetails.setDate(LocalDateTime.now());
 
-        orderDetailsRepository.save(orderDetails);
-
-        // Create and Save OrderItems: For each product purchased, find the corresponding Inventory, update its stock level, and save the changes.
-        // Hint: Use inventoryRepository.findByProductIdandStoreId() to get the inventory and inventoryRepository.save() to update it.
+        // Create OrderItems: Add up the quantity per product, validate the cart and build an OrderItem per line.
         if (placeOrderRequest.getPurchaseProduct() == null || placeOrderRequest.getPurchaseProduct().isEmpty()) {
             throw new IllegalArgumentException("No items to purchase.");
         }
 
+        Map<Long, Integer> quantities = new LinkedHashMap<>();
         for (PurchaseProductDTO item : placeOrderRequest.getPurchaseProduct()) {
-            Long productId = item.getId();
-            int qty = item.getQuantity();
+            Integer qty = item.getQuantity();
+            if (item.getId() == null || qty == null || qty <= 0) {
+                throw new IllegalArgumentException("Invalid quantity for productId=" + item.getId());
+            }
+            quantities.merge(item.getId(), qty, Integer::sum);
+        }
 
-            Product product = productRepository.findById(productId)
-                    .orElseThrow(() -> new IllegalArgumentException("Product not found: " + productId));
+        // Prefetch: Load every product in the cart and this store's inventory rows for them with two queries,
+        // instead of two lookups per line item. Validation and pricing below only read from these maps.
+        // Hint: Use productRepository.findAllById() and inventoryRepository.findByStoreIdAndProductIds().
+        Map<Long, Product> products = new HashMap<>();
+        for (Product product : productRepository.findAllById(quantities.keySet())) {
+            products.put(product.getId(), product);
+        }
 
-            Inventory inventory = inventoryRepository.findByProduct_IdAndStore_Id(productId, store.getId());
+        Map<Long, Inventory> inventories = new HashMap<>();
+        for (Inventory inventory : inventoryRepository.findByStoreIdAndProductIds(store.getId(), quantities.keySet())) {
+            inventories.put(inventory.getProduct().getId(), inventory);
+        }
+
+        for (Map.Entry<Long, Integer> entry : quantities.entrySet()) {
+            Long productId = entry.getKey();
+            if (!products.containsKey(productId)) {
+                throw new IllegalArgumentException("Product not found: " + productId);
+            }
 
+            Inventory inventory = inventories.get(productId);
+            if (inventory == null) {
+                throw new IllegalArgumentException("Product " + productId + " is not stocked in store " + store.getId());
+            }
+
+            // Fail fast on a stale cart; the guarded UPDATE below is still what actually protects the stock.
             Integer available = inventory.getStockLevel();
-            if (available == null || available < qty) {
+            if (available == null || available < entry.getValue()) {
+                orderMetrics.stockOut();
                 throw new IllegalStateException("Insufficient stock for productId=" + productId +
                         ". Available=" + (available == null ? 0 : available));
             }
+        }
 
-            inventory.setStockLevel(available - qty);
-            inventoryRepository.save(inventory);
+        List<OrderItem> orderItems = new ArrayList<>();
+        for (PurchaseProductDTO item : placeOrderRequest.getPurchaseProduct()) {
+            Product product = products.get(item.getId());
 
-            // Create OrderItem for each product and associate it with the OrderDetails.
-            // Hint: Use orderItemRepository.save() to save each order item.
             OrderItem orderItem = new OrderItem();
             orderItem.setOrder(orderDetails);
             orderItem.setProduct(product);
-            orderItem.setQuantity(qty);
-
-            Double unitPrice = product.getPrice();
-            orderItem.setPrice(unitPrice);
+            orderItem.setQuantity(item.getQuantity());
+            orderItem.setPrice(product.getPrice());
+            orderItems.add(orderItem);
+        }
 
-            orderItemRepository.save(orderItem);
+        // Update the Inventory: Decrement every product's stock with one batch of guarded UPDATEs instead of
+        // read-check-save, so two concurrent checkouts can't both see the same stock level. If any guard doesn't
+        // match, the exception rolls back everything this order has written so far.
+        // Hint: Use inventoryRepository.decrementStockBatch(), which only updates rows that have enough stock left.
+        // In ledger mode the stock is reserved against in-memory counters and written back to the table later.
+        List<Long> rejected = inventoryLedger != null
+                ? inventoryLedger.reserve(store.getId(), quantities)
+                : inventoryRepository.decrementStockBatch(store.getId(), quantities);
+        if (!rejected.isEmpty()) {
+            orderMetrics.stockOut();
+            throw new IllegalStateException("Insufficient stock for productId=" + rejected);
+        }
+        // New stock levels for conditional GETs once this commits; in ledger mode the flush reports them instead.
+        if (inventoryLedger == null) {
+            catalogVersions.stockChanged(store.getId(), quantities.keySet());
         }
+
+        // Save the Order: The ids come from pooled sequences, so Hibernate can send the order header and all of its
+        // items as JDBC batches when the transaction commits.
+        // Hint: Use orderDetailsRepository.save() and orderItemRepository.saveAll().
+        orderDetailsRepository.save(orderDetails);
+        orderItemRepository.saveAll(orderItems);
+
+        // Post-order work (stock alerts and other OrderEventConsumers) runs after checkout: record the order in the
+        // outbox within this transaction, and the dispatcher delivers it once it has committed.
+        orderOutbox.append(orderDetails);
+        orderMetrics.orderPlaced(quantities.values().stream().mapToInt(Integer::intValue).sum());
     }
 
     // 2. **Retrieve or Create the Customer**:
@@ -112,11 +185,14 @@ public class OrderService {
 
 // 4. **Create OrderDetails**:
 //    - Create a new `OrderDetails` object and set customer, store, total price, and the current timestamp.
-//    - Set the order date using `java.time.LocalDateTime.now()` and save the order with `orderDetailsRepository.save()`.
+//    - Set the order date using `java.time.LocalDateTime.now()`.
 
 // 5. **Create and Save OrderItems**:
-//    - For each product purchased, find the corresponding inventory, update stock levels, and save the changes using `inventoryRepository.save()`.
-//    - Create and save `OrderItem` for each product and associate it with the `OrderDetails` using `orderItemRepository.save()`.
+//    - Prefetch all products with `productRepository.findAllById()` and their inventory with `inventoryRepository.findByStoreIdAndProductIds()`.
+//    - For each product purchased, create an `OrderItem` and associate it with the `OrderDetails`.
+//    - Decrement all stock levels with one `inventoryRepository.decrementStockBatch()` call; if any row isn't updated the whole order is rolled back.
+//    - Save the order and its items with `orderDetailsRepository.save()` and `orderItemRepository.saveAll()`.
+//    - Append the order to the outbox with `orderOutbox.append()`, in the same transaction.
 
    
 }
@@ -0,0 +1,66 @@
+package com.project.code.Service;
+
+import com.project.code.Model.Product;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Service;
+
+import java.util.Collection;
+
+@Service
+public class ProductCache {
+
+    // Names of the read-through caches on ProductRepository (configured in CacheConfig).
+    public static final String BY_ID = "productsById";
+    public static final String BY_CATEGORY = "productsByCategory";
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    // 1. **evict Method**:
+    //    - Removes every cached entry a product appears in: its id and its category list.
+    //    - Call it with the product as it was before a write AND as it is after, so a changed category
+    //      invalidates both the old and the new entries.
+    public void evict(Product product) {
+        if (product == null) {
+            return;
+        }
+        evict(BY_ID, product.getId());
+        evict(BY_CATEGORY, product.getCategory());
+    }
+
+    // 2. **clear Method**:
+    //    - Empties all product caches, for bulk changes that touch too many products to evict one by one.
+    public void clear() {
+        for (String cacheName : new String[]{BY_ID, BY_CATEGORY}) {
+            Cache cache = cacheManager.getCache(cacheName);
+            if (cache != null) {
+                cache.clear();
+            }
+        }
+    }
+
+    // 3. **evictStock Method**:
+    //    - Removes the cached products whose embedded inventory changed, e.g. by a checkout: their id entries,
+    //      and the category lists of those that were cached by id. Category lists of products that weren't
+    //      cached by id may keep old stock levels for up to the TTL (they have no ETag that would vouch for them).
+    public void evictStock(Collection<Long> productIds) {
+        Cache byId = cacheManager.getCache(BY_ID);
+        for (Long productId : productIds) {
+            Product cached = byId == null ? null : byId.get(productId, Product.class);
+            if (cached != null) {
+                evict(cached);
+            } else {
+                evict(BY_ID, productId);
+            }
+        }
+    }
+
+    private void evict(String cacheName, Object key) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache != null && key != null) {
+            cache.evict(key);
+        }
+    }
+}
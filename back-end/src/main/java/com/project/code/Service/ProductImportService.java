@@ -0,0 +1,167 @@
+package com.project.code.Service;
+
+import com.project.code.Model.BulkImportResult;
+import com.project.code.Model.ProductImportRow;
+import com.project.code.Model.ProductSummary;
+import com.project.code.Repo.ProductRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataAccessException;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.*;
+
+// Bulk product catalog upsert keyed by SKU, from a streamed CSV or NDJSON body (e.g. a supplier catalog).
+//
+// Adding products one by one costs a name lookup, an INSERT and a round trip per product. Here rows are read
+// incrementally (see BulkRowReader) and processed BATCH_SIZE at a time: the SKUs of a batch are resolved with one
+// IN query, and the batch is written as one JDBC batch of UPDATEs and one of INSERTs in its own transaction.
+// A batch the database refuses is rolled back and its rows are rejected; the batches before it stay imported and
+// the import goes on with the next one.
+//
+// When the same SKU appears more than once, the last row wins. Stock levels aren't part of the catalog: import
+// them afterwards through InventoryImportService.
+@Service
+public class ProductImportService {
+
+    static final int BATCH_SIZE = 1000;
+
+    @Autowired
+    private BulkRowReader bulkRowReader;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private ProductCache productCache;
+
+    @Autowired
+    private ProductSearchIndex productSearchIndex;
+
+    @Autowired
+    private CatalogVersions catalogVersions;
+
+    // Copies each committed batch to the other inventory shards (see ShardingConfig).
+    @Autowired
+    private StoreShards storeShards;
+
+    // 1. **importProducts Method**:
+    //    - Creates or updates the product of every row of `body` and reports the outcome.
+    //    - Parameters: InputStream body, MediaType contentType (`text/csv` or `application/x-ndjson`)
+    //    - Return Type: BulkImportResult (rows, created, updated, rejected with per-row errors, rows per second)
+    public BulkImportResult importProducts(InputStream body, MediaType contentType) throws IOException {
+        BulkImportResult result = new BulkImportResult();
+        try {
+            bulkRowReader.read(body, contentType, ProductImportRow.class, BATCH_SIZE, result,
+                    batch -> importBatch(batch, result));
+        } finally {
+            // Renamed or re-categorized products may sit in any of the caches.
+            if (result.getCreated() + result.getUpdated() > 0) {
+                productCache.clear();
+            }
+        }
+        return result.finish();
+    }
+
+    private void importBatch(List<BulkRowReader.Row<ProductImportRow>> batch, BulkImportResult result) {
+        // SKU -> row, last row wins.
+        Map<String, BulkRowReader.Row<ProductImportRow>> rows = new LinkedHashMap<>();
+        List<BulkRowReader.Row<ProductImportRow>> valid = new ArrayList<>();
+        long duplicates = 0;
+        for (BulkRowReader.Row<ProductImportRow> row : batch) {
+            String error = validate(row.value());
+            if (error != null) {
+                result.reject(row.row(), error);
+                continue;
+            }
+            valid.add(row);
+            row.value().setSku(row.value().getSku().trim());
+            if (rows.put(row.value().getSku(), row) != null) {
+                duplicates++;
+            }
+        }
+        if (rows.isEmpty()) {
+            return;
+        }
+
+        // SKU -> product ID of every product written by this batch.
+        Map<String, Long> ids = new HashMap<>();
+        long created;
+        try {
+            created = transactionTemplate.execute(status -> {
+                for (Object[] existing : productRepository.findIdsBySkuIn(rows.keySet())) {
+                    ids.put((String) existing[0], (Long) existing[1]);
+                }
+
+                Map<Long, ProductImportRow> updates = new HashMap<>();
+                List<ProductImportRow> inserts = new ArrayList<>();
+                for (BulkRowReader.Row<ProductImportRow> row : rows.values()) {
+                    Long id = ids.get(row.value().getSku());
+                    if (id != null) {
+                        updates.put(id, row.value());
+                    } else {
+                        inserts.add(row.value());
+                    }
+                }
+                productRepository.updateBatch(updates);
+                productRepository.insertBatch(inserts);
+
+                // Identity values of a JDBC batch insert can't be read back portably, so look the new IDs up by SKU.
+                if (!inserts.isEmpty()) {
+                    List<String> skus = new ArrayList<>();
+                    for (ProductImportRow insert : inserts) {
+                        skus.add(insert.getSku());
+                    }
+                    for (Object[] inserted : productRepository.findIdsBySkuIn(skus)) {
+                        ids.put((String) inserted[0], (Long) inserted[1]);
+                    }
+                }
+                return (long) inserts.size();
+            });
+        } catch (DataAccessException e) {
+            // Rolled back as a whole: reject every row that made it this far, and go on with the next batch.
+            for (BulkRowReader.Row<ProductImportRow> row : valid) {
+                result.reject(row.row(), "Batch failed: " + e.getMostSpecificCause().getMessage());
+            }
+            return;
+        }
+
+        storeShards.syncProducts(ids.values());
+        // The committed batch goes into the search index in one go, taking its write lock once rather than per row.
+        List<ProductSummary> summaries = new ArrayList<>(rows.size());
+        for (BulkRowReader.Row<ProductImportRow> row : rows.values()) {
+            ProductImportRow value = row.value();
+            summaries.add(new ProductSummary(ids.get(value.getSku()), value.getName(), value.getCategory(),
+                    value.getPrice(), value.getSku()));
+            catalogVersions.productChanged(ids.get(value.getSku()));
+        }
+        productSearchIndex.indexAll(summaries);
+        result.created(created);
+        result.updated(rows.size() - created + duplicates);
+    }
+
+    private static String validate(ProductImportRow row) {
+        if (row == null || row.getSku() == null || row.getSku().isBlank()) {
+            return "sku is required";
+        }
+        if (row.getName() == null || row.getName().isBlank()) {
+            return "name is required";
+        }
+        if (row.getCategory() == null || row.getCategory().isBlank()) {
+            return "category is required";
+        }
+        if (row.getPrice() == null) {
+            return "price is required";
+        }
+        if (row.getPrice() < 0) {
+            return "price must not be negative";
+        }
+        return null;
+    }
+}
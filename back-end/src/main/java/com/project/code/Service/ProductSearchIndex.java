@@ -0,0 +1,353 @@
+package com.project.code.Service;
+
+import com.project.code.Model.Product;
+import com.project.code.Model.ProductSummary;
+import com.project.code.Repo.InventoryRepository;
+import com.project.code.Repo.ProductRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+// In-memory trigram index over product names and SKUs.
+//
+// `LOWER(name) LIKE '%x%'` can't use a B-tree index and scans the whole product table on every keystroke.
+// Here every product is listed under each 3-character substring of its lowercased name and SKU. A query only
+// looks at the products listed under its rarest trigram, checks them for the full substring and keeps the best
+// `limit` matches, so the cost depends on how selective the query is rather than on the catalog size.
+// Queries shorter than 3 characters only match at the start of a word, through postings keyed by each word's first
+// one and two characters, so a single keystroke doesn't scan the whole catalog.
+//
+// The index is built on startup and kept up to date by ProductController and InventoryController.
+@Service
+public class ProductSearchIndex {
+
+    private static final int GRAM = 3;
+
+    // Prefix of the word-start postings; can't clash with a trigram, which never starts with a space.
+    private static final String WORD_START = " ";
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private InventoryRepository inventoryRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private StoreShards storeShards;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Map<Long, Doc> docs = new HashMap<>();
+
+    private final Map<String, DocList> postings = new HashMap<>();
+
+    // 1. **rebuild Method**:
+    //    - Loads every product and the stores that carry it from the database, replacing the current index.
+    //    - The stores come from the inventory of every shard (see StoreShards).
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        Map<Long, Doc> loaded = new HashMap<>();
+        transactionTemplate.executeWithoutResult(status -> {
+            try (Stream<ProductSummary> products = productRepository.streamSummaries()) {
+                products.forEach(product -> loaded.put(product.getId(), new Doc(product)));
+            }
+        });
+        storeShards.forEachShard(() -> transactionTemplate.executeWithoutResult(status -> {
+            try (Stream<Object[]> pairs = inventoryRepository.streamProductStoreIds()) {
+                pairs.forEach(pair -> {
+                    Doc doc = loaded.get((Long) pair[0]);
+                    if (doc != null) {
+                        doc.stores.add((Long) pair[1]);
+                    }
+                });
+            }
+        }));
+
+        lock.writeLock().lock();
+        try {
+            docs.clear();
+            postings.clear();
+            for (Doc doc : loaded.values()) {
+                addPostings(doc);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 2. **index Method**:
+    //    - Adds a new product or re-indexes a changed one (its stores are kept).
+    public void index(Product product) {
+        index(new ProductSummary(product));
+    }
+
+    public void index(ProductSummary product) {
+        indexAll(List.of(product));
+    }
+
+    // 3. **indexAll Method**:
+    //    - Same as index() for a batch of products, e.g. one batch of a bulk import. The grams are computed before
+    //      taking the write lock, and the lock is taken once for the whole batch, so searches wait at most once.
+    public void indexAll(Collection<ProductSummary> products) {
+        List<Doc> batch = new ArrayList<>(products.size());
+        for (ProductSummary product : products) {
+            batch.add(new Doc(product));
+        }
+
+        lock.writeLock().lock();
+        try {
+            for (Doc doc : batch) {
+                Doc previous = docs.get(doc.product.getId());
+                if (previous != null) {
+                    removePostings(previous);
+                    doc.stores.addAll(previous.stores);
+                }
+                addPostings(doc);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 4. **addStore Method**:
+    //    - Records that a store now carries a product, so store-scoped searches find it.
+    public void addStore(Long productId, Long storeId) {
+        lock.writeLock().lock();
+        try {
+            Doc doc = docs.get(productId);
+            if (doc != null) {
+                doc.stores.add(storeId);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 5. **remove Method**:
+    //    - Drops a deleted product from the index.
+    public void remove(Long productId) {
+        lock.writeLock().lock();
+        try {
+            Doc doc = docs.get(productId);
+            if (doc != null) {
+                removePostings(doc);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 6. **search Method**:
+    //    - Finds products whose name or SKU contains `query` (case-insensitive).
+    //    - Parameters: String query, Long storeId (null searches the whole catalog), int limit
+    //    - Return Type: List<ProductSummary>, best matches first: exact name, name prefix, word prefix, anywhere
+    //      in the name, then SKU matches; ties go to the shorter name.
+    public List<ProductSummary> search(String query, Long storeId, int limit) {
+        String q = normalize(query);
+        if (q.isEmpty() || limit <= 0) {
+            return new ArrayList<>();
+        }
+
+        // Max-heap on rank, so the worst of the current top `limit` is the one to drop.
+        PriorityQueue<Hit> best = new PriorityQueue<>(Comparator.reverseOrder());
+
+        lock.readLock().lock();
+        try {
+            DocList candidates = q.length() < GRAM ? postings.get(WORD_START + q) : rarestPosting(q);
+            if (candidates != null) {
+                String wordStart = WORD_START + q;
+                for (int i = 0; i < candidates.size; i++) {
+                    collect(candidates.values[i], q, wordStart, storeId, limit, best);
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        List<Hit> hits = new ArrayList<>(best);
+        Collections.sort(hits);
+
+        List<ProductSummary> result = new ArrayList<>();
+        for (Hit hit : hits) {
+            result.add(hit.doc.product);
+        }
+        return result;
+    }
+
+    private void collect(Doc doc, String q, String wordStart, Long storeId, int limit, PriorityQueue<Hit> best) {
+        if (storeId != null && !doc.stores.contains(storeId)) {
+            return;
+        }
+        int rank = rank(doc, q, wordStart);
+        if (rank < 0) {
+            return;
+        }
+
+        Hit hit = new Hit(doc, rank);
+        if (best.size() < limit) {
+            best.add(hit);
+        } else if (hit.compareTo(best.peek()) < 0) {
+            best.poll();
+            best.add(hit);
+        }
+    }
+
+    private int rank(Doc doc, String q, String wordStart) {
+        if (doc.name.equals(q)) {
+            return 0;
+        }
+        if (doc.name.startsWith(q)) {
+            return 1;
+        }
+        if (doc.name.contains(wordStart)) {
+            return 2;
+        }
+        if (q.length() < GRAM) {
+            return -1;
+        }
+        if (doc.name.contains(q)) {
+            return 3;
+        }
+        if (doc.sku.contains(q)) {
+            return 4;
+        }
+        return -1;
+    }
+
+    // Returns the shortest posting list among the query's trigrams, or null if one of them matches nothing.
+    private DocList rarestPosting(String q) {
+        DocList rarest = null;
+        for (int i = 0; i + GRAM <= q.length(); i++) {
+            DocList posting = postings.get(q.substring(i, i + GRAM));
+            if (posting == null || posting.size == 0) {
+                return null;
+            }
+            if (rarest == null || posting.size < rarest.size) {
+                rarest = posting;
+            }
+        }
+        return rarest;
+    }
+
+    private void addPostings(Doc doc) {
+        docs.put(doc.product.getId(), doc);
+        for (int i = 0; i < doc.grams.length; i++) {
+            postings.computeIfAbsent(doc.grams[i], g -> new DocList()).add(doc, i);
+        }
+    }
+
+    private void removePostings(Doc doc) {
+        docs.remove(doc.product.getId());
+        for (int i = 0; i < doc.grams.length; i++) {
+            DocList posting = postings.get(doc.grams[i]);
+            if (posting != null) {
+                posting.remove(doc, i);
+                if (posting.size == 0) {
+                    postings.remove(doc.grams[i]);
+                }
+            }
+        }
+    }
+
+    private static String normalize(String text) {
+        return text == null ? "" : text.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static class Doc {
+
+        private final ProductSummary product;
+
+        private final String name;
+
+        private final String sku;
+
+        private final String[] grams;
+
+        // Where the document sits in the posting list of each of its grams, so removing it doesn't scan them.
+        private final int[] positions;
+
+        private final Set<Long> stores = new HashSet<>();
+
+        Doc(ProductSummary product) {
+            this.product = product;
+            this.name = normalize(product.getName());
+            this.sku = normalize(product.getSku());
+            Set<String> grams = new LinkedHashSet<>();
+            addGrams(grams, name);
+            addGrams(grams, sku);
+            for (String word : name.split(" ")) {
+                for (int length = 1; length < GRAM && length <= word.length(); length++) {
+                    grams.add(WORD_START + word.substring(0, length));
+                }
+            }
+            this.grams = grams.toArray(new String[0]);
+            this.positions = new int[this.grams.length];
+        }
+
+        private static void addGrams(Set<String> grams, String text) {
+            for (int i = 0; i + GRAM <= text.length(); i++) {
+                grams.add(text.substring(i, i + GRAM));
+            }
+        }
+    }
+
+    private record Hit(Doc doc, int rank) implements Comparable<Hit> {
+
+        @Override
+        public int compareTo(Hit other) {
+            int result = Integer.compare(rank, other.rank);
+            if (result == 0) {
+                result = Integer.compare(doc.name.length(), other.doc.name.length());
+            }
+            if (result == 0) {
+                result = Long.compare(doc.product.getId(), other.doc.product.getId());
+            }
+            return result;
+        }
+    }
+
+    // Growable array of documents; far smaller than a HashSet for millions of postings, and a search reads the
+    // documents straight from it without a lookup per candidate.
+    // Each entry also remembers which of its document's grams the list belongs to. Removal moves the last entry into
+    // the freed slot and updates that document's position, so it takes constant time however long the list is.
+    private static class DocList {
+
+        private Doc[] values = new Doc[4];
+
+        private int[] gramIndexes = new int[4];
+
+        private int size;
+
+        void add(Doc value, int gramIndex) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+                gramIndexes = Arrays.copyOf(gramIndexes, size * 2);
+            }
+            values[size] = value;
+            gramIndexes[size] = gramIndex;
+            value.positions[gramIndex] = size++;
+        }
+
+        void remove(Doc value, int gramIndex) {
+            int position = value.positions[gramIndex];
+            int last = --size;
+            if (position != last) {
+                Doc moved = values[last];
+                values[position] = moved;
+                gramIndexes[position] = gramIndexes[last];
+                moved.positions[gramIndexes[last]] = position;
+            }
+            values[last] = null;
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.project.code.Service;
+
+import com.project.code.Model.Review;
+import com.project.code.Model.ReviewRollup;
+import com.project.code.Repo.ReviewRollupRepository;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.*;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+
+@Service
+public class ReviewRollupService {
+
+    @Autowired
+    private ReviewRollupRepository reviewRollupRepository;
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    // 1. **recordReview Method**:
+    //    - Adds one new review to the rollup of its product, creating the rollup if needed.
+    //    - A single atomic upsert with $inc, so concurrent reviews never lose an update.
+    public void recordReview(Review review) {
+        Query query = Query.query(Criteria.where("_id").is(ReviewRollup.key(review.getStoreId(), review.getProductId())));
+
+        Update update = new Update()
+                .setOnInsert("storeId", review.getStoreId())
+                .setOnInsert("productId", review.getProductId())
+                .inc("count", 1)
+                .inc("sum", review.getRating())
+                .inc("stars" + review.getRating(), 1);
+
+        mongoTemplate.upsert(query, update, ReviewRollup.class);
+    }
+
+    // 2. **getRollups Method**:
+    //    - Returns the rollups of many products in one store with one query.
+    //    - Products without any review get an empty rollup, so the result always has one entry per product ID.
+    public List<ReviewRollup> getRollups(Long storeId, Collection<Long> productIds) {
+        Map<Long, ReviewRollup> found = new HashMap<>();
+        for (ReviewRollup rollup : reviewRollupRepository.findByStoreIdAndProductIdIn(storeId, productIds)) {
+            found.put(rollup.getProductId(), rollup);
+        }
+
+        List<ReviewRollup> result = new ArrayList<>();
+        for (Long productId : new LinkedHashSet<>(productIds)) {
+            ReviewRollup rollup = found.get(productId);
+            if (rollup == null) {
+                rollup = new ReviewRollup();
+                rollup.setId(ReviewRollup.key(storeId, productId));
+                rollup.setStoreId(storeId);
+                rollup.setProductId(productId);
+            }
+            result.add(rollup);
+        }
+        return result;
+    }
+
+    // 3. **rebuild Method**:
+    //    - Recomputes every rollup from the `reviews` collection with one aggregation pipeline that runs inside MongoDB:
+    //      $group per (storeId, productId) -> $project to the rollup shape -> $merge into `review_rollups`.
+    //    - Repairs drift, e.g. after reviews were imported or deleted directly in the database.
+    //    - Runs nightly (`reviews.rollup.rebuild-cron`); reviews written while it runs may be overwritten by
+    //      the replaced rollup until the next rebuild.
+    @Scheduled(cron = "${reviews.rollup.rebuild-cron:0 0 3 * * *}")
+    public void rebuild() {
+        mongoTemplate.aggregate(rebuildPipeline(), "reviews", Document.class);
+    }
+
+    Aggregation rebuildPipeline() {
+        GroupOperation group = Aggregation.group("storeId", "productId")
+                .count().as("count")
+                .sum("rating").as("sum");
+        for (int stars = 1; stars <= 5; stars++) {
+            group = group.sum(ConditionalOperators.when(Criteria.where("rating").is(stars)).then(1).otherwise(0))
+                    .as("stars" + stars);
+        }
+
+        ProjectionOperation project = Aggregation.project("count", "sum", "stars1", "stars2", "stars3", "stars4", "stars5")
+                .and("_id.storeId").as("storeId")
+                .and("_id.productId").as("productId")
+                .and(StringOperators.Concat.valueOf(ConvertOperators.ToString.toString("$_id.storeId"))
+                        .concat(":")
+                        .concatValueOf(ConvertOperators.ToString.toString("$_id.productId"))).as("_id");
+
+        MergeOperation merge = Aggregation.merge()
+                .intoCollection("review_rollups")
+                .on("_id")
+                .whenMatched(MergeOperation.WhenDocumentsMatch.replaceDocument())
+                .whenNotMatched(MergeOperation.WhenDocumentsDontMatch.insertNewDocument())
+                .build();
+
+        return Aggregation.newAggregation(group, project, merge);
+    }
+}
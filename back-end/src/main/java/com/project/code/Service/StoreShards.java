@@ -0,0 +1,212 @@
+package com.project.code.Service;
+
+import com.project.code.config.ShardRoutingDataSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Supplier;
+
+// Maps stores to inventory shards and runs work on the right one (see ShardingConfig). Store `id` lives on shard
+// `id mod N`. Changing the number of shards moves most stores, so their rows have to be moved with them.
+//
+// Store-scoped work (a store's inventory reads and writes, an order) runs inside inStore(), which binds the thread to
+// the store's shard. The binding must be made before the work's transaction starts, so inStore() goes around the
+// transaction, never inside it; switching shards inside a transaction fails instead of silently using the wrong
+// database. Anything outside inStore() runs on shard 0, which holds the catalog.
+//
+// Without `inventory.shards.urls` there is a single shard and every method simply runs its work.
+@Service
+public class StoreShards {
+
+    public static final int HOME = 0;
+
+    private static final String[] PRODUCT_COLUMNS = {"sku", "name", "category", "price"};
+
+    private static final String[] STORE_COLUMNS = {"name", "address"};
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    @Qualifier("lookupExecutor")
+    private Executor lookupExecutor;
+
+    private final int count;
+
+    public StoreShards(@Value("${inventory.shards.urls:}") List<String> urls) {
+        this.count = 1 + (int) urls.stream().filter(url -> !url.isBlank()).count();
+    }
+
+    // 1. **count / shardOf Methods**:
+    //    - The number of shards, and the shard that owns a store. A null store id maps to shard 0, so the lookup
+    //      that reports the missing store still runs.
+    public int count() {
+        return count;
+    }
+
+    public int shardOf(Long storeId) {
+        return storeId == null ? HOME : (int) Math.floorMod(storeId, (long) count);
+    }
+
+    // 2. **inStore / inShard Methods**:
+    //    - Runs `action` with the current thread bound to the shard of `storeId` (or to `shard`), and restores the
+    //      previous binding afterwards. May be nested for the same shard.
+    //    - Throws IllegalStateException when called inside a transaction that runs on another shard.
+    public <T> T inStore(Long storeId, Supplier<T> action) {
+        return inShard(shardOf(storeId), action);
+    }
+
+    public void inStore(Long storeId, Runnable action) {
+        inShard(shardOf(storeId), () -> {
+            action.run();
+            return null;
+        });
+    }
+
+    public <T> T inShard(int shard, Supplier<T> action) {
+        if (count == 1) {
+            return action.get();
+        }
+        Integer previous = ShardRoutingDataSource.current();
+        int bound = previous == null ? HOME : previous;
+        if (bound != shard && TransactionSynchronizationManager.isActualTransactionActive()) {
+            throw new IllegalStateException("Can't switch to shard " + shard + " inside a transaction on shard " + bound);
+        }
+        ShardRoutingDataSource.use(shard);
+        try {
+            return action.get();
+        } finally {
+            ShardRoutingDataSource.use(previous);
+        }
+    }
+
+    // 3. **checkRouted Method**:
+    //    - Fails if the current thread isn't bound to the shard of `storeId`, for store-scoped transactional
+    //      methods whose callers have to route them (e.g. OrderService.saveOrder).
+    public void checkRouted(Long storeId) {
+        Integer bound = ShardRoutingDataSource.current();
+        if (count > 1 && shardOf(storeId) != (bound == null ? HOME : bound)) {
+            throw new IllegalStateException("Store " + storeId + " is on shard " + shardOf(storeId)
+                    + ", run this through StoreShards.inStore()");
+        }
+    }
+
+    // 4. **forEachShard / gather Methods**:
+    //    - forEachShard runs `action` on every shard in turn, on the calling thread. For work that writes to every
+    //      shard or streams results into shared state.
+    //    - gather runs `query` on every shard in parallel on the lookup executor and concatenates the results in
+    //      shard order (scatter-gather). A query that fails on any shard fails the whole call.
+    public void forEachShard(Runnable action) {
+        for (int shard = 0; shard < count; shard++) {
+            inShard(shard, () -> {
+                action.run();
+                return null;
+            });
+        }
+    }
+
+    public <T> List<T> gather(Supplier<? extends Collection<T>> query) {
+        if (count == 1) {
+            return new ArrayList<>(query.get());
+        }
+        List<CompletableFuture<? extends Collection<T>>> parts = new ArrayList<>();
+        for (int shard = 0; shard < count; shard++) {
+            int target = shard;
+            Supplier<? extends Collection<T>> part = () -> inShard(target, query);
+            try {
+                parts.add(CompletableFuture.supplyAsync(part, lookupExecutor));
+            } catch (RejectedExecutionException e) {
+                // The executor is saturated: run this shard's part here instead of failing the whole query.
+                parts.add(CompletableFuture.completedFuture(part.get()));
+            }
+        }
+
+        List<T> result = new ArrayList<>();
+        for (CompletableFuture<? extends Collection<T>> part : parts) {
+            try {
+                result.addAll(part.join());
+            } catch (CompletionException e) {
+                throw e.getCause() instanceof RuntimeException cause ? cause : e;
+            }
+        }
+        return result;
+    }
+
+    // 5. **syncProducts / syncStores Methods**:
+    //    - Makes the copies of the given products (or stores) on shards 1..N match shard 0: changed rows are
+    //      updated, new ones inserted with the same id, and rows deleted from shard 0 are deleted.
+    //    - Call after the change committed on shard 0, outside of a transaction, with up to a few thousand ids.
+    //    - A product can only be deleted from a shard once its inventory and order items there are gone.
+    public void syncProducts(Collection<Long> productIds) {
+        sync("product", PRODUCT_COLUMNS, productIds);
+    }
+
+    public void syncStores(Collection<Long> storeIds) {
+        sync("store", STORE_COLUMNS, storeIds);
+    }
+
+    private void sync(String table, String[] columns, Collection<Long> ids) {
+        if (count == 1 || ids.isEmpty()) {
+            return;
+        }
+        String placeholders = String.join(", ", Collections.nCopies(ids.size(), "?"));
+        String select = "SELECT " + String.join(", ", columns) + ", id FROM " + table + " WHERE id IN (" + placeholders + ")";
+        String update = "UPDATE " + table + " SET " + String.join(" = ?, ", columns) + " = ? WHERE id = ?";
+        String insert = "INSERT INTO " + table + " (" + String.join(", ", columns) + ", id) VALUES ("
+                + String.join(", ", Collections.nCopies(columns.length + 1, "?")) + ")";
+        String delete = "DELETE FROM " + table + " WHERE id = ?";
+
+        // Id -> column values followed by the id, as read from shard 0.
+        Map<Long, Object[]> rows = new HashMap<>();
+        inShard(HOME, () -> {
+            jdbcTemplate.query(select, resultSet -> {
+                Object[] row = new Object[columns.length + 1];
+                for (int i = 0; i < row.length; i++) {
+                    row[i] = resultSet.getObject(i + 1);
+                }
+                rows.put(resultSet.getLong(columns.length + 1), row);
+            }, ids.toArray());
+            return null;
+        });
+
+        List<Object[]> present = new ArrayList<>(rows.values());
+        List<Object[]> deleted = new ArrayList<>();
+        for (Long id : ids) {
+            if (!rows.containsKey(id)) {
+                deleted.add(new Object[]{id});
+            }
+        }
+        for (int shard = 1; shard < count; shard++) {
+            inShard(shard, () -> transactionTemplate.execute(status -> {
+                int[] updated = jdbcTemplate.batchUpdate(update, present);
+                List<Object[]> missing = new ArrayList<>();
+                for (int i = 0; i < updated.length; i++) {
+                    if (updated[i] == 0) {
+                        missing.add(present.get(i));
+                    }
+                }
+                jdbcTemplate.batchUpdate(insert, missing);
+                jdbcTemplate.batchUpdate(delete, deleted);
+                return null;
+            }));
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.project.code.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.project.code.Service.ProductCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    // Bounded, TTL-evicting caches in front of ProductRepository. Category lists are much bigger than single
+    // products, so that cache holds fewer entries. recordStats() makes Spring Boot publish hit/miss/eviction
+    // counters as the `cache.gets`, `cache.puts` and `cache.evictions` actuator metrics.
+    // Writes through ProductController/InventoryController evict precisely. Stock changes (checkouts, imports, the
+    // ledger flush) evict the products concerned through CatalogVersions.stockChanged(); only category lists whose
+    // products aren't cached by id may lag stock levels by up to the TTL.
+    @Bean
+    public CacheManager cacheManager(@Value("${product.cache.max-size:10000}") long maxSize,
+                                     @Value("${product.cache.category-max-size:200}") long categoryMaxSize,
+                                     @Value("${product.cache.ttl:10m}") Duration ttl) {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        cacheManager.registerCustomCache(ProductCache.BY_ID,
+                Caffeine.newBuilder().maximumSize(maxSize).expireAfterWrite(ttl).recordStats().build());
+        cacheManager.registerCustomCache(ProductCache.BY_CATEGORY,
+                Caffeine.newBuilder().maximumSize(categoryMaxSize).expireAfterWrite(ttl).recordStats().build());
+        return cacheManager;
+    }
+}
@@ -0,0 +1,32 @@
+package com.project.code.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.core.env.Environment;
+
+// Connection pools for the DataSources that replace Spring Boot's single one (read replicas, inventory shards).
+// They are plain objects rather than beans, so the SQL monitoring proxy wraps only the DataSource built on top of them.
+final class DataSourcePools {
+
+    private DataSourcePools() {
+    }
+
+    // The pool of spring.datasource.*, with the spring.datasource.hikari.* settings, as Spring Boot would create it.
+    static HikariDataSource primary(DataSourceProperties properties, Environment environment) {
+        HikariDataSource primary = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        Binder.get(environment).bind("spring.datasource.hikari", Bindable.ofInstance(primary));
+        return primary;
+    }
+
+    static HikariDataSource pool(String name, String url, String username, String password, int maximumPoolSize) {
+        HikariDataSource pool = new HikariDataSource();
+        pool.setPoolName(name);
+        pool.setJdbcUrl(url.trim());
+        pool.setUsername(username);
+        pool.setPassword(password);
+        pool.setMaximumPoolSize(maximumPoolSize);
+        return pool;
+    }
+}
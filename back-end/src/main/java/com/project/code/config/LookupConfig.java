@@ -0,0 +1,46 @@
+package com.project.code.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+@Configuration
+public class LookupConfig {
+
+    // Runs the independent lookups of one request in parallel (see ConcurrentLookups). Fixed size and a bounded
+    // queue: when every thread is busy and the queue is full, new lookups are rejected and fall back right away
+    // instead of piling up behind a slow database.
+    @Bean
+    @ConditionalOnThreading(Threading.PLATFORM)
+    public ThreadPoolTaskExecutor lookupExecutor(@Value("${lookup.executor.pool-size:16}") int poolSize,
+                                                 @Value("${lookup.executor.queue-capacity:200}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.setThreadNamePrefix("lookup-");
+        // Count the SQL of a lookup in the stats of the request that started it (see SqlRequestStats).
+        executor.setTaskDecorator(SqlRequestStats::propagate);
+        return executor;
+    }
+
+    // In virtual-thread mode every lookup gets its own virtual thread, so a lookup blocked on JDBC or MongoDB doesn't
+    // hold a platform thread either. At most `concurrency-limit` lookups run at once; further ones wait (on their
+    // request's virtual thread) for a slot instead of being rejected.
+    @Bean(name = "lookupExecutor")
+    @ConditionalOnThreading(Threading.VIRTUAL)
+    public SimpleAsyncTaskExecutor virtualLookupExecutor(@Value("${lookup.executor.concurrency-limit:200}") int concurrencyLimit) {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("lookup-");
+        executor.setVirtualThreads(true);
+        executor.setConcurrencyLimit(concurrencyLimit);
+        executor.setTaskDecorator(SqlRequestStats::propagate);
+        return executor;
+    }
+}
@@ -0,0 +1,24 @@
+package com.project.code.config;
+
+import io.micrometer.core.instrument.Tags;
+import org.springframework.boot.actuate.metrics.data.DefaultRepositoryTagsProvider;
+import org.springframework.boot.actuate.metrics.data.RepositoryTagsProvider;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class MetricsConfig {
+
+    // Latency metrics, all published with percentile histograms (see management.metrics.distribution.* in
+    // application.properties) and scraped from /actuator/prometheus:
+    //    - http.server.requests: every controller endpoint, tagged by uri, HTTP method, status and outcome.
+    //    - service.invocations: every OrderService and ServiceClass method (see ServiceMetrics).
+    //    - spring.data.repository.invocations: every repository method. Spring Boot tags it by repository, method
+    //      and state; the extra `outcome` tag (SUCCESS/ERROR) lets one query break down all three by outcome.
+    @Bean
+    public RepositoryTagsProvider repositoryTagsProvider() {
+        DefaultRepositoryTagsProvider defaults = new DefaultRepositoryTagsProvider();
+        return invocation -> Tags.of(defaults.repositoryTags(invocation))
+                .and("outcome", invocation.getResult() == null ? "UNKNOWN" : invocation.getResult().getState().name());
+    }
+}
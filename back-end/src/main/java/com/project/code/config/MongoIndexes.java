@@ -0,0 +1,53 @@
+package com.project.code.config;
+
+import com.project.code.Model.Review;
+import com.project.code.Model.ReviewRollup;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.index.IndexResolver;
+import org.springframework.data.mongodb.core.index.MongoPersistentEntityIndexResolver;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+// Creates the indexes declared on the MongoDB documents (@CompoundIndex etc.) once the application has started.
+// Spring Data no longer creates them automatically. Creating an index that already exists is a no-op.
+//
+// Runs on a background thread so a MongoDB that is down or slow never delays startup; the failure is logged and the
+// indexes are created on the next start. Disable with `mongodb.ensure-indexes=false`.
+@Component
+@ConditionalOnProperty(name = "mongodb.ensure-indexes", havingValue = "true", matchIfMissing = true)
+public class MongoIndexes {
+
+    private static final List<Class<?>> DOCUMENTS = List.of(Review.class, ReviewRollup.class);
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Autowired
+    private MongoMappingContext mappingContext;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void ensureIndexesInBackground() {
+        Thread thread = new Thread(this::ensureIndexes, "mongo-indexes");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    public void ensureIndexes() {
+        IndexResolver resolver = new MongoPersistentEntityIndexResolver(mappingContext);
+        try {
+            for (Class<?> document : DOCUMENTS) {
+                IndexOperations indexOperations = mongoTemplate.indexOps(document);
+                resolver.resolveIndexFor(document).forEach(indexOperations::ensureIndex);
+            }
+        } catch (RuntimeException e) {
+            System.out.println("Could not create MongoDB indexes: " + e);
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.project.code.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpMethod;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+
+// Staleness guard for read replicas: a client that just changed something must not read an older copy of it from a
+// replica that hasn't caught up yet. So:
+//    - every request that isn't a GET or HEAD runs entirely on the primary, including the lookups it makes before
+//      writing (e.g. duplicate checks), and marks its client as a recent writer;
+//    - GETs of a client that wrote in the last `replica.stick-to-primary-after-write` run on the primary as well;
+//    - so do conditional GETs of data that anyone changed within that time (see CatalogVersions), because their ETag
+//      already announces the change.
+// Clients are told apart by their address (behind a proxy, set server.forward-headers-strategy so it is the real
+// one). Recent writers are remembered per instance, so a load balancer should keep a client on one instance.
+// Response bodies written on another thread (StreamingResponseBody) aren't pinned.
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+    private final Cache<String, Boolean> recentWriters;
+
+    public ReadYourWritesFilter(Duration stickToPrimaryAfterWrite, long maxClients) {
+        this.recentWriters = Caffeine.newBuilder()
+                .expireAfterWrite(stickToPrimaryAfterWrite)
+                .maximumSize(maxClients)
+                .build();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String client = request.getRemoteAddr();
+        boolean read = HttpMethod.GET.matches(request.getMethod()) || HttpMethod.HEAD.matches(request.getMethod());
+        ReplicaRoutingDataSource.pinToPrimary(!read || recentWriters.getIfPresent(client) != null);
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            ReplicaRoutingDataSource.pinToPrimary(false);
+            if (!read) {
+                recentWriters.put(client, Boolean.TRUE);
+            }
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.project.code.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.env.Environment;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+@Configuration
+@ConditionalOnExpression("!'${replica.datasource.urls:}'.isBlank()")
+public class ReplicaRoutingConfig {
+
+    // Read replica mode, on when `replica.datasource.urls` lists at least one replica: the DataSource becomes a
+    // ReplicaRoutingDataSource over the primary (spring.datasource.*, pooled with the spring.datasource.hikari.*
+    // settings) and one pool per replica, and read-only transactions are served by the replicas.
+    @Bean
+    public ReplicaRoutingDataSource dataSource(DataSourceProperties properties, Environment environment,
+                                               @Value("${replica.datasource.urls}") List<String> urls,
+                                               @Value("${replica.datasource.username:${spring.datasource.username:}}") String username,
+                                               @Value("${replica.datasource.password:${spring.datasource.password:}}") String password,
+                                               @Value("${replica.datasource.maximum-pool-size:20}") int poolSize) {
+        HikariDataSource primary = DataSourcePools.primary(properties, environment);
+
+        List<HikariDataSource> replicas = new ArrayList<>();
+        for (String url : urls) {
+            HikariDataSource replica = DataSourcePools.pool("replica-" + replicas.size(), url, username, password, poolSize);
+            replica.setReadOnly(true);
+            replicas.add(replica);
+        }
+        return new ReplicaRoutingDataSource(primary, replicas);
+    }
+
+    @Bean
+    public FilterRegistrationBean<ReadYourWritesFilter> readYourWritesFilter(
+            @Value("${replica.stick-to-primary-after-write:5s}") Duration stickToPrimaryAfterWrite,
+            @Value("${replica.max-tracked-clients:100000}") long maxClients) {
+        FilterRegistrationBean<ReadYourWritesFilter> registration =
+                new FilterRegistrationBean<>(new ReadYourWritesFilter(stickToPrimaryAfterWrite, maxClients));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 1);
+        return registration;
+    }
+}
@@ -0,0 +1,79 @@
+package com.project.code.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import java.io.Closeable;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// The application's DataSource when read replicas are configured (see ReplicaRoutingConfig).
+//
+// Connections are handed out lazily: the physical connection is only taken when the first statement runs, by which
+// time the transaction has marked it read-only or not. Read-write transactions and statements outside a transaction
+// use the primary. Read-only transactions use the replicas, round robin, unless the current thread is pinned to the
+// primary (pinToPrimary(), see ReadYourWritesFilter).
+public class ReplicaRoutingDataSource extends LazyConnectionDataSourceProxy implements Closeable {
+
+    private static final String PRIMARY = "primary";
+
+    private static final ThreadLocal<Boolean> PINNED = new ThreadLocal<>();
+
+    private final List<HikariDataSource> pools = new ArrayList<>();
+
+    public ReplicaRoutingDataSource(HikariDataSource primary, List<HikariDataSource> replicas) {
+        super(primary);
+        pools.add(primary);
+        pools.addAll(replicas);
+
+        ReadOnlyRouter router = new ReadOnlyRouter(replicas.size());
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(PRIMARY, primary);
+        for (int i = 0; i < replicas.size(); i++) {
+            targets.put(i, replicas.get(i));
+        }
+        router.setTargetDataSources(targets);
+        router.afterPropertiesSet();
+        setReadOnlyDataSource(router);
+    }
+
+    // 1. **pinToPrimary Method**:
+    //    - Sends the read-only transactions of the current thread to the primary too (pinned = true), or back to
+    //      the replicas (pinned = false).
+    public static void pinToPrimary(boolean pinned) {
+        if (pinned) {
+            PINNED.set(Boolean.TRUE);
+        } else {
+            PINNED.remove();
+        }
+    }
+
+    @Override
+    public void close() {
+        pools.forEach(HikariDataSource::close);
+    }
+
+    // Picks the replica of a read-only connection, or the primary for a pinned thread.
+    private static class ReadOnlyRouter extends AbstractRoutingDataSource {
+
+        private final int replicas;
+
+        private final AtomicInteger next = new AtomicInteger();
+
+        ReadOnlyRouter(int replicas) {
+            this.replicas = replicas;
+        }
+
+        @Override
+        protected Object determineCurrentLookupKey() {
+            if (PINNED.get() != null) {
+                return PRIMARY;
+            }
+            return Math.floorMod(next.getAndIncrement(), replicas);
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package com.project.code.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+    // Enables @Scheduled background jobs, e.g. the write-behind flush of InventoryLedger.
+}
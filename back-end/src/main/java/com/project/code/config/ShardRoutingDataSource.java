@@ -0,0 +1,57 @@
+package com.project.code.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import java.io.Closeable;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// The application's DataSource in inventory shard mode (see ShardingConfig): hands out connections of the shard the
+// current thread is bound to with use(), or of shard 0 when it isn't bound. StoreShards binds the thread around
+// store-scoped work.
+//
+// The shard is picked when a connection is taken, i.e. when a transaction starts. A transaction stays on its shard
+// even if the binding changes before it ends, so the binding has to be made before the transaction starts.
+public class ShardRoutingDataSource extends AbstractRoutingDataSource implements Closeable {
+
+    private static final ThreadLocal<Integer> SHARD = new ThreadLocal<>();
+
+    private final List<HikariDataSource> shards;
+
+    public ShardRoutingDataSource(List<HikariDataSource> shards) {
+        this.shards = shards;
+        Map<Object, Object> targets = new HashMap<>();
+        for (int i = 0; i < shards.size(); i++) {
+            targets.put(i, shards.get(i));
+        }
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(shards.get(0));
+        afterPropertiesSet();
+    }
+
+    // 1. **use / current Methods**:
+    //    - Binds the current thread to a shard (null unbinds it), and returns the shard it is bound to (or null).
+    public static void use(Integer shard) {
+        if (shard == null) {
+            SHARD.remove();
+        } else {
+            SHARD.set(shard);
+        }
+    }
+
+    public static Integer current() {
+        return SHARD.get();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return SHARD.get();
+    }
+
+    @Override
+    public void close() {
+        shards.forEach(HikariDataSource::close);
+    }
+}
@@ -0,0 +1,21 @@
+package com.project.code.config;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+// Generates the id of an entity from a pooled sequence (like @SequenceGenerator with the same name and
+// allocationSize), with one id block per inventory shard; see ShardedSequenceGenerator.
+@IdGeneratorType(ShardedSequenceGenerator.class)
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.FIELD, ElementType.METHOD})
+public @interface ShardedSequence {
+
+    // The sequence, e.g. `order_details_seq` (a one-row table of that name on MySQL).
+    String name();
+
+    int allocationSize() default 50;
+}
@@ -0,0 +1,59 @@
+package com.project.code.config;
+
+import org.hibernate.HibernateException;
+import org.hibernate.MappingException;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.factory.spi.CustomIdGeneratorCreationContext;
+import org.hibernate.id.enhanced.Optimizer;
+import org.hibernate.id.enhanced.OptimizerFactory;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
+import org.hibernate.id.enhanced.StandardOptimizerDescriptor;
+import org.hibernate.service.ServiceRegistry;
+import org.hibernate.type.Type;
+
+import java.lang.reflect.Member;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Id generator of @ShardedSequence: a pooled sequence generator that is safe with inventory shards (see
+// ShardingConfig).
+//
+// All shards share one SessionFactory, but every shard has its own `*_seq` sequence. A single pooled optimizer
+// would mix id blocks fetched from different shards and hand out the same ids twice. Instead, every shard gets its own
+// optimizer, refilled only from that shard's sequence (the shard the current thread is bound to, which is the shard
+// of its transaction). The shard number is put into the top bits of the id, above SHARD_SHIFT, so ids are unique
+// across all shards and show where a row lives. Shard 0, and the application without shards, get plain sequence
+// values, so existing ids don't change. With up to 32 shards the ids stay below 2^53 and survive JavaScript clients.
+public class ShardedSequenceGenerator extends SequenceStyleGenerator {
+
+    public static final int SHARD_SHIFT = 48;
+
+    private final ShardedSequence config;
+
+    private final Map<Integer, Optimizer> shardOptimizers = new ConcurrentHashMap<>();
+
+    public ShardedSequenceGenerator(ShardedSequence config, Member member, CustomIdGeneratorCreationContext context) {
+        this.config = config;
+    }
+
+    @Override
+    public void configure(Type type, Properties parameters, ServiceRegistry serviceRegistry) throws MappingException {
+        parameters.setProperty(SEQUENCE_PARAM, config.name());
+        parameters.setProperty(INCREMENT_PARAM, Integer.toString(config.allocationSize()));
+        parameters.setProperty(OPT_PARAM, StandardOptimizerDescriptor.POOLED.getExternalName());
+        super.configure(type, parameters, serviceRegistry);
+    }
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object object) throws HibernateException {
+        Integer shard = ShardRoutingDataSource.current();
+        if (shard == null || shard == 0) {
+            return super.generate(session, object);
+        }
+        Optimizer optimizer = shardOptimizers.computeIfAbsent(shard, s -> OptimizerFactory.buildOptimizer(
+                StandardOptimizerDescriptor.POOLED, Long.class, config.allocationSize(), -1));
+        long value = ((Number) optimizer.generate(getDatabaseStructure().buildCallback(session))).longValue();
+        return ((long) shard << SHARD_SHIFT) | value;
+    }
+}
@@ -0,0 +1,68 @@
+package com.project.code.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.flywaydb.core.Flyway;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.flyway.FlywayMigrationStrategy;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// Inventory shard mode, on when `inventory.shards.urls` lists at least one more database. Every store belongs to
+// one shard (see StoreShards.shardOf()); shard 0 is spring.datasource, shards 1..N the listed databases, all with
+// the same schema:
+//    - Per store, on the store's shard: its inventory records, orders, order items and customers, inventory ledger
+//      entries, order outbox rows and idempotency records. Orders, order items, ledger entries and outbox rows get
+//      ids that are unique across shards (see ShardedSequenceGenerator); inventory and customer ids are only unique
+//      within a shard.
+//    - Shard 0 holds the catalog: products and stores are created and changed there and copied to the other shards
+//      (StoreShards.syncProducts/syncStores), where the inventory and order tables reference them.
+//    - Cross-store work (the product search index, the inventory ledger counters and flush, the order outbox
+//      dispatcher, deleting a product's inventory) runs on every shard and merges the results.
+// The inventory embedded in full product responses (GET /product/product/{id}, GET /product, ...) only lists
+// shard 0's records; per-store stock comes from GET /inventory/{storeId}.
+// Can't be combined with read replicas (replica.datasource.urls) yet.
+@Configuration
+@ConditionalOnExpression("!'${inventory.shards.urls:}'.isBlank()")
+public class ShardingConfig {
+
+    @Bean
+    public ShardRoutingDataSource dataSource(DataSourceProperties properties, Environment environment,
+                                             @Value("${inventory.shards.urls}") List<String> urls,
+                                             @Value("${inventory.shards.username:${spring.datasource.username:}}") String username,
+                                             @Value("${inventory.shards.password:${spring.datasource.password:}}") String password,
+                                             @Value("${inventory.shards.maximum-pool-size:20}") int poolSize,
+                                             @Value("${replica.datasource.urls:}") String replicaUrls) {
+        if (!replicaUrls.isBlank()) {
+            throw new IllegalStateException("inventory.shards.urls and replica.datasource.urls can't be used together");
+        }
+
+        List<HikariDataSource> shards = new ArrayList<>();
+        shards.add(DataSourcePools.primary(properties, environment));
+        for (String url : urls) {
+            shards.add(DataSourcePools.pool("shard-" + shards.size(), url, username, password, poolSize));
+        }
+        return new ShardRoutingDataSource(shards);
+    }
+
+    // Runs the Flyway migrations on every shard, so they all have the same schema.
+    @Bean
+    public FlywayMigrationStrategy migrateEveryShard(@Value("${inventory.shards.urls}") List<String> urls) {
+        return flyway -> {
+            flyway.migrate();
+            for (int shard = 1; shard <= urls.size(); shard++) {
+                ShardRoutingDataSource.use(shard);
+                try {
+                    Flyway.configure().configuration(flyway.getConfiguration()).load().migrate();
+                } finally {
+                    ShardRoutingDataSource.use(null);
+                }
+            }
+        };
+    }
+}
@@ -0,0 +1,76 @@
+package com.project.code.config;
+
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import javax.sql.DataSource;
+import java.sql.ResultSet;
+
+@Configuration
+@ConditionalOnProperty(name = "sql.monitoring.enabled", havingValue = "true", matchIfMissing = true)
+public class SqlMonitoringConfig {
+
+    // Wraps the DataSource in a JDBC proxy that adds every statement run by a request to its SqlRequestStats:
+    // executions (a JDBC batch counts once, it is one round trip), database time and rows changed by an
+    // UPDATE/INSERT/DELETE. Outside of a request nothing is recorded.
+    // Rows read are only counted with `sql.monitoring.count-rows-read=true`: that proxies every ResultSet call and
+    // makes reading large results several times slower (see StoreInventoryBenchmark), so it is meant for tests.
+    // The proxy is a ProxyDataSource, whose close() closes the connection pools behind it on shutdown.
+    @Bean
+    public static BeanPostProcessor sqlMonitoringDataSourcePostProcessor(
+            @Value("${sql.monitoring.count-rows-read:false}") boolean countRowsRead) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof DataSource dataSource)) {
+                    return bean;
+                }
+                ProxyDataSourceBuilder builder = ProxyDataSourceBuilder.create(beanName, dataSource)
+                        .afterQuery((execution, queries) -> {
+                            SqlRequestStats stats = SqlRequestStats.current();
+                            if (stats == null) {
+                                return;
+                            }
+                            stats.execution(queries.stream().map(QueryInfo::getQuery).toList(), execution.getElapsedTime());
+                            if (execution.getResult() instanceof Number updated) {
+                                stats.rows(Math.max(updated.longValue(), 0));
+                            } else if (execution.getResult() instanceof int[] batch) {
+                                for (int updated : batch) {
+                                    stats.rows(Math.max(updated, 0));
+                                }
+                            }
+                        });
+                if (countRowsRead) {
+                    builder.proxyResultSet()
+                            .afterMethod(method -> {
+                                if (method.getTarget() instanceof ResultSet && "next".equals(method.getMethod().getName())
+                                        && Boolean.TRUE.equals(method.getResult())) {
+                                    SqlRequestStats stats = SqlRequestStats.current();
+                                    if (stats != null) {
+                                        stats.rows(1);
+                                    }
+                                }
+                            });
+                }
+                return builder.build();
+            }
+        };
+    }
+
+    @Bean
+    public FilterRegistrationBean<SqlRequestFilter> sqlRequestFilter(
+            @Value("${sql.monitoring.response-headers:false}") boolean responseHeaders,
+            @Value("${sql.monitoring.repeated-statement-threshold:10}") long repeatedStatementThreshold) {
+        FilterRegistrationBean<SqlRequestFilter> registration =
+                new FilterRegistrationBean<>(new SqlRequestFilter(responseHeaders, repeatedStatementThreshold));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+}
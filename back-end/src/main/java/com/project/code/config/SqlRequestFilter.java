@@ -0,0 +1,125 @@
+package com.project.code.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.Map;
+
+// Counts the SQL of every HTTP request (see SqlRequestStats) and reports it:
+//    - as the request attribute STATS, which holds the request's SqlRequestStats and is complete once the filter has
+//      returned. Tests read it (see QueryBudget in the tests).
+//    - as response headers when `sql.monitoring.response-headers=true`: X-Sql-Statements, X-Sql-Rows,
+//      X-Sql-Time-Ms and X-Sql-Max-Repeat. Headers have to be sent before the body, so they cover the SQL run up to
+//      the first byte of the response and miss whatever a streamed response reads after that.
+//    - as a log line for every request whose statement shapes repeat more than
+//      `sql.monitoring.repeated-statement-threshold` times, naming the statements (likely N+1 queries).
+public class SqlRequestFilter extends OncePerRequestFilter {
+
+    public static final String STATEMENTS = "X-Sql-Statements";
+
+    public static final String ROWS = "X-Sql-Rows";
+
+    public static final String TIME_MS = "X-Sql-Time-Ms";
+
+    public static final String MAX_REPEAT = "X-Sql-Max-Repeat";
+
+    public static final String STATS = SqlRequestStats.class.getName();
+
+    private final boolean responseHeaders;
+
+    private final long repeatedStatementThreshold;
+
+    public SqlRequestFilter(boolean responseHeaders, long repeatedStatementThreshold) {
+        this.responseHeaders = responseHeaders;
+        this.repeatedStatementThreshold = repeatedStatementThreshold;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        SqlRequestStats stats = SqlRequestStats.start();
+        request.setAttribute(STATS, stats);
+        StatsHeaderResponse wrapped = new StatsHeaderResponse(response, stats);
+        try {
+            chain.doFilter(request, responseHeaders ? wrapped : response);
+        } finally {
+            SqlRequestStats.stop();
+            if (responseHeaders) {
+                wrapped.writeHeaders();
+            }
+            Map<String, Long> repeated = stats.repeatedMoreThan(repeatedStatementThreshold);
+            if (!repeated.isEmpty()) {
+                System.out.println("Possible N+1 in " + request.getMethod() + " " + request.getRequestURI() + ": "
+                        + stats.getStatements() + " statements, repeated " + repeated);
+            }
+        }
+    }
+
+    // Adds the headers just before the response is committed.
+    private static class StatsHeaderResponse extends HttpServletResponseWrapper {
+
+        private final SqlRequestStats stats;
+
+        private boolean written;
+
+        StatsHeaderResponse(HttpServletResponse response, SqlRequestStats stats) {
+            super(response);
+            this.stats = stats;
+        }
+
+        void writeHeaders() {
+            if (written || isCommitted()) {
+                return;
+            }
+            written = true;
+            HttpServletResponse response = (HttpServletResponse) getResponse();
+            response.setHeader(STATEMENTS, Long.toString(stats.getStatements()));
+            response.setHeader(ROWS, Long.toString(stats.getRows()));
+            response.setHeader(TIME_MS, Long.toString(stats.getTimeMillis()));
+            response.setHeader(MAX_REPEAT, Long.toString(stats.getMaxRepeat()));
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            writeHeaders();
+            return super.getOutputStream();
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            writeHeaders();
+            return super.getWriter();
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            writeHeaders();
+            super.flushBuffer();
+        }
+
+        @Override
+        public void sendError(int sc, String msg) throws IOException {
+            writeHeaders();
+            super.sendError(sc, msg);
+        }
+
+        @Override
+        public void sendError(int sc) throws IOException {
+            writeHeaders();
+            super.sendError(sc);
+        }
+
+        @Override
+        public void sendRedirect(String location) throws IOException {
+            writeHeaders();
+            super.sendRedirect(location);
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package com.project.code.config;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+
+// SQL executed on behalf of one HTTP request (see SqlRequestFilter): statements, rows written (and read, see
+// SqlMonitoringConfig), database time, and how often each statement shape ran. A shape is the statement text with
+// IN lists collapsed, so `WHERE id IN (?, ?)` and `WHERE id IN (?, ?, ?)` count as the same statement. A shape that
+// repeats many times in one request is usually an N+1: a query per row of an earlier result instead of one query
+// for all of them.
+//
+// The stats of the running request are kept per thread. Lookups the request hands to another thread are counted as
+// long as the task is wrapped with propagate() (the lookup executor does this, see LookupConfig).
+public class SqlRequestStats {
+
+    private static final ThreadLocal<SqlRequestStats> CURRENT = new ThreadLocal<>();
+
+    private static final Pattern IN_LIST = Pattern.compile("\\?(\\s*,\\s*\\?)+");
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private final LongAdder statements = new LongAdder();
+
+    private final LongAdder rows = new LongAdder();
+
+    private final LongAdder timeMillis = new LongAdder();
+
+    private final Map<String, LongAdder> shapes = new ConcurrentHashMap<>();
+
+    // 1. **start Method**:
+    //    - Starts counting the SQL of the current thread and returns the new stats.
+    public static SqlRequestStats start() {
+        SqlRequestStats stats = new SqlRequestStats();
+        CURRENT.set(stats);
+        return stats;
+    }
+
+    // 2. **stop Method**:
+    //    - Stops counting the SQL of the current thread.
+    public static void stop() {
+        CURRENT.remove();
+    }
+
+    // 3. **current Method**:
+    //    - Returns the stats SQL of the current thread is counted in, or null.
+    public static SqlRequestStats current() {
+        return CURRENT.get();
+    }
+
+    // 4. **propagate Method**:
+    //    - Wraps a task so the SQL it runs on another thread is counted in the stats of the thread that created it.
+    public static Runnable propagate(Runnable task) {
+        SqlRequestStats stats = CURRENT.get();
+        if (stats == null) {
+            return task;
+        }
+        return () -> {
+            SqlRequestStats previous = CURRENT.get();
+            CURRENT.set(stats);
+            try {
+                task.run();
+            } finally {
+                CURRENT.set(previous);
+            }
+        };
+    }
+
+    // One execution (one round trip) of the statements `sqls`: a single statement, or the statements of a batch.
+    void execution(List<String> sqls, long elapsedMillis) {
+        statements.increment();
+        timeMillis.add(elapsedMillis);
+        for (String sql : sqls) {
+            shapes.computeIfAbsent(shape(sql), s -> new LongAdder()).increment();
+        }
+    }
+
+    void rows(long count) {
+        rows.add(count);
+    }
+
+    public long getStatements() {
+        return statements.sum();
+    }
+
+    public long getRows() {
+        return rows.sum();
+    }
+
+    public long getTimeMillis() {
+        return timeMillis.sum();
+    }
+
+    // The number of times the most repeated statement shape ran.
+    public long getMaxRepeat() {
+        long max = 0;
+        for (LongAdder count : shapes.values()) {
+            max = Math.max(max, count.sum());
+        }
+        return max;
+    }
+
+    // Statement shapes that ran more than `threshold` times, with their counts.
+    public Map<String, Long> repeatedMoreThan(long threshold) {
+        Map<String, Long> repeated = new LinkedHashMap<>();
+        shapes.forEach((shape, count) -> {
+            if (count.sum() > threshold) {
+                repeated.put(shape, count.sum());
+            }
+        });
+        return repeated;
+    }
+
+    static String shape(String sql) {
+        return IN_LIST.matcher(WHITESPACE.matcher(sql.trim()).replaceAll(" ")).replaceAll("?");
+    }
+}
@@ -0,0 +1,20 @@
+-- Upgrade of a database created by `ddl-auto=update` before migrations existed. Such a database is baselined at 1, so
+-- V1 never ran on it: add the tables it lacks. On a database created by V1 they already exist and nothing happens.
+-- Its order_details and order_item ids are still AUTO_INCREMENT columns; that is harmless, Hibernate now inserts
+-- the ids from the pooled sequences explicitly and V1_3 moves those past the existing rows.
+
+CREATE TABLE IF NOT EXISTS inventory_ledger_entry (
+    id BIGINT NOT NULL,
+    product_id BIGINT,
+    store_id BIGINT,
+    quantity INTEGER,
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE IF NOT EXISTS idempotency_record (
+    idempotency_key VARCHAR(100) NOT NULL,
+    fingerprint VARCHAR(64) NOT NULL,
+    response VARCHAR(2000),
+    created_at DATETIME(6),
+    PRIMARY KEY (idempotency_key)
+);
@@ -0,0 +1,77 @@
+-- Baseline: the schema as `spring.jpa.hibernate.ddl-auto=update` created it before migrations were introduced.
+-- Existing databases are baselined at this version (spring.flyway.baseline-on-migrate) and skip this script.
+-- Plain SQL accepted by both MySQL (InnoDB, the default engine) and H2, which the tests and benchmarks run on.
+-- The id sequences differ between the two and are created by V1_1 in db/migration/{mysql,h2}.
+
+CREATE TABLE store (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    address VARCHAR(255) NOT NULL,
+    name VARCHAR(255) NOT NULL,
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE product (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    category VARCHAR(255) NOT NULL,
+    name VARCHAR(255) NOT NULL,
+    price FLOAT(53) NOT NULL,
+    sku VARCHAR(255) NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_product_sku UNIQUE (sku)
+);
+
+CREATE TABLE inventory (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    product_id BIGINT NOT NULL,
+    store_id BIGINT NOT NULL,
+    stock_level INTEGER,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_inventory_product FOREIGN KEY (product_id) REFERENCES product (id),
+    CONSTRAINT fk_inventory_store FOREIGN KEY (store_id) REFERENCES store (id)
+);
+
+CREATE TABLE customer (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    email VARCHAR(255) NOT NULL,
+    name VARCHAR(255) NOT NULL,
+    phone VARCHAR(255) NOT NULL,
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE order_details (
+    id BIGINT NOT NULL,
+    customer_id BIGINT,
+    store_id BIGINT,
+    total_price FLOAT(53),
+    date DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT fk_order_details_customer FOREIGN KEY (customer_id) REFERENCES customer (id),
+    CONSTRAINT fk_order_details_store FOREIGN KEY (store_id) REFERENCES store (id)
+);
+
+CREATE TABLE order_item (
+    id BIGINT NOT NULL,
+    order_id BIGINT,
+    product_id BIGINT,
+    price FLOAT(53),
+    quantity INTEGER,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_order_item_order FOREIGN KEY (order_id) REFERENCES order_details (id),
+    CONSTRAINT fk_order_item_product FOREIGN KEY (product_id) REFERENCES product (id)
+);
+
+CREATE TABLE inventory_ledger_entry (
+    id BIGINT NOT NULL,
+    product_id BIGINT,
+    store_id BIGINT,
+    quantity INTEGER,
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE idempotency_record (
+    idempotency_key VARCHAR(100) NOT NULL,
+    fingerprint VARCHAR(64) NOT NULL,
+    response VARCHAR(2000),
+    created_at DATETIME(6),
+    PRIMARY KEY (idempotency_key)
+);
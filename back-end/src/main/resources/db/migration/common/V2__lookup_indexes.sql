@@ -0,0 +1,25 @@
+-- Indexes for the hot lookups, checked by QueryPlanTests:
+--    - inventory (store_id, product_id): findByProduct_IdAndStore_Id, the stock decrements of every order and all
+--      per-store listings (store_id prefix). Unique: a store has one stock level per product.
+--    - product (name), product (category): findByName, findByCategory and the category filters.
+--    - customer (email): findByEmail, run by every order.
+
+-- Rows created before the pair was unique: the oldest row of each (store, product) takes the summed stock of all its
+-- duplicates, then the others are deleted. The derived tables let MySQL read the table it updates.
+UPDATE inventory
+SET stock_level = (SELECT totals.stock_level FROM (SELECT store_id, product_id, SUM(stock_level) AS stock_level
+                                                   FROM inventory GROUP BY store_id, product_id) totals
+                   WHERE totals.store_id = inventory.store_id AND totals.product_id = inventory.product_id)
+WHERE id IN (SELECT kept.id FROM (SELECT MIN(id) AS id FROM inventory GROUP BY store_id, product_id
+                                  HAVING COUNT(*) > 1) kept);
+
+DELETE FROM inventory
+WHERE id NOT IN (SELECT kept.id FROM (SELECT MIN(id) AS id FROM inventory GROUP BY store_id, product_id) kept);
+
+ALTER TABLE inventory ADD CONSTRAINT uk_inventory_store_product UNIQUE (store_id, product_id);
+
+CREATE INDEX idx_product_name ON product (name);
+
+CREATE INDEX idx_product_category ON product (category);
+
+CREATE INDEX idx_customer_email ON customer (email);
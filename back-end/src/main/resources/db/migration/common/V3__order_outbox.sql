@@ -0,0 +1,13 @@
+-- Transactional outbox of placed orders (see OrderOutbox): one row per order, inserted in the order's transaction
+-- and deleted once every OrderEventConsumer has handled it. The items are read from order_item when the row is
+-- dispatched, so no payload is stored here. Rows that reached order.outbox.max-attempts stay as dead letters.
+CREATE TABLE order_outbox (
+    id BIGINT NOT NULL,
+    order_id BIGINT NOT NULL,
+    store_id BIGINT NOT NULL,
+    customer_id BIGINT,
+    total_price FLOAT(53),
+    created_at DATETIME(6) NOT NULL,
+    attempts INTEGER NOT NULL,
+    PRIMARY KEY (id)
+);
@@ -0,0 +1,6 @@
+-- Pooled id sequences (allocationSize = 50) as native sequences, which Hibernate uses on H2.
+CREATE SEQUENCE order_details_seq START WITH 1 INCREMENT BY 50;
+
+CREATE SEQUENCE order_item_seq START WITH 1 INCREMENT BY 50;
+
+CREATE SEQUENCE inventory_ledger_entry_seq START WITH 1 INCREMENT BY 50;
@@ -0,0 +1,14 @@
+-- Moves the pooled id sequences of V1_1 past the ids already in their tables, as V1_3 does on MySQL: the next value
+-- becomes MAX(id) + 50, so the first block handed out starts at MAX(id) + 1. A sequence that is already further
+-- along is left alone.
+ALTER SEQUENCE order_details_seq RESTART WITH GREATEST(
+    (SELECT BASE_VALUE FROM INFORMATION_SCHEMA.SEQUENCES WHERE SEQUENCE_NAME = 'ORDER_DETAILS_SEQ'),
+    (SELECT COALESCE(MAX(id), 0) + 50 FROM order_details));
+
+ALTER SEQUENCE order_item_seq RESTART WITH GREATEST(
+    (SELECT BASE_VALUE FROM INFORMATION_SCHEMA.SEQUENCES WHERE SEQUENCE_NAME = 'ORDER_ITEM_SEQ'),
+    (SELECT COALESCE(MAX(id), 0) + 50 FROM order_item));
+
+ALTER SEQUENCE inventory_ledger_entry_seq RESTART WITH GREATEST(
+    (SELECT BASE_VALUE FROM INFORMATION_SCHEMA.SEQUENCES WHERE SEQUENCE_NAME = 'INVENTORY_LEDGER_ENTRY_SEQ'),
+    (SELECT COALESCE(MAX(id), 0) + 50 FROM inventory_ledger_entry));
@@ -0,0 +1,2 @@
+-- Pooled id sequence of order_outbox (allocationSize = 50), see V1_1.
+CREATE SEQUENCE order_outbox_seq START WITH 1 INCREMENT BY 50;
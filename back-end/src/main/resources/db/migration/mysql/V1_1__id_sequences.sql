@@ -0,0 +1,10 @@
+-- Pooled id sequences (allocationSize = 50), emulated with one-row tables: Hibernate's layout on MySQL, which has
+-- no sequences.
+CREATE TABLE order_details_seq (next_val BIGINT);
+INSERT INTO order_details_seq VALUES (1);
+
+CREATE TABLE order_item_seq (next_val BIGINT);
+INSERT INTO order_item_seq VALUES (1);
+
+CREATE TABLE inventory_ledger_entry_seq (next_val BIGINT);
+INSERT INTO inventory_ledger_entry_seq VALUES (1);
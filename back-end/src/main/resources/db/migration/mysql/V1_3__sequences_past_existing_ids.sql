@@ -0,0 +1,10 @@
+-- Moves the pooled id sequences of V1_1 past the ids already in their tables, for databases that had orders before
+-- the sequences existed (created by `ddl-auto=update` with AUTO_INCREMENT ids, see V1_2). The pooled optimizer
+-- hands out next_val - 49 .. next_val, so next_val = MAX(id) + 50 makes the first new id MAX(id) + 1.
+-- A sequence that is already further along is left alone.
+UPDATE order_details_seq SET next_val = GREATEST(next_val, (SELECT COALESCE(MAX(id), 0) + 50 FROM order_details));
+
+UPDATE order_item_seq SET next_val = GREATEST(next_val, (SELECT COALESCE(MAX(id), 0) + 50 FROM order_item));
+
+UPDATE inventory_ledger_entry_seq
+SET next_val = GREATEST(next_val, (SELECT COALESCE(MAX(id), 0) + 50 FROM inventory_ledger_entry));
@@ -0,0 +1,3 @@
+-- Pooled id sequence of order_outbox (allocationSize = 50), emulated with a one-row table, see V1_1.
+CREATE TABLE order_outbox_seq (next_val BIGINT);
+INSERT INTO order_outbox_seq VALUES (1);
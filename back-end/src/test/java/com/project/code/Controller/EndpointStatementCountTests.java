@@ -0,0 +1,287 @@
+package com.project.code.Controller;
+
+import com.project.code.Model.Inventory;
+import com.project.code.Model.Product;
+import com.project.code.Model.Store;
+import com.project.code.Repo.*;
+import com.project.code.config.SqlRequestStats;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.util.Map;
+
+import static org.hamcrest.Matchers.hasItem;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// Counts the SQL statements Hibernate prepares for one request to each endpoint, and checks the same budget against
+// the SqlRequestStats of SqlRequestFilter, so an EAGER association or an N+1 query can't slip back in unnoticed.
+@SpringBootTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "sql.monitoring.count-rows-read=true",
+        // Keeps the outbox dispatcher's queries out of the Hibernate statistics.
+        "order.outbox.poll-interval-ms=3600000",
+        "logging.level.org.mongodb.driver=OFF",
+        "mongodb.ensure-indexes=false"
+})
+@AutoConfigureTestDatabase
+@AutoConfigureMockMvc
+class EndpointStatementCountTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private StoreRepository storeRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private InventoryRepository inventoryRepository;
+
+    @Autowired
+    private OrderDetailsRepository orderDetailsRepository;
+
+    @Autowired
+    private OrderItemRepository orderItemRepository;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Statistics statistics;
+
+    private Store store;
+
+    private Product firstProduct;
+
+    @BeforeEach
+    void setUp() {
+        orderItemRepository.deleteAll();
+        orderDetailsRepository.deleteAll();
+        inventoryRepository.deleteAll();
+        productRepository.deleteAll();
+        customerRepository.deleteAll();
+        storeRepository.deleteAll();
+        cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+
+        store = storeRepository.save(new Store("Main Street", "1 Main Street"));
+        Store otherStore = storeRepository.save(new Store("High Street", "2 High Street"));
+        for (int i = 1; i <= 30; i++) {
+            Product product = new Product();
+            product.setName("Phone " + i);
+            product.setCategory(i % 2 == 0 ? "Mobile" : "Audio");
+            product.setPrice(100.0 + i);
+            product.setSku("SKU-" + i);
+            product = productRepository.save(product);
+            if (firstProduct == null) {
+                firstProduct = product;
+            }
+            inventoryRepository.save(new Inventory(product, store, 1000));
+            inventoryRepository.save(new Inventory(product, otherStore, 1000));
+        }
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void productById() throws Exception {
+        assertStatements(1, () -> mockMvc.perform(get("/product/product/" + firstProduct.getId()))
+                .andExpect(jsonPath("$.product.inventory.length()").value(2)));
+    }
+
+    @Test
+    void productPage() throws Exception {
+        assertStatements(2, () -> mockMvc.perform(get("/product").param("limit", "20"))
+                .andExpect(jsonPath("$.products.length()").value(20))
+                .andExpect(jsonPath("$.products[0].inventory.length()").value(2)));
+    }
+
+    @Test
+    void productsByCategory() throws Exception {
+        assertStatements(1, () -> mockMvc.perform(get("/product/category/null/Mobile"))
+                .andExpect(jsonPath("$.products.length()").value(15)));
+        assertStatements(1, () -> mockMvc.perform(get("/product/category/phone/null"))
+                .andExpect(jsonPath("$.products.length()").value(30)));
+    }
+
+    @Test
+    void storeProducts() throws Exception {
+        // The rows are read while the response streams, after it was committed.
+        assertStatements(1, () -> mockMvc.perform(get("/inventory/" + store.getId()))
+                .andExpect(jsonPath("$.products.length()").value(30))
+                .andExpect(QueryBudget.rows(30)));
+        assertStatements(1, () -> mockMvc.perform(get("/inventory/filter/Mobile/null/" + store.getId()))
+                .andExpect(jsonPath("$.product.length()").value(15)));
+    }
+
+    @Test
+    void repeatCustomerOrderDoesNotLoadOrderHistory() throws Exception {
+        for (int i = 0; i < 5; i++) {
+            placeOrder();
+        }
+
+        // Statement counts vary with the pooled order id sequences, so count what gets loaded instead:
+        // the customer, the store, the product and its inventory row, and none of the five earlier orders.
+        statistics.clear();
+        placeOrder();
+        assertEquals(4, statistics.getEntityLoadCount());
+        assertEquals(0, statistics.getCollectionLoadCount());
+    }
+
+    @Test
+    void retriedOrderIsAnsweredWithoutTouchingTheDatabase() throws Exception {
+        placeOrder("retry-1");
+        long orders = orderDetailsRepository.count();
+
+        statistics.clear();
+        placeOrder("retry-1");
+        assertEquals(0, statistics.getPrepareStatementCount());
+        assertEquals(orders, orderDetailsRepository.count());
+    }
+
+    @Test
+    void orderStaysWithinItsQueryBudget() throws Exception {
+        // The first orders also create the customer and fetch the id blocks of the pooled sequences.
+        placeOrder(null).andExpect(QueryBudget.atMostStatements(12));
+        placeOrder(null).andExpect(QueryBudget.atMostStatements(12));
+        // Customer, store, products and inventory lookups, the stock UPDATE batch, the order INSERTs and the outbox row.
+        placeOrder(null)
+                .andExpect(QueryBudget.statements(8))
+                .andExpect(QueryBudget.noRepeats());
+        placeOrder("budget-1");
+        placeOrder("budget-1").andExpect(QueryBudget.statements(0));
+    }
+
+    @Test
+    void unchangedReadsAreAnsweredWithoutTouchingTheDatabase() throws Exception {
+        for (String url : new String[]{"/inventory/" + store.getId(), "/product/product/" + firstProduct.getId(), "/product"}) {
+            String etag = mockMvc.perform(get(url))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache"))
+                    .andExpect(header().exists(HttpHeaders.LAST_MODIFIED))
+                    .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+            statistics.clear();
+            mockMvc.perform(get(url).header(HttpHeaders.IF_NONE_MATCH, etag))
+                    .andExpect(status().isNotModified())
+                    .andExpect(header().string(HttpHeaders.ETAG, etag))
+                    .andExpect(content().string(""))
+                    .andExpect(QueryBudget.statements(0));
+            assertEquals(0, statistics.getPrepareStatementCount());
+        }
+    }
+
+    @Test
+    void writesChangeTheETag() throws Exception {
+        String storeUrl = "/inventory/" + store.getId();
+        String productUrl = "/product/product/" + firstProduct.getId();
+        String storeEtag = mockMvc.perform(get(storeUrl)).andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        String productEtag = mockMvc.perform(get(productUrl)).andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        String catalogEtag = mockMvc.perform(get("/product")).andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        // A checkout changes the stock level shown by all three.
+        placeOrder();
+        mockMvc.perform(get(storeUrl).header(HttpHeaders.IF_NONE_MATCH, storeEtag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.products[?(@.id == %d)].stockLevel".formatted(firstProduct.getId())).value(999));
+        // The product was cached with the old stock level; the new ETag has to come with the new one.
+        String freshEtag = mockMvc.perform(get(productUrl).header(HttpHeaders.IF_NONE_MATCH, productEtag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.product.inventory[*].stockLevel", hasItem(999)))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        mockMvc.perform(get(productUrl).header(HttpHeaders.IF_NONE_MATCH, freshEtag)).andExpect(status().isNotModified());
+        mockMvc.perform(get("/product").header(HttpHeaders.IF_NONE_MATCH, catalogEtag)).andExpect(status().isOk());
+
+        // A renamed product changes every store listing, but not the other products.
+        storeEtag = mockMvc.perform(get(storeUrl)).andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        Product other = productRepository.findBySku("SKU-2");
+        String otherUrl = "/product/product/" + other.getId();
+        String otherEtag = mockMvc.perform(get(otherUrl)).andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        String body = """
+                {"id": %d, "name": "Renamed", "category": "Mobile", "price": 101.0, "sku": "SKU-1"}
+                """.formatted(firstProduct.getId());
+        mockMvc.perform(put("/product").contentType(MediaType.APPLICATION_JSON).content(body)).andExpect(status().isOk());
+        mockMvc.perform(get(storeUrl).header(HttpHeaders.IF_NONE_MATCH, storeEtag)).andExpect(status().isOk());
+        mockMvc.perform(get(otherUrl).header(HttpHeaders.IF_NONE_MATCH, otherEtag)).andExpect(status().isNotModified());
+    }
+
+    @Test
+    void repeatedStatementsAreReported() {
+        SqlRequestStats stats = SqlRequestStats.start();
+        try {
+            for (int i = 1; i <= 12; i++) {
+                jdbcTemplate.queryForList("SELECT id FROM product WHERE id IN (" + "?, ".repeat(i) + "?)",
+                        Long.class, new Object[i + 1]);
+            }
+            jdbcTemplate.queryForList("SELECT id FROM product", Long.class);
+        } finally {
+            SqlRequestStats.stop();
+        }
+
+        assertEquals(13, stats.getStatements());
+        assertEquals(30, stats.getRows());
+        assertEquals(12, stats.getMaxRepeat());
+        assertEquals(Map.of("SELECT id FROM product WHERE id IN (?)", 12L), stats.repeatedMoreThan(10));
+    }
+
+    private void placeOrder() throws Exception {
+        placeOrder(null);
+    }
+
+    private ResultActions placeOrder(String idempotencyKey) throws Exception {
+        String body = """
+                {"storeId": %d, "customerName": "Jane", "customerEmail": "jane@example.com", "customerPhone": "555-0100",
+                 "totalPrice": 101.0, "purchaseProduct": [{"id": %d, "quantity": 1}]}
+                """.formatted(store.getId(), firstProduct.getId());
+        MockHttpServletRequestBuilder request = post("/store/placeOrder").contentType(MediaType.APPLICATION_JSON).content(body);
+        if (idempotencyKey != null) {
+            request.header("Idempotency-Key", idempotencyKey);
+        }
+        return mockMvc.perform(request)
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.message").value("Order placed successfully"));
+    }
+
+    private void assertStatements(long expected, Request request) throws Exception {
+        statistics.clear();
+        request.perform()
+                .andExpect(status().isOk())
+                .andExpect(QueryBudget.statements(expected))
+                .andExpect(QueryBudget.noRepeats());
+        assertEquals(expected, statistics.getPrepareStatementCount());
+    }
+
+    private interface Request {
+        ResultActions perform() throws Exception;
+    }
+}
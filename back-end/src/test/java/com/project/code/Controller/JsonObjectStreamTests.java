@@ -0,0 +1,56 @@
+package com.project.code.Controller;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JsonObjectStreamTests {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void writesAWholeDocumentOnSuccess() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        try (JsonObjectStream json = JsonObjectStream.open(response, objectMapper)) {
+            assertEquals(1200, json.writeArray("rows", rows(1200, -1)));
+            json.writeField("count", 1200);
+            json.finish();
+        }
+
+        assertEquals(1200, objectMapper.readTree(response.getContentAsString()).get("rows").size());
+    }
+
+    @Test
+    void leavesTheDocumentTruncatedWhenTheRowsFail() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        assertThrows(IllegalStateException.class, () -> {
+            try (JsonObjectStream json = JsonObjectStream.open(response, objectMapper)) {
+                json.writeArray("rows", rows(1200, 700));
+                json.finish();
+            }
+        });
+
+        // The first 500 rows were flushed before the failure; the document is neither closed nor parseable.
+        String body = response.getContentAsString();
+        assertTrue(body.startsWith("{\"rows\":[{\"id\":0}"));
+        assertFalse(body.endsWith("]}"));
+        assertThrows(JsonProcessingException.class, () -> objectMapper.readTree(body));
+    }
+
+    // `count` rows {"id": n}, failing when row `failAt` is read.
+    private static Iterator<Map<String, Integer>> rows(int count, int failAt) {
+        return IntStream.range(0, count).mapToObj(id -> {
+            if (id == failAt) {
+                throw new IllegalStateException("Cursor failed");
+            }
+            return Map.of("id", id);
+        }).iterator();
+    }
+}
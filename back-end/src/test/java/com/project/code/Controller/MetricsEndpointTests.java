@@ -0,0 +1,104 @@
+package com.project.code.Controller;
+
+import com.project.code.Model.Inventory;
+import com.project.code.Model.Product;
+import com.project.code.Model.Store;
+import com.project.code.Repo.InventoryRepository;
+import com.project.code.Repo.ProductRepository;
+import com.project.code.Repo.StoreRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// Places an order and a stock-out order, then checks the meters they leave in /actuator/prometheus.
+@SpringBootTest(properties = {
+        "logging.level.org.mongodb.driver=OFF",
+        "mongodb.ensure-indexes=false"
+})
+@AutoConfigureTestDatabase
+@AutoConfigureMockMvc
+@AutoConfigureObservability(tracing = false)
+class MetricsEndpointTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private StoreRepository storeRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private InventoryRepository inventoryRepository;
+
+    @Test
+    void ordersArePublishedInPrometheusFormat() throws Exception {
+        Store store = storeRepository.save(new Store("Metrics Street", "1 Metrics Street"));
+        Product product = new Product();
+        product.setName("Watch");
+        product.setCategory("Wearables");
+        product.setPrice(50.0);
+        product.setSku("SKU-METRICS");
+        product = productRepository.save(product);
+        inventoryRepository.save(new Inventory(product, store, 3));
+
+        double placed = meterRegistry.counter("orders.placed").count();
+        double stockOuts = meterRegistry.counter("orders.rejected", "reason", "stock_out").count();
+
+        placeOrder(store, product, 2).andExpect(jsonPath("$.message").value("Order placed successfully"));
+        placeOrder(store, product, 2).andExpect(jsonPath("$.Error").exists());
+
+        assertEquals(placed + 1, meterRegistry.counter("orders.placed").count());
+        assertEquals(stockOuts + 1, meterRegistry.counter("orders.rejected", "reason", "stock_out").count());
+
+        String scrape = mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        assertTrue(scrape.contains("orders_placed_total "));
+        assertTrue(scrape.contains("orders_rejected_total{reason=\"stock_out\"}"));
+        assertTrue(scrape.contains("order_items_bucket{"));
+        assertTrue(scrape.contains("order_items_sum "));
+        assertContains(scrape, "http_server_requests_seconds_bucket{", "uri=\"/store/placeOrder\"", "outcome=\"SUCCESS\"");
+        assertContains(scrape, "service_invocations_seconds_bucket{", "class=\"OrderService\"", "method=\"saveOrder\"", "outcome=\"SUCCESS\"");
+        assertContains(scrape, "service_invocations_seconds_count{", "method=\"saveOrder\"", "outcome=\"ERROR\"");
+        assertContains(scrape, "spring_data_repository_invocations_seconds_bucket{", "repository=\"InventoryRepository\"", "outcome=\"SUCCESS\"");
+    }
+
+    private ResultActions placeOrder(Store store, Product product, int quantity) throws Exception {
+        String body = """
+                {"storeId": %d, "customerName": "Jane", "customerEmail": "jane@example.com", "customerPhone": "555-0100",
+                 "totalPrice": 100.0, "purchaseProduct": [{"id": %d, "quantity": %d}]}
+                """.formatted(store.getId(), product.getId(), quantity);
+        return mockMvc.perform(post("/store/placeOrder").contentType(MediaType.APPLICATION_JSON).content(body))
+                .andExpect(status().isOk());
+    }
+
+    // Fails unless some line of the scrape starts with `metric` and has all of `labels`.
+    private static void assertContains(String scrape, String metric, String... labels) {
+        for (String line : scrape.split("\n")) {
+            if (line.startsWith(metric) && Arrays.stream(labels).allMatch(line::contains)) {
+                return;
+            }
+        }
+        fail("No " + metric + " line with " + String.join(", ", labels));
+    }
+}
@@ -0,0 +1,218 @@
+package com.project.code.Controller;
+
+import com.project.code.Model.Inventory;
+import com.project.code.Model.Product;
+import com.project.code.Model.Store;
+import com.project.code.Repo.*;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.not;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// Writes through /product must be visible on the very next read, although product lookups are served from the
+// read-through caches (see ProductCache). Every such test reads first, so the product is cached before the write.
+// Also covers the keyset pages and the NDJSON stream of GET /product.
+@SpringBootTest(properties = {
+        "logging.level.org.mongodb.driver=OFF",
+        "mongodb.ensure-indexes=false"
+})
+@AutoConfigureTestDatabase
+@AutoConfigureMockMvc
+class ProductControllerTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private StoreRepository storeRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private InventoryRepository inventoryRepository;
+
+    @Autowired
+    private OrderItemRepository orderItemRepository;
+
+    @Autowired
+    private OrderDetailsRepository orderDetailsRepository;
+
+    private Product product;
+
+    @BeforeEach
+    void setUp() {
+        orderItemRepository.deleteAll();
+        orderDetailsRepository.deleteAll();
+        inventoryRepository.deleteAll();
+        productRepository.deleteAll();
+        storeRepository.deleteAll();
+        cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+
+        Store store = storeRepository.save(new Store("Main Street", "1 Main Street"));
+        product = new Product();
+        product.setName("Phone");
+        product.setCategory("Mobile");
+        product.setPrice(100.0);
+        product.setSku("SKU-1");
+        product = productRepository.save(product);
+        inventoryRepository.save(new Inventory(product, store, 10));
+    }
+
+    @Test
+    void updatedProductIsReadBack() throws Exception {
+        readAndCache();
+
+        mockMvc.perform(put("/product").contentType(MediaType.APPLICATION_JSON).content("""
+                        {"id": %d, "name": "Smart Phone", "category": "Gadgets", "price": 150.0, "sku": "SKU-1"}
+                        """.formatted(product.getId())))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/product/product/" + product.getId()))
+                .andExpect(jsonPath("$.product.name").value("Smart Phone"))
+                .andExpect(jsonPath("$.product.price").value(150.0));
+        mockMvc.perform(get("/product/category/null/Mobile"))
+                .andExpect(jsonPath("$.products[*].id", not(hasItem((int) product.getId()))));
+        mockMvc.perform(get("/product/category/null/Gadgets"))
+                .andExpect(jsonPath("$.products[*].name", hasItem("Smart Phone")));
+    }
+
+    @Test
+    void deletedProductIsGoneOnTheNextRead() throws Exception {
+        readAndCache();
+
+        mockMvc.perform(delete("/product/" + product.getId()))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/product/product/" + product.getId()))
+                .andExpect(jsonPath("$.product").doesNotExist());
+        mockMvc.perform(get("/product/category/null/Mobile"))
+                .andExpect(jsonPath("$.products").isEmpty());
+    }
+
+    @Test
+    void importedChangesAreReadBack() throws Exception {
+        readAndCache();
+
+        mockMvc.perform(post("/product/import").contentType("text/csv").content("""
+                        sku,name,category,price
+                        SKU-1,Imported Phone,Mobile,120.0
+                        """))
+                .andExpect(jsonPath("$.updated").value(1));
+
+        mockMvc.perform(get("/product/product/" + product.getId()))
+                .andExpect(jsonPath("$.product.name").value("Imported Phone"));
+        mockMvc.perform(get("/product/category/null/Mobile"))
+                .andExpect(jsonPath("$.products[0].name").value("Imported Phone"))
+                .andExpect(jsonPath("$.products[0].price").value(120.0));
+    }
+
+    @Test
+    void pagesReturnEveryProductExactlyOnce() throws Exception {
+        List<Long> expected = saveProducts(24);
+
+        for (int limit : new int[]{7, 5}) {
+            List<Long> seen = new ArrayList<>();
+            long afterId = 0;
+            int pages = 0;
+            while (true) {
+                MvcResult result = mockMvc.perform(get("/product")
+                                .param("afterId", String.valueOf(afterId))
+                                .param("limit", String.valueOf(limit)))
+                        .andExpect(status().isOk())
+                        .andReturn();
+                pages++;
+                JsonNode page = objectMapper.readTree(result.getResponse().getContentAsString());
+                for (JsonNode product : page.get("products")) {
+                    seen.add(product.get("id").asLong());
+                }
+                if (page.get("nextAfterId").isNull()) {
+                    // Only the last page may be short.
+                    assertTrue(page.get("products").size() < limit);
+                    break;
+                }
+                assertEquals(limit, page.get("products").size());
+                // The cursor is the last id of the page.
+                assertEquals(seen.get(seen.size() - 1), page.get("nextAfterId").asLong());
+                afterId = page.get("nextAfterId").asLong();
+            }
+
+            assertEquals(expected, seen);
+            // 25 products: 4 pages of 7, or 5 full pages of 5 and an empty one that ends the paging.
+            assertEquals(limit == 7 ? 4 : 6, pages);
+        }
+    }
+
+    @Test
+    void streamWritesOneProductPerLine() throws Exception {
+        List<Long> expected = saveProducts(24);
+
+        MvcResult started = mockMvc.perform(get("/product").accept("application/x-ndjson"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        String body = mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith("application/x-ndjson"))
+                .andReturn().getResponse().getContentAsString();
+
+        assertTrue(body.endsWith("\n"));
+        List<Long> ids = new ArrayList<>();
+        for (String line : body.split("\n")) {
+            JsonNode product = objectMapper.readTree(line);
+            assertTrue(product.isObject(), line);
+            ids.add(product.get("id").asLong());
+        }
+        assertEquals(expected, ids);
+    }
+
+    // Adds `count` more products, and returns the ids of all products in id order.
+    private List<Long> saveProducts(int count) {
+        for (int i = 2; i <= count + 1; i++) {
+            Product other = new Product();
+            other.setName("Phone " + i);
+            other.setCategory("Mobile");
+            other.setPrice(100.0 + i);
+            other.setSku("SKU-" + i);
+            productRepository.save(other);
+        }
+        return productRepository.findAll().stream().map(Product::getId).sorted().toList();
+    }
+
+    private void readAndCache() throws Exception {
+        mockMvc.perform(get("/product/product/" + product.getId()))
+                .andExpect(jsonPath("$.product.name").value("Phone"));
+        mockMvc.perform(get("/product/category/null/Mobile"))
+                .andExpect(jsonPath("$.products[0].name").value("Phone"));
+    }
+}
@@ -0,0 +1,59 @@
+package com.project.code.Controller;
+
+import com.project.code.config.SqlRequestFilter;
+import com.project.code.config.SqlRequestStats;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultMatcher;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// MockMvc expectations on the SQL a request ran, read from the SqlRequestStats that SqlRequestFilter leaves on the
+// request. Unlike the X-Sql-* headers, they include the SQL run after the response was committed. Example:
+//    mockMvc.perform(get("/inventory/1")).andExpect(QueryBudget.statements(1)).andExpect(QueryBudget.noRepeats());
+final class QueryBudget {
+
+    private QueryBudget() {
+    }
+
+    // Exactly `expected` statements.
+    static ResultMatcher statements(long expected) {
+        return result -> assertEquals(expected, stats(result).getStatements(), "SQL statements");
+    }
+
+    // At most `max` statements.
+    static ResultMatcher atMostStatements(long max) {
+        return result -> {
+            long statements = stats(result).getStatements();
+            assertTrue(statements <= max, () -> statements + " SQL statements, budget is " + max);
+        };
+    }
+
+    // Exactly `expected` rows read or written.
+    static ResultMatcher rows(long expected) {
+        return result -> assertEquals(expected, stats(result).getRows(), "SQL rows");
+    }
+
+    // At most `max` rows read or written.
+    static ResultMatcher atMostRows(long max) {
+        return result -> {
+            long rows = stats(result).getRows();
+            assertTrue(rows <= max, () -> rows + " rows, budget is " + max);
+        };
+    }
+
+    // No statement ran more than once, i.e. no N+1.
+    static ResultMatcher noRepeats() {
+        return result -> {
+            long maxRepeat = stats(result).getMaxRepeat();
+            assertTrue(maxRepeat <= 1, () -> "The same SQL statement ran " + maxRepeat + " times");
+        };
+    }
+
+    private static SqlRequestStats stats(MvcResult result) {
+        SqlRequestStats stats = (SqlRequestStats) result.getRequest().getAttribute(SqlRequestFilter.STATS);
+        assertNotNull(stats, "No SqlRequestStats on the request; did it go through SqlRequestFilter?");
+        return stats;
+    }
+}
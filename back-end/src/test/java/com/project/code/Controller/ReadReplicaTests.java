@@ -0,0 +1,139 @@
+package com.project.code.Controller;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// Two embedded databases stand in for the primary and a read replica. They hold different copies of the same product
+// (and a store only the replica has), so every response shows which of the two served it.
+@SpringBootTest(properties = {
+        "spring.datasource.url=" + ReadReplicaTests.PRIMARY_URL,
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "replica.datasource.urls=" + ReadReplicaTests.REPLICA_URL,
+        "replica.stick-to-primary-after-write=1h",
+        "logging.level.org.mongodb.driver=OFF",
+        "mongodb.ensure-indexes=false"
+})
+@AutoConfigureMockMvc
+class ReadReplicaTests {
+
+    static final String PRIMARY_URL = "jdbc:h2:mem:replica_tests_primary;DB_CLOSE_DELAY=-1";
+
+    static final String REPLICA_URL = "jdbc:h2:mem:replica_tests_replica;DB_CLOSE_DELAY=-1";
+
+    private static final long PRODUCT_ID = 9001;
+
+    private static final long REPLICA_ONLY_STORE_ID = 9002;
+
+    private static final long CHANGED_PRODUCT_ID = 9003;
+
+    private static final JdbcTemplate replica = new JdbcTemplate(new DriverManagerDataSource(REPLICA_URL, "sa", ""));
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JdbcTemplate primary;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    // The application migrates the primary on startup; the replica gets the same schema here.
+    @BeforeAll
+    static void createReplicaSchema() {
+        Flyway.configure()
+                .dataSource(REPLICA_URL, "sa", "")
+                .locations("classpath:db/migration/common", "classpath:db/migration/h2")
+                .load()
+                .migrate();
+    }
+
+    // Product lookups are cached across clients, so each test starts with empty caches.
+    @BeforeEach
+    void setUp() {
+        cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+        for (JdbcTemplate database : new JdbcTemplate[]{primary, replica}) {
+            database.update("DELETE FROM product WHERE id = ?", PRODUCT_ID);
+            database.update("DELETE FROM store WHERE id = ?", REPLICA_ONLY_STORE_ID);
+            database.update("DELETE FROM product WHERE id = ?", CHANGED_PRODUCT_ID);
+            database.update("INSERT INTO product (id, name, category, price, sku) VALUES (?, 'Old name', 'Changed', 10.0, 'SKU-CHANGED')", CHANGED_PRODUCT_ID);
+        }
+        primary.update("INSERT INTO product (id, name, category, price, sku) VALUES (?, 'Primary copy', 'Replicated', 10.0, 'SKU-REPLICA')", PRODUCT_ID);
+        replica.update("INSERT INTO product (id, name, category, price, sku) VALUES (?, 'Replica copy', 'Replicated', 10.0, 'SKU-REPLICA')", PRODUCT_ID);
+        replica.update("INSERT INTO store (id, name, address) VALUES (?, 'Replica Store', '1 Replica Road')", REPLICA_ONLY_STORE_ID);
+    }
+
+    @Test
+    void readsAreServedByTheReplica() throws Exception {
+        perform(get("/product/product/" + PRODUCT_ID), "10.0.0.1")
+                .andExpect(jsonPath("$.product.name").value("Replica copy"));
+        perform(get("/product/category/null/Replicated"), "10.0.0.1")
+                .andExpect(jsonPath("$.products[0].name").value("Replica copy"));
+        perform(get("/store/validate/" + REPLICA_ONLY_STORE_ID), "10.0.0.1")
+                .andExpect(content().string("true"));
+    }
+
+    @Test
+    void writersReadFromThePrimaryAfterAWrite() throws Exception {
+        String storeId = perform(post("/store").contentType(MediaType.APPLICATION_JSON)
+                .content("{\"name\": \"New Store\", \"address\": \"2 Primary Road\"}"), "10.0.0.2")
+                .andReturn().getResponse().getContentAsString().replaceAll("\\D", "");
+
+        // The write went to the primary only.
+        assertEquals(1, primary.queryForObject("SELECT COUNT(*) FROM store WHERE name = 'New Store'", Integer.class));
+        assertEquals(0, replica.queryForObject("SELECT COUNT(*) FROM store WHERE name = 'New Store'", Integer.class));
+
+        // The writer now reads the primary and sees its store; other clients still read the replica.
+        perform(get("/store/validate/" + storeId), "10.0.0.2")
+                .andExpect(content().string("true"));
+        perform(get("/store/validate/" + storeId), "10.0.0.3")
+                .andExpect(content().string("false"));
+        perform(get("/store/validate/" + REPLICA_ONLY_STORE_ID), "10.0.0.2")
+                .andExpect(content().string("false"));
+        perform(get("/store/validate/" + REPLICA_ONLY_STORE_ID), "10.0.0.3")
+                .andExpect(content().string("true"));
+    }
+
+    @Test
+    void recentlyChangedDataIsReadFromThePrimary() throws Exception {
+        perform(put("/product").contentType(MediaType.APPLICATION_JSON).content("""
+                {"id": %d, "name": "New name", "category": "Changed", "price": 10.0, "sku": "SKU-CHANGED"}
+                """.formatted(CHANGED_PRODUCT_ID)), "10.0.0.4");
+        // The replica hasn't caught up with the write yet.
+        assertEquals("Old name", replica.queryForObject("SELECT name FROM product WHERE id = ?", String.class, CHANGED_PRODUCT_ID));
+
+        // Another client gets the new ETag, so it has to get the new data with it, not the replica's copy.
+        perform(get("/product/product/" + CHANGED_PRODUCT_ID), "10.0.0.5")
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andExpect(jsonPath("$.product.name").value("New name"));
+    }
+
+    private ResultActions perform(MockHttpServletRequestBuilder request, String remoteAddr) throws Exception {
+        return mockMvc.perform(request.with(servletRequest -> {
+            servletRequest.setRemoteAddr(remoteAddr);
+            return servletRequest;
+        })).andExpect(status().isOk());
+    }
+}
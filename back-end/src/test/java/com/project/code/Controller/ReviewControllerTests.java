@@ -0,0 +1,171 @@
+package com.project.code.Controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.code.Model.Customer;
+import com.project.code.Model.Product;
+import com.project.code.Model.Review;
+import com.project.code.Model.Store;
+import com.project.code.Repo.*;
+import de.bwaldvogel.mongo.MongoServer;
+import de.bwaldvogel.mongo.backend.memory.MemoryBackend;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// Pages of GET /reviews/{storeId}/{productId}, with the reviews in an in-memory MongoDB server (mongo-java-server).
+@SpringBootTest(properties = {
+        "logging.level.org.mongodb.driver=OFF",
+        "mongodb.ensure-indexes=false"
+})
+@AutoConfigureTestDatabase
+@AutoConfigureMockMvc
+class ReviewControllerTests {
+
+    private static final MongoServer SERVER = new MongoServer(new MemoryBackend());
+
+    private static final InetSocketAddress ADDRESS = SERVER.bind();
+
+    @DynamicPropertySource
+    static void mongo(DynamicPropertyRegistry registry) {
+        registry.add("spring.data.mongodb.uri",
+                () -> "mongodb://" + ADDRESS.getHostString() + ":" + ADDRESS.getPort() + "/test");
+    }
+
+    @AfterAll
+    static void stopServer() {
+        SERVER.shutdown();
+    }
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private ReviewRepository reviewRepository;
+
+    @Autowired
+    private StoreRepository storeRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private InventoryRepository inventoryRepository;
+
+    @Autowired
+    private OrderItemRepository orderItemRepository;
+
+    @Autowired
+    private OrderDetailsRepository orderDetailsRepository;
+
+    @MockitoSpyBean
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private Store store;
+
+    private Product product;
+
+    @BeforeEach
+    void setUp() {
+        reviewRepository.deleteAll();
+        orderItemRepository.deleteAll();
+        orderDetailsRepository.deleteAll();
+        inventoryRepository.deleteAll();
+        productRepository.deleteAll();
+        customerRepository.deleteAll();
+        storeRepository.deleteAll();
+
+        store = storeRepository.save(new Store("Main Street", "1 Main Street"));
+        product = new Product();
+        product.setName("Phone");
+        product.setCategory("Mobile");
+        product.setPrice(100.0);
+        product.setSku("SKU-1");
+        product = productRepository.save(product);
+    }
+
+    @Test
+    void pagesReturnEveryReviewExactlyOnce() throws Exception {
+        List<String> expected = new ArrayList<>();
+        for (int i = 1; i <= 25; i++) {
+            Customer customer = new Customer();
+            customer.setName("Customer " + i);
+            customer.setEmail("customer" + i + "@example.com");
+            customer.setPhone("555-" + i);
+            customer = customerRepository.save(customer);
+            reviewRepository.save(new Review(customer.getId(), product.getId(), store.getId(), 1 + i % 5, "Review " + i));
+            expected.add("Review " + i + " by Customer " + i);
+        }
+        // Another product's reviews never show up.
+        reviewRepository.save(new Review(1L, product.getId() + 1, store.getId(), 5, "Other product"));
+
+        List<String> seen = new ArrayList<>();
+        List<Integer> pageSizes = new ArrayList<>();
+        for (int page = 0; page < 4; page++) {
+            String body = mockMvc.perform(get("/reviews/" + store.getId() + "/" + product.getId())
+                            .param("page", String.valueOf(page))
+                            .param("size", "10"))
+                    .andExpect(status().isOk())
+                    .andReturn().getResponse().getContentAsString();
+            JsonNode json = objectMapper.readTree(body);
+            assertEquals(page, json.get("page").asInt());
+            assertTrue(json.get("customerNamesComplete").asBoolean());
+            assertEquals("Phone", json.get("product").get("name").asText());
+            pageSizes.add(json.get("reviews").size());
+            for (JsonNode review : json.get("reviews")) {
+                seen.add(review.get("review").asText() + " by " + review.get("customerName").asText());
+            }
+        }
+
+        // Three pages, the last one short, then an empty one.
+        assertEquals(List.of(10, 10, 5, 0), pageSizes);
+        assertEquals(expected, seen);
+    }
+
+    @Test
+    void failedNameLookupIsFlagged() throws Exception {
+        Customer customer = new Customer();
+        customer.setName("Alice");
+        customer.setEmail("alice@example.com");
+        customer.setPhone("555-1");
+        customer = customerRepository.save(customer);
+        reviewRepository.save(new Review(customer.getId(), product.getId(), store.getId(), 4, "Good"));
+        doThrow(new QueryTimeoutException("Timed out")).when(customerRepository).findNamesByIdIn(any());
+        double unresolved = meterRegistry.counter("reviews.customer_names.unresolved").count();
+
+        String body = mockMvc.perform(get("/reviews/" + store.getId() + "/" + product.getId()))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        JsonNode json = objectMapper.readTree(body);
+
+        assertEquals("Unknown", json.get("reviews").get(0).get("customerName").asText());
+        assertFalse(json.get("customerNamesComplete").asBoolean());
+        assertEquals(unresolved + 1, meterRegistry.counter("reviews.customer_names.unresolved").count());
+    }
+}
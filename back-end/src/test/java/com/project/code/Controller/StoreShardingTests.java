@@ -0,0 +1,238 @@
+package com.project.code.Controller;
+
+import com.project.code.Model.Review;
+import com.project.code.Repo.ReviewRepository;
+import com.project.code.Service.ProductSearchIndex;
+import com.project.code.Service.StoreShards;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// Three embedded databases as inventory shards. Every test creates three consecutive stores, one per shard, and
+// checks each database directly to see where rows ended up.
+@SpringBootTest(properties = {
+        "spring.datasource.url=" + StoreShardingTests.SHARD_0,
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "inventory.shards.urls=" + StoreShardingTests.SHARD_1 + "," + StoreShardingTests.SHARD_2,
+        "logging.level.org.mongodb.driver=OFF",
+        "mongodb.ensure-indexes=false"
+})
+@AutoConfigureMockMvc
+class StoreShardingTests {
+
+    static final String SHARD_0 = "jdbc:h2:mem:sharding_tests_0;DB_CLOSE_DELAY=-1";
+
+    static final String SHARD_1 = "jdbc:h2:mem:sharding_tests_1;DB_CLOSE_DELAY=-1";
+
+    static final String SHARD_2 = "jdbc:h2:mem:sharding_tests_2;DB_CLOSE_DELAY=-1";
+
+    private static final List<JdbcTemplate> shards = List.of(shard(SHARD_0), shard(SHARD_1), shard(SHARD_2));
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private StoreShards storeShards;
+
+    @Autowired
+    private ProductSearchIndex productSearchIndex;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    // Reviews live in MongoDB, which the tests don't run.
+    @MockitoBean
+    private ReviewRepository reviewRepository;
+
+    @Test
+    void catalogIsCopiedToEveryShard() throws Exception {
+        long store = createStore("Catalog Street");
+        long product = createProduct("SKU-SHARD-CATALOG", "Catalog Lamp");
+
+        perform(put("/product").contentType(MediaType.APPLICATION_JSON).content("""
+                {"id": %d, "name": "Renamed Lamp", "category": "Lighting", "price": 25.0, "sku": "SKU-SHARD-CATALOG"}
+                """.formatted(product)));
+
+        for (JdbcTemplate shard : shards) {
+            assertEquals(1, count(shard, "SELECT COUNT(*) FROM store WHERE id = ?", store));
+            assertEquals("Renamed Lamp", shard.queryForObject("SELECT name FROM product WHERE id = ?", String.class, product));
+        }
+    }
+
+    @Test
+    void inventoryAndOrdersLiveOnTheStoresShard() throws Exception {
+        long[] stores = createStores("Inventory Street");
+        long product = createProduct("SKU-SHARD-STOCK", "Stock Lamp");
+        importStock(stores, product, 10);
+
+        for (long store : stores) {
+            for (int shard = 0; shard < shards.size(); shard++) {
+                assertEquals(shard == storeShards.shardOf(store) ? 1 : 0,
+                        count(shards.get(shard), "SELECT COUNT(*) FROM inventory WHERE store_id = ?", store));
+            }
+            perform(get("/inventory/" + store)).andExpect(jsonPath("$.products[0].stockLevel").value(10));
+            perform(get("/inventory/validate/5/" + store + "/" + product)).andExpect(content().string("true"));
+        }
+
+        long store = stores[2];
+        perform(post("/store/placeOrder").contentType(MediaType.APPLICATION_JSON).content("""
+                {"storeId": %d, "customerName": "Jane", "customerEmail": "jane@example.com", "customerPhone": "555-0100",
+                 "totalPrice": 60.0, "purchaseProduct": [{"id": %d, "quantity": 3}]}
+                """.formatted(store, product)))
+                .andExpect(jsonPath("$.message").value("Order placed successfully"));
+
+        for (int shard = 0; shard < shards.size(); shard++) {
+            assertEquals(shard == storeShards.shardOf(store) ? 1 : 0,
+                    count(shards.get(shard), "SELECT COUNT(*) FROM order_details WHERE store_id = ?", store));
+        }
+        perform(get("/inventory/" + store)).andExpect(jsonPath("$.products[0].stockLevel").value(7));
+    }
+
+    @Test
+    void crossStoreWorkReachesEveryShard() throws Exception {
+        long[] stores = createStores("Search Street");
+        long product = createProduct("SKU-SHARD-SEARCH", "Shardwide Lamp");
+        importStock(stores, product, 5);
+
+        productSearchIndex.rebuild();
+        for (long store : stores) {
+            perform(get("/inventory/search/Shardwide/" + store)).andExpect(jsonPath("$.product[0].id").value(product));
+        }
+
+        perform(delete("/product/" + product));
+        for (JdbcTemplate shard : shards) {
+            assertEquals(0, count(shard, "SELECT COUNT(*) FROM inventory WHERE product_id = ?", product));
+            assertEquals(0, count(shard, "SELECT COUNT(*) FROM product WHERE id = ?", product));
+        }
+    }
+
+    @Test
+    void orderIdsAreUniqueAcrossShards() throws Exception {
+        long[] stores = createStores("Order Street");
+        long product = createProduct("SKU-SHARD-IDS", "Id Lamp");
+        importStock(stores, product, 100);
+
+        // More orders than one pooled id block (50), alternating between two shards.
+        for (int i = 0; i < 60; i++) {
+            long store = stores[1 + i % 2];
+            perform(post("/store/placeOrder").contentType(MediaType.APPLICATION_JSON).content("""
+                    {"storeId": %d, "customerName": "Ida", "customerEmail": "ida@example.com", "customerPhone": "555-0101",
+                     "totalPrice": 20.0, "purchaseProduct": [{"id": %d, "quantity": 1}]}
+                    """.formatted(store, product)))
+                    .andExpect(jsonPath("$.message").value("Order placed successfully"));
+        }
+
+        for (String table : new String[]{"order_details", "order_item", "order_outbox"}) {
+            List<Long> ids = new ArrayList<>();
+            for (JdbcTemplate shard : shards) {
+                ids.addAll(shard.queryForList("SELECT id FROM " + table, Long.class));
+            }
+            assertEquals(ids.size(), new HashSet<>(ids).size(), "Duplicate ids in " + table);
+        }
+        for (long store : new long[]{stores[1], stores[2]}) {
+            assertEquals(30, count(shards.get(storeShards.shardOf(store)),
+                    "SELECT COUNT(*) FROM order_details WHERE store_id = ?", store));
+        }
+    }
+
+    @Test
+    void reviewAuthorsAreReadOnTheStoresShard() throws Exception {
+        long[] stores = createStores("Review Street");
+        long product = createProduct("SKU-SHARD-REVIEW", "Review Lamp");
+        importStock(stores, product, 5);
+
+        for (long store : stores) {
+            perform(post("/store/placeOrder").contentType(MediaType.APPLICATION_JSON).content("""
+                    {"storeId": %d, "customerName": "Rae %d", "customerEmail": "rae%d@example.com", "customerPhone": "555-0102",
+                     "totalPrice": 20.0, "purchaseProduct": [{"id": %d, "quantity": 1}]}
+                    """.formatted(store, store, store, product)));
+            long customer = shards.get(storeShards.shardOf(store))
+                    .queryForObject("SELECT id FROM customer WHERE email = ?", Long.class, "rae" + store + "@example.com");
+            when(reviewRepository.findByStoreIdAndProductId(eq(store), eq(product), any(Pageable.class)))
+                    .thenReturn(List.of(new Review(customer, product, store, 5, "Bright")));
+
+            perform(get("/reviews/" + store + "/" + product))
+                    .andExpect(jsonPath("$.reviews[0].customerName").value("Rae " + store));
+        }
+    }
+
+    @Test
+    void shardsCantBeSwitchedInsideATransaction() {
+        assertThrows(IllegalStateException.class, () -> transactionTemplate.executeWithoutResult(status ->
+                storeShards.inShard(1, () -> count(shards.get(1), "SELECT COUNT(*) FROM store"))));
+    }
+
+    // Three consecutive stores, which land on three different shards.
+    private long[] createStores(String name) throws Exception {
+        long[] stores = {createStore(name + " 1"), createStore(name + " 2"), createStore(name + " 3")};
+        assertEquals(3, Arrays.stream(stores).map(id -> storeShards.shardOf(id)).distinct().count());
+        return stores;
+    }
+
+    private long createStore(String name) throws Exception {
+        return id(perform(post("/store").contentType(MediaType.APPLICATION_JSON)
+                .content("{\"name\": \"" + name + "\", \"address\": \"1 Shard Road\"}")));
+    }
+
+    private long createProduct(String sku, String name) throws Exception {
+        perform(post("/product/import").contentType("text/csv").content("sku,name,category,price\n" + sku + "," + name + ",Lighting,20\n"))
+                .andExpect(jsonPath("$.created").value(1));
+        return shards.get(StoreShards.HOME).queryForObject("SELECT id FROM product WHERE sku = ?", Long.class, sku);
+    }
+
+    private void importStock(long[] stores, long product, int stockLevel) throws Exception {
+        StringBuilder csv = new StringBuilder("storeId,productId,stockLevel\n");
+        for (long store : stores) {
+            csv.append(store).append(',').append(product).append(',').append(stockLevel).append('\n');
+        }
+        perform(post("/inventory/import").contentType("text/csv").content(csv.toString()))
+                .andExpect(jsonPath("$.created").value(stores.length));
+    }
+
+    private ResultActions perform(MockHttpServletRequestBuilder request) throws Exception {
+        return mockMvc.perform(request).andExpect(status().isOk());
+    }
+
+    // The id at the end of a "Successfully saved store with id: N" message.
+    private static long id(ResultActions result) throws Exception {
+        String message = result.andReturn().getResponse().getContentAsString();
+        return Long.parseLong(message.replaceAll(".*id: (\\d+).*", "$1"));
+    }
+
+    private static int count(JdbcTemplate shard, String sql, Object... args) {
+        return shard.queryForObject(sql, Integer.class, args);
+    }
+
+    private static JdbcTemplate shard(String url) {
+        return new JdbcTemplate(new DriverManagerDataSource(url, "sa", ""));
+    }
+}
@@ -0,0 +1,72 @@
+package com.project.code.Repo;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Upgrades a database the way production does (spring.flyway.* in application.properties): one that was created by
+// `ddl-auto=update` before the migrations existed is baselined at 1 and must come out with the current schema,
+// its stock and its order ids intact.
+class MigrationTests {
+
+    @Test
+    void legacyDatabaseIsUpgradedWithoutLosingData() {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(new DriverManagerDataSource(
+                "jdbc:h2:mem:legacy-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", "sa", ""));
+
+        // The tables ddl-auto created from the original entities: IDENTITY ids everywhere, no ledger or idempotency
+        // tables, and no unique (store, product) pair on inventory.
+        jdbcTemplate.execute("CREATE TABLE store (id BIGINT AUTO_INCREMENT PRIMARY KEY, address VARCHAR(255) NOT NULL, name VARCHAR(255) NOT NULL)");
+        jdbcTemplate.execute("CREATE TABLE product (id BIGINT AUTO_INCREMENT PRIMARY KEY, category VARCHAR(255) NOT NULL, "
+                + "name VARCHAR(255) NOT NULL, price FLOAT(53) NOT NULL, sku VARCHAR(255) NOT NULL UNIQUE)");
+        jdbcTemplate.execute("CREATE TABLE inventory (id BIGINT AUTO_INCREMENT PRIMARY KEY, product_id BIGINT NOT NULL REFERENCES product (id), "
+                + "store_id BIGINT NOT NULL REFERENCES store (id), stock_level INTEGER)");
+        jdbcTemplate.execute("CREATE TABLE customer (id BIGINT AUTO_INCREMENT PRIMARY KEY, email VARCHAR(255) NOT NULL, "
+                + "name VARCHAR(255) NOT NULL, phone VARCHAR(255) NOT NULL)");
+        jdbcTemplate.execute("CREATE TABLE order_details (id BIGINT AUTO_INCREMENT PRIMARY KEY, customer_id BIGINT REFERENCES customer (id), "
+                + "store_id BIGINT REFERENCES store (id), total_price FLOAT(53), date DATETIME(6))");
+        jdbcTemplate.execute("CREATE TABLE order_item (id BIGINT AUTO_INCREMENT PRIMARY KEY, order_id BIGINT REFERENCES order_details (id), "
+                + "product_id BIGINT REFERENCES product (id), price FLOAT(53), quantity INTEGER)");
+
+        jdbcTemplate.update("INSERT INTO store (name, address) VALUES ('Main Street', '1 Main Street')");
+        jdbcTemplate.update("INSERT INTO product (name, category, price, sku) VALUES ('Phone', 'Mobile', 100, 'SKU-1')");
+        jdbcTemplate.update("INSERT INTO product (name, category, price, sku) VALUES ('Case', 'Mobile', 10, 'SKU-2')");
+        // The same product stocked twice in one store, and one stocked once.
+        jdbcTemplate.update("INSERT INTO inventory (product_id, store_id, stock_level) VALUES (1, 1, 5)");
+        jdbcTemplate.update("INSERT INTO inventory (product_id, store_id, stock_level) VALUES (1, 1, 7)");
+        jdbcTemplate.update("INSERT INTO inventory (product_id, store_id, stock_level) VALUES (2, 1, 3)");
+        jdbcTemplate.update("INSERT INTO customer (name, email, phone) VALUES ('Customer', 'c@example.com', '555')");
+        for (int i = 0; i < 120; i++) {
+            jdbcTemplate.update("INSERT INTO order_details (customer_id, store_id, total_price, date) VALUES (1, 1, 100, NOW())");
+        }
+        jdbcTemplate.update("INSERT INTO order_item (order_id, product_id, price, quantity) VALUES (120, 1, 100, 1)");
+
+        Flyway.configure()
+                .dataSource(jdbcTemplate.getDataSource())
+                .locations("classpath:db/migration/common", "classpath:db/migration/h2")
+                .baselineOnMigrate(true)
+                .baselineVersion("1")
+                .load()
+                .migrate();
+
+        // Duplicates are merged into the oldest row, with the stock of both.
+        assertEquals(12, jdbcTemplate.queryForObject("SELECT stock_level FROM inventory WHERE product_id = 1 AND store_id = 1", Integer.class));
+        assertEquals(1, jdbcTemplate.queryForObject("SELECT MIN(id) FROM inventory WHERE product_id = 1", Long.class));
+        assertEquals(3, jdbcTemplate.queryForObject("SELECT stock_level FROM inventory WHERE product_id = 2", Integer.class));
+
+        // The tables ddl-auto never created exist now.
+        assertEquals(0, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM inventory_ledger_entry", Integer.class));
+        assertEquals(0, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM idempotency_record", Integer.class));
+        assertEquals(0, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM order_outbox", Integer.class));
+
+        // The next pooled block (next value - 49 .. next value) starts right after the existing ids.
+        assertEquals(120 + 50, jdbcTemplate.queryForObject("SELECT NEXT VALUE FOR order_details_seq", Long.class));
+        assertEquals(1 + 50, jdbcTemplate.queryForObject("SELECT NEXT VALUE FOR order_item_seq", Long.class));
+        assertEquals(50, jdbcTemplate.queryForObject("SELECT NEXT VALUE FOR inventory_ledger_entry_seq", Long.class));
+    }
+}
@@ -0,0 +1,89 @@
+package com.project.code.Repo;
+
+import com.project.code.Model.Inventory;
+import com.project.code.Model.Product;
+import com.project.code.Model.Store;
+import com.project.code.Model.StoreProductSummary;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+class ProductRepositoryTests {
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private StoreRepository storeRepository;
+
+    @Autowired
+    private InventoryRepository inventoryRepository;
+
+    private Store store;
+
+    private Product phone;
+
+    private Product headphones;
+
+    @BeforeEach
+    void setUp() {
+        store = storeRepository.save(new Store("Mobile World", "101 Mobile Blvd"));
+        Store otherStore = storeRepository.save(new Store("Audio Hub", "7 Sound Street"));
+
+        phone = saveProduct("Samsung Galaxy S21", "Mobile", "SKU-S21");
+        headphones = saveProduct("Sony Headphones", "Audio", "SKU-SONY");
+        Product notStocked = saveProduct("Samsung Buds", "Audio", "SKU-BUDS");
+
+        inventoryRepository.save(new Inventory(phone, store, 12));
+        inventoryRepository.save(new Inventory(headphones, store, 3));
+        inventoryRepository.save(new Inventory(phone, otherStore, 99));
+        inventoryRepository.save(new Inventory(notStocked, otherStore, 5));
+    }
+
+    @Test
+    void storeSummariesCarryOnlyThatStoresStockLevel() {
+        List<StoreProductSummary> products = productRepository.findSummariesByStoreId(store.getId());
+
+        assertEquals(List.of(phone.getId(), headphones.getId()), products.stream().map(StoreProductSummary::getId).toList());
+        assertEquals("Samsung Galaxy S21", products.get(0).getName());
+        assertEquals("Mobile", products.get(0).getCategory());
+        assertEquals("SKU-S21", products.get(0).getSku());
+        assertEquals(12, products.get(0).getStockLevel());
+        assertEquals(3, products.get(1).getStockLevel());
+    }
+
+    @Test
+    void storeSummariesStreamFromACursor() {
+        try (Stream<StoreProductSummary> products = productRepository.streamSummariesByStoreId(store.getId())) {
+            assertEquals(List.of(phone.getId(), headphones.getId()), ids(products.toList()));
+        }
+    }
+
+    @Test
+    void storeSummariesFilterByNameAndCategory() {
+        assertEquals(List.of(phone.getId()), ids(productRepository.findSummariesByStoreIdAndName(store.getId(), "samsung")));
+        assertEquals(List.of(headphones.getId()), ids(productRepository.findSummariesByStoreIdAndCategory(store.getId(), "Audio")));
+        assertEquals(List.of(headphones.getId()), ids(productRepository.findSummariesByStoreIdAndNameAndCategory(store.getId(), "SONY", "Audio")));
+        assertTrue(productRepository.findSummariesByStoreIdAndNameAndCategory(store.getId(), "samsung", "Audio").isEmpty());
+    }
+
+    private Product saveProduct(String name, String category, String sku) {
+        Product product = new Product();
+        product.setName(name);
+        product.setCategory(category);
+        product.setPrice(199.0);
+        product.setSku(sku);
+        return productRepository.save(product);
+    }
+
+    private List<Long> ids(List<StoreProductSummary> products) {
+        return products.stream().map(StoreProductSummary::getId).toList();
+    }
+}
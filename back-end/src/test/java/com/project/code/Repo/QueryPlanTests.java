@@ -0,0 +1,155 @@
+package com.project.code.Repo;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Runs EXPLAIN on the SQL of every hot repository query and fails if the plan scans a whole table, so a dropped
+// index (db/migration) or a rewritten query that can't use one is caught before it reaches production.
+//
+// The SQL is captured from Hibernate while the query runs, then explained with every parameter bound to '1'.
+// By default this runs on the embedded H2 database. To check the plans MySQL picks, run it against a local MySQL:
+//    mvn test -Dtest=QueryPlanTests -Dspring.test.database.replace=none \
+//        -Dspring.datasource.url=jdbc:mysql://localhost:3306/inventory_test -Dspring.datasource.username=root
+//
+// `LIKE '%name%'` searches are left out on purpose: no B-tree index can serve them, which is why name search is
+// answered by ProductSearchIndex.
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector=com.project.code.Repo.QueryPlanTests$CapturedSql")
+class QueryPlanTests {
+
+    // Enough rows that MySQL's optimizer prefers an index over reading the table.
+    private static final int ROWS = 500;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private InventoryRepository inventoryRepository;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        List<Object[]> products = new ArrayList<>();
+        List<Object[]> inventory = new ArrayList<>();
+        List<Object[]> customers = new ArrayList<>();
+        for (long id = 1; id <= ROWS; id++) {
+            products.add(new Object[]{id, "Product " + id, "Category " + id % 50, 10.0, "SKU-" + id});
+            inventory.add(new Object[]{id, id, 1 + id % 10, 100});
+            customers.add(new Object[]{id, "Customer " + id, "customer" + id + "@example.com", "555-" + id});
+        }
+        for (long id = 1; id <= 10; id++) {
+            jdbcTemplate.update("INSERT INTO store (id, name, address) VALUES (?, ?, ?)", id, "Store " + id, id + " Main Street");
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO product (id, name, category, price, sku) VALUES (?, ?, ?, ?, ?)", products);
+        jdbcTemplate.batchUpdate("INSERT INTO inventory (id, product_id, store_id, stock_level) VALUES (?, ?, ?, ?)", inventory);
+        jdbcTemplate.batchUpdate("INSERT INTO customer (id, name, email, phone) VALUES (?, ?, ?, ?)", customers);
+        CapturedSql.STATEMENTS.clear();
+    }
+
+    @Test
+    void inventoryLookupsUseAnIndex() {
+        assertIndexed(() -> inventoryRepository.findByProduct_IdAndStore_Id(7L, 8L));
+        assertIndexed(() -> inventoryRepository.findIdsByStoreIdAndProductIds(1L, List.of(1L, 2L, 3L)));
+    }
+
+    @Test
+    void productLookupsUseAnIndex() {
+        assertIndexed(() -> productRepository.findByid(7L));
+        assertIndexed(() -> productRepository.findByName("Product 7"));
+        assertIndexed(() -> productRepository.findBySku("SKU-7"));
+        assertIndexed(() -> productRepository.findByCategory("Category 7"));
+        assertIndexed(() -> productRepository.findIdsBySkuIn(List.of("SKU-1", "SKU-2")));
+        assertIndexed(() -> productRepository.findIdsAfter(100L, Limit.of(20)));
+    }
+
+    @Test
+    void storeListingsUseAnIndex() {
+        assertIndexed(() -> productRepository.findSummariesByStoreId(1L));
+        assertIndexed(() -> productRepository.findSummariesByStoreIdAndCategory(1L, "Category 7"));
+        assertIndexed(() -> productRepository.findProductByCategory("Category 7", 1L));
+    }
+
+    @Test
+    void customerLookupUsesAnIndex() {
+        assertIndexed(() -> customerRepository.findByEmail("customer7@example.com"));
+    }
+
+    @Test
+    void detectsAFullScan() {
+        String sql = "SELECT * FROM product WHERE price = ?";
+        assertFalse(fullScans(sql).isEmpty());
+    }
+
+    private void assertIndexed(Runnable query) {
+        CapturedSql.STATEMENTS.clear();
+        query.run();
+        assertFalse(CapturedSql.STATEMENTS.isEmpty(), "query didn't run any SQL");
+        for (String sql : CapturedSql.STATEMENTS) {
+            List<String> scans = fullScans(sql);
+            assertTrue(scans.isEmpty(), () -> "Full table scan " + scans + " in: " + sql);
+        }
+    }
+
+    // Returns the tables the plan of `sql` reads in full.
+    private List<String> fullScans(String sql) {
+        return jdbcTemplate.execute((Connection connection) -> {
+            boolean mysql = connection.getMetaData().getDatabaseProductName().toLowerCase(Locale.ROOT).contains("mysql");
+            List<String> scans = new ArrayList<>();
+            try (PreparedStatement explain = connection.prepareStatement("EXPLAIN " + sql)) {
+                for (int i = 1; i <= explain.getParameterMetaData().getParameterCount(); i++) {
+                    explain.setString(i, "1");
+                }
+                try (ResultSet plan = explain.executeQuery()) {
+                    while (plan.next()) {
+                        if (mysql) {
+                            // type ALL = full table scan, index = full index scan.
+                            String type = plan.getString("type");
+                            if ("ALL".equals(type) || "index".equals(type)) {
+                                scans.add(plan.getString("table"));
+                            }
+                        } else {
+                            // H2 prints one plan with a comment per table, e.g. /* PUBLIC.PRODUCT.tableScan */.
+                            for (String line : plan.getString(1).split("\n")) {
+                                if (line.contains(".tableScan")) {
+                                    scans.add(line.trim());
+                                }
+                            }
+                        }
+                    }
+                }
+            }
+            return scans;
+        });
+    }
+
+    // Records the SQL Hibernate sends, unchanged.
+    public static class CapturedSql implements StatementInspector {
+
+        static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql);
+            return sql;
+        }
+    }
+}
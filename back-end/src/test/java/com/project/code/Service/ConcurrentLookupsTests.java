@@ -0,0 +1,79 @@
+package com.project.code.Service;
+
+import com.project.code.config.LookupConfig;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(classes = {LookupConfig.class, ConcurrentLookups.class}, properties = {
+        "lookup.timeout=200ms",
+        "lookup.executor.pool-size=2",
+        "lookup.executor.queue-capacity=1"
+})
+// Every test gets a fresh executor, so lookups still blocked by one test don't occupy the pool of the next.
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+class ConcurrentLookupsTests {
+
+    @Autowired
+    private ConcurrentLookups concurrentLookups;
+
+    @Test
+    void lookupsRunInParallel() {
+        long start = System.nanoTime();
+        CompletableFuture<String> first = concurrentLookups.submit(() -> sleepAndReturn(120, "first"));
+        CompletableFuture<String> second = concurrentLookups.submit(() -> sleepAndReturn(120, "second"));
+
+        assertEquals("first", concurrentLookups.get(first, "fallback"));
+        assertEquals("second", concurrentLookups.get(second, "fallback"));
+        assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) < 230);
+    }
+
+    @Test
+    void slowOrFailingLookupsFallBack() {
+        CompletableFuture<String> slow = concurrentLookups.submit(() -> sleepAndReturn(1000, "slow"));
+        CompletableFuture<String> failing = concurrentLookups.submit(() -> {
+            throw new IllegalStateException("database down");
+        });
+
+        long start = System.nanoTime();
+        assertEquals("Unknown", concurrentLookups.get(slow, "Unknown"));
+        assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) < 500);
+        assertEquals("Unknown", concurrentLookups.get(failing, "Unknown"));
+    }
+
+    @Test
+    void lookupsBeyondTheQueueAreRejectedAndFallBack() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        for (int i = 0; i < 3; i++) {
+            concurrentLookups.submit(() -> {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return "busy";
+            });
+        }
+
+        CompletableFuture<String> rejected = concurrentLookups.submit(() -> "never runs");
+        assertTrue(rejected.isCompletedExceptionally());
+        assertEquals("Unknown", concurrentLookups.get(rejected, "Unknown"));
+        release.countDown();
+    }
+
+    private String sleepAndReturn(long millis, String value) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return value;
+    }
+}
@@ -0,0 +1,86 @@
+package com.project.code.Service;
+
+import com.project.code.Model.Store;
+import com.project.code.Repo.IdempotencyRecordRepository;
+import com.project.code.Repo.StoreRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@Import(IdempotencyRecordStore.class)
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+@TestPropertySource(properties = "idempotency.store=jdbc")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class IdempotencyRecordStoreTests {
+
+    @Autowired
+    private IdempotencyRecordStore recordStore;
+
+    @Autowired
+    private IdempotencyRecordRepository recordRepository;
+
+    @Autowired
+    private StoreRepository storeRepository;
+
+    private final AtomicInteger executions = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        recordRepository.deleteAll();
+        storeRepository.deleteAll();
+    }
+
+    @Test
+    void replaysTheStoredResponse() {
+        assertEquals("saved 1", recordStore.execute("key-1", "fingerprint", this::saveStore).get("message"));
+        assertEquals("saved 1", recordStore.execute("key-1", "fingerprint", this::saveStore).get("message"));
+
+        assertEquals(1, executions.get());
+        assertEquals(1, storeRepository.count());
+        assertThrows(IllegalArgumentException.class, () -> recordStore.execute("key-1", "other", this::saveStore));
+    }
+
+    @Test
+    void failureRollsBackTheClaimTogetherWithTheChanges() {
+        assertThrows(IllegalStateException.class, () -> recordStore.execute("key-1", "fingerprint", () -> {
+            saveStore();
+            throw new IllegalStateException("Insufficient stock");
+        }));
+        assertEquals(0, storeRepository.count());
+        assertFalse(recordRepository.existsById("key-1"));
+
+        assertEquals("saved 2", recordStore.execute("key-1", "fingerprint", this::saveStore).get("message"));
+        assertEquals(1, storeRepository.count());
+    }
+
+    @Test
+    void deletesExpiredRecords() {
+        recordStore.execute("key-1", "fingerprint", this::saveStore);
+        recordStore.deleteExpired();
+        assertTrue(recordRepository.existsById("key-1"));
+
+        ReflectionTestUtils.setField(recordStore, "ttl", Duration.ZERO);
+        recordStore.deleteExpired();
+        assertFalse(recordRepository.existsById("key-1"));
+    }
+
+    private Map<String, String> saveStore() {
+        storeRepository.save(new Store("Store", "1 Main Street"));
+        return Map.of("message", "saved " + executions.incrementAndGet());
+    }
+}
@@ -0,0 +1,97 @@
+package com.project.code.Service;
+
+import com.project.code.Model.PlaceOrderRequestDTO;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(classes = {IdempotencyService.class, JacksonAutoConfiguration.class})
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+class IdempotencyServiceTests {
+
+    @Autowired
+    private IdempotencyService idempotencyService;
+
+    private final AtomicInteger executions = new AtomicInteger();
+
+    @Test
+    void replaysTheFirstResponse() {
+        assertEquals("order 1", idempotencyService.execute("key-1", order(1L), this::placeOrder).get("message"));
+        assertEquals("order 1", idempotencyService.execute("key-1", order(1L), this::placeOrder).get("message"));
+        assertEquals("order 2", idempotencyService.execute("key-2", order(1L), this::placeOrder).get("message"));
+        assertEquals("order 3", idempotencyService.execute(null, order(1L), this::placeOrder).get("message"));
+        assertEquals(3, executions.get());
+    }
+
+    @Test
+    void collapsesConcurrentDuplicatesOntoOneExecution() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<Map<String, String>>> responses = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                responses.add(executor.submit(() -> idempotencyService.execute("key-1", order(1L), () -> {
+                    await(release);
+                    return placeOrder();
+                })));
+            }
+            Thread.sleep(100);
+            release.countDown();
+
+            for (Future<Map<String, String>> response : responses) {
+                assertEquals("order 1", response.get(5, TimeUnit.SECONDS).get("message"));
+            }
+            assertEquals(1, executions.get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void failedRequestsAreNotStored() {
+        assertThrows(IllegalStateException.class, () -> idempotencyService.execute("key-1", order(1L), () -> {
+            executions.incrementAndGet();
+            throw new IllegalStateException("Insufficient stock");
+        }));
+
+        assertEquals("order 2", idempotencyService.execute("key-1", order(1L), this::placeOrder).get("message"));
+    }
+
+    @Test
+    void refusesAKeyReusedForADifferentRequest() {
+        idempotencyService.execute("key-1", order(1L), this::placeOrder);
+
+        assertThrows(IllegalArgumentException.class, () -> idempotencyService.execute("key-1", order(2L), this::placeOrder));
+        assertEquals(1, executions.get());
+    }
+
+    private Map<String, String> placeOrder() {
+        return Map.of("message", "order " + executions.incrementAndGet());
+    }
+
+    private static PlaceOrderRequestDTO order(Long storeId) {
+        PlaceOrderRequestDTO request = new PlaceOrderRequestDTO();
+        request.setStoreId(storeId);
+        request.setCustomerEmail("jane@example.com");
+        request.setTotalPrice(10.0);
+        return request;
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
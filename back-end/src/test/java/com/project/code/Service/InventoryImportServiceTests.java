@@ -0,0 +1,163 @@
+package com.project.code.Service;
+
+import com.project.code.Model.BulkImportResult;
+import com.project.code.Model.Inventory;
+import com.project.code.Model.Product;
+import com.project.code.Model.Store;
+import com.project.code.Repo.InventoryRepository;
+import com.project.code.Repo.ProductRepository;
+import com.project.code.Repo.StoreRepository;
+import com.project.code.config.CacheConfig;
+import com.project.code.config.LookupConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@Import({InventoryImportService.class, BulkRowReader.class, ProductCache.class, ProductSearchIndex.class, CatalogVersions.class, CacheConfig.class, StoreShards.class, LookupConfig.class})
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class InventoryImportServiceTests {
+
+    private static final MediaType CSV = MediaType.parseMediaType(BulkRowReader.TEXT_CSV);
+
+    private static final MediaType NDJSON = MediaType.parseMediaType(BulkRowReader.APPLICATION_NDJSON);
+
+    @Autowired
+    private InventoryImportService inventoryImportService;
+
+    @Autowired
+    private ProductSearchIndex productSearchIndex;
+
+    @Autowired
+    private StoreRepository storeRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private InventoryRepository inventoryRepository;
+
+    private Store store;
+
+    private Product phone;
+
+    private Product laptop;
+
+    @BeforeEach
+    void setUp() {
+        inventoryRepository.deleteAll();
+        productRepository.deleteAll();
+        storeRepository.deleteAll();
+
+        store = storeRepository.save(new Store("Main Street", "1 Main Street"));
+        phone = saveProduct("Phone", "SKU-1");
+        laptop = saveProduct("Laptop", "SKU-2");
+        inventoryRepository.save(new Inventory(phone, store, 5));
+
+        productSearchIndex.rebuild();
+    }
+
+    @Test
+    void csvUpdatesExistingRowsAndCreatesMissingOnes() throws IOException {
+        BulkImportResult result = inventoryImportService.importInventory(body("""
+                storeId,productId,stockLevel
+                %d,%d,50
+                %d,%d,70
+                """.formatted(store.getId(), phone.getId(), store.getId(), laptop.getId())), CSV);
+
+        assertEquals(2, result.getRows());
+        assertEquals(1, result.getUpdated());
+        assertEquals(1, result.getCreated());
+        assertEquals(0, result.getRejected());
+        assertEquals(50, stockLevel(phone));
+        assertEquals(70, stockLevel(laptop));
+        assertEquals(2, inventoryRepository.count());
+        assertEquals(1, productSearchIndex.search("laptop", store.getId(), 10).size());
+    }
+
+    @Test
+    void ndjsonKeepsTheLastRowForARepeatedProduct() throws IOException {
+        BulkImportResult result = inventoryImportService.importInventory(body("""
+                {"storeId": %d, "productId": %d, "stockLevel": 10}
+                {"storeId": %d, "productId": %d, "stockLevel": 20}
+                """.formatted(store.getId(), laptop.getId(), store.getId(), laptop.getId())), NDJSON);
+
+        assertEquals(2, result.getRows());
+        assertEquals(1, result.getCreated());
+        assertEquals(1, result.getUpdated());
+        assertEquals(20, stockLevel(laptop));
+        assertEquals(2, inventoryRepository.count());
+    }
+
+    @Test
+    void rejectsBadRowsAndImportsTheRest() throws IOException {
+        BulkImportResult result = inventoryImportService.importInventory(body("""
+                storeId,productId,stockLevel
+                %d,%d,abc
+                %d,%d,-1
+                999999,%d,1
+                %d,999999,1
+                %d,%d,
+                %d,%d,8
+                """.formatted(store.getId(), phone.getId(), store.getId(), phone.getId(), phone.getId(), store.getId(),
+                store.getId(), phone.getId(), store.getId(), laptop.getId())), CSV);
+
+        assertEquals(6, result.getRows());
+        assertEquals(1, result.getCreated());
+        assertEquals(5, result.getRejected());
+        assertFalse(result.isAborted());
+        assertEquals(List.of(1L, 2L, 3L, 4L, 5L), result.getErrors().stream().map(BulkImportResult.RowError::row).toList());
+        assertTrue(result.getErrors().get(2).message().contains("Store 999999"));
+        assertTrue(result.getErrors().get(3).message().contains("Product 999999"));
+        assertEquals(5, stockLevel(phone));
+        assertEquals(8, stockLevel(laptop));
+    }
+
+    @Test
+    void malformedInputStopsTheImportAfterTheRowsBeforeIt() throws IOException {
+        BulkImportResult result = inventoryImportService.importInventory(body("""
+                {"storeId": %d, "productId": %d, "stockLevel": 30}
+                {"storeId": %d, "productId":
+                """.formatted(store.getId(), phone.getId(), store.getId())), NDJSON);
+
+        assertTrue(result.isAborted());
+        assertEquals(2, result.getRows());
+        assertEquals(1, result.getUpdated());
+        assertEquals(1, result.getRejected());
+        assertEquals(2, result.getErrors().get(0).row());
+        assertEquals(30, stockLevel(phone));
+    }
+
+    private Product saveProduct(String name, String sku) {
+        Product product = new Product();
+        product.setName(name);
+        product.setCategory("Mobile");
+        product.setPrice(100.0);
+        product.setSku(sku);
+        return productRepository.save(product);
+    }
+
+    private int stockLevel(Product product) {
+        return inventoryRepository.findByProduct_IdAndStore_Id(product.getId(), store.getId()).getStockLevel();
+    }
+
+    private static InputStream body(String text) {
+        return new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,277 @@
+package com.project.code.Service;
+
+import com.project.code.Model.*;
+import com.project.code.Repo.*;
+import com.project.code.config.CacheConfig;
+import com.project.code.config.LookupConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@Import({OrderService.class, OrderMetrics.class, CatalogVersions.class, ProductCache.class, CacheConfig.class, SimpleMeterRegistry.class, InventoryLedger.class, StoreShards.class, LookupConfig.class, OrderOutbox.class})
+@TestPropertySource(properties = "inventory.ledger.enabled=true")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class InventoryLedgerTests {
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private InventoryLedger inventoryLedger;
+
+    @Autowired
+    private StoreRepository storeRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private InventoryRepository inventoryRepository;
+
+    @Autowired
+    private InventoryLedgerEntryRepository ledgerEntryRepository;
+
+    @Autowired
+    private OrderDetailsRepository orderDetailsRepository;
+
+    @Autowired
+    private OrderItemRepository orderItemRepository;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private Store store;
+
+    @BeforeEach
+    void setUp() {
+        ledgerEntryRepository.deleteAll();
+        orderItemRepository.deleteAll();
+        orderDetailsRepository.deleteAll();
+        inventoryRepository.deleteAll();
+        productRepository.deleteAll();
+        customerRepository.deleteAll();
+        storeRepository.deleteAll();
+
+        store = storeRepository.save(new Store("Main Street", "1 Main Street"));
+    }
+
+    @Test
+    void reservationsNeverOversellAndAreFlushedToInventory() throws Exception {
+        int stock = 40;
+        int threads = 8;
+        int ordersPerThread = 20;
+
+        Product product = saveProduct("Widget", "SKU-1", stock);
+        inventoryLedger.load();
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger placed = new AtomicInteger();
+        List<Future<?>> futures = new ArrayList<>();
+
+        for (int t = 0; t < threads; t++) {
+            int thread = t;
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < ordersPerThread; i++) {
+                    try {
+                        orderService.saveOrder(request("c" + thread + "-" + i + "@example.com", product.getId(), 1));
+                        placed.incrementAndGet();
+                    } catch (IllegalStateException e) {
+                        // out of stock
+                    }
+                }
+                return null;
+            }));
+        }
+
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(60, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        assertEquals(stock, placed.get());
+        assertEquals(stock, ledgerEntryRepository.count());
+        assertEquals(0, inventoryRepository.findAvailableStock(store.getId(), product.getId()));
+
+        inventoryLedger.flush();
+
+        assertEquals(0, ledgerEntryRepository.count());
+        assertEquals(0, stockLevel(product));
+    }
+
+    @Test
+    void rolledBackReservationIsReleased() {
+        Product product = saveProduct("Widget", "SKU-A", 10);
+        inventoryLedger.load();
+
+        transactionTemplate.executeWithoutResult(status -> {
+            assertTrue(inventoryLedger.reserve(store.getId(), Map.of(product.getId(), 10)).isEmpty());
+            status.setRollbackOnly();
+        });
+
+        orderService.saveOrder(request("buyer@example.com", product.getId(), 10));
+        assertThrows(IllegalStateException.class,
+                () -> orderService.saveOrder(request("other@example.com", product.getId(), 1)));
+    }
+
+    @Test
+    void refreshKeepsReservationsThatAreStillInFlight() throws Exception {
+        Product product = saveProduct("Widget", "SKU-A", 10);
+        inventoryLedger.load();
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+
+        // Another thread reloads the counter while the reservation's transaction is open, then it rolls back.
+        transactionTemplate.executeWithoutResult(status -> {
+            assertTrue(inventoryLedger.reserve(store.getId(), Map.of(product.getId(), 10)).isEmpty());
+            try {
+                executor.submit(() -> inventoryLedger.refresh(store.getId(), product.getId())).get(10, TimeUnit.SECONDS);
+                executor.submit(() -> inventoryLedger.load()).get(10, TimeUnit.SECONDS);
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+            assertThrows(IllegalStateException.class,
+                    () -> orderService.saveOrder(request("other@example.com", product.getId(), 1)));
+            status.setRollbackOnly();
+        });
+        executor.shutdown();
+
+        // Handed back once, not on top of a reload that already counted it as available.
+        assertThrows(IllegalStateException.class,
+                () -> orderService.saveOrder(request("buyer@example.com", product.getId(), 11)));
+        orderService.saveOrder(request("buyer@example.com", product.getId(), 10));
+    }
+
+    @Test
+    void reloadsDuringCheckoutNeverOversell() throws Exception {
+        int stock = 40;
+        int threads = 8;
+        int ordersPerThread = 20;
+
+        Product product = saveProduct("Widget", "SKU-1", stock);
+        inventoryLedger.load();
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads + 1);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger placed = new AtomicInteger();
+        AtomicInteger finished = new AtomicInteger();
+        List<Future<?>> futures = new ArrayList<>();
+
+        for (int t = 0; t < threads; t++) {
+            int thread = t;
+            futures.add(executor.submit(() -> {
+                start.await();
+                try {
+                    for (int i = 0; i < ordersPerThread; i++) {
+                        try {
+                            orderService.saveOrder(request("c" + thread + "-" + i + "@example.com", product.getId(), 1));
+                            placed.incrementAndGet();
+                        } catch (IllegalStateException e) {
+                            // out of stock
+                        }
+                    }
+                } finally {
+                    finished.incrementAndGet();
+                }
+                return null;
+            }));
+        }
+        // Reloads and flushes the counter over and over while the orders come in.
+        futures.add(executor.submit(() -> {
+            start.await();
+            int round = 0;
+            while (finished.get() < threads) {
+                if (round++ % 2 == 0) {
+                    inventoryLedger.refresh(store.getId(), product.getId());
+                } else {
+                    inventoryLedger.load();
+                }
+                inventoryLedger.flush();
+            }
+            return null;
+        }));
+
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(60, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        assertEquals(stock, placed.get());
+        inventoryLedger.flush();
+        assertEquals(0, ledgerEntryRepository.count());
+        assertEquals(0, stockLevel(product));
+    }
+
+    @Test
+    void countersAreRebuiltFromInventoryMinusUnflushedEntries() {
+        Product product = saveProduct("Widget", "SKU-A", 10);
+        inventoryLedger.load();
+
+        orderService.saveOrder(request("buyer@example.com", product.getId(), 7));
+
+        // Simulate a restart before the flusher ran: only the journal knows about the 7 reserved units.
+        assertEquals(10, stockLevel(product));
+        inventoryLedger.load();
+
+        assertThrows(IllegalStateException.class,
+                () -> orderService.saveOrder(request("other@example.com", product.getId(), 4)));
+        orderService.saveOrder(request("other@example.com", product.getId(), 3));
+
+        inventoryLedger.flush();
+        assertEquals(0, stockLevel(product));
+    }
+
+    private Product saveProduct(String name, String sku, int stock) {
+        Product product = new Product();
+        product.setName(name);
+        product.setCategory("Tools");
+        product.setPrice(9.99);
+        product.setSku(sku);
+        product = productRepository.save(product);
+
+        inventoryRepository.save(new Inventory(product, store, stock));
+        return product;
+    }
+
+    private int stockLevel(Product product) {
+        return inventoryRepository.findByProduct_IdAndStore_Id(product.getId(), store.getId()).getStockLevel();
+    }
+
+    private PlaceOrderRequestDTO request(String email, long productId, int quantity) {
+        PlaceOrderRequestDTO request = new PlaceOrderRequestDTO();
+        request.setStoreId(store.getId());
+        request.setCustomerName("Customer");
+        request.setCustomerEmail(email);
+        request.setCustomerPhone("555-0100");
+        request.setTotalPrice(9.99 * quantity);
+
+        List<PurchaseProductDTO> items = new ArrayList<>();
+        PurchaseProductDTO item = new PurchaseProductDTO();
+        item.setId(productId);
+        item.setQuantity(quantity);
+        items.add(item);
+        request.setPurchaseProduct(items);
+        return request;
+    }
+}
@@ -0,0 +1,185 @@
+package com.project.code.Service;
+
+import com.project.code.Model.*;
+import com.project.code.Repo.*;
+import com.project.code.config.CacheConfig;
+import com.project.code.config.LookupConfig;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@Import({OrderService.class, OrderMetrics.class, CatalogVersions.class, ProductCache.class, CacheConfig.class, SimpleMeterRegistry.class, StoreShards.class, LookupConfig.class,
+        OrderOutbox.class, LowStockAlerts.class, OrderOutboxTests.RecordingConsumer.class})
+@TestPropertySource(properties = {"order.outbox.batch-size=2", "order.outbox.max-attempts=3", "inventory.low-stock-threshold=5"})
+// Orders have to commit for their events to be dispatched.
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class OrderOutboxTests {
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private OrderOutbox orderOutbox;
+
+    @Autowired
+    private RecordingConsumer consumer;
+
+    @Autowired
+    private MeterRegistry registry;
+
+    @Autowired
+    private OrderOutboxEntryRepository outboxRepository;
+
+    @Autowired
+    private StoreRepository storeRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private InventoryRepository inventoryRepository;
+
+    @Autowired
+    private OrderDetailsRepository orderDetailsRepository;
+
+    @Autowired
+    private OrderItemRepository orderItemRepository;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    private Store store;
+
+    private Product product;
+
+    @BeforeEach
+    void setUp() {
+        outboxRepository.deleteAll();
+        orderItemRepository.deleteAll();
+        orderDetailsRepository.deleteAll();
+        inventoryRepository.deleteAll();
+        productRepository.deleteAll();
+        customerRepository.deleteAll();
+        storeRepository.deleteAll();
+        consumer.received.clear();
+        consumer.failOnQuantity = 0;
+
+        store = storeRepository.save(new Store("Main Street", "1 Main Street"));
+        product = new Product();
+        product.setName("Widget");
+        product.setCategory("Tools");
+        product.setPrice(9.99);
+        product.setSku("SKU-OUTBOX");
+        product = productRepository.save(product);
+        inventoryRepository.save(new Inventory(product, store, 10));
+    }
+
+    @Test
+    void committedOrdersAreDeliveredAfterCheckout() {
+        orderService.saveOrder(request("a@example.com", 1));
+        orderService.saveOrder(request("b@example.com", 2));
+        orderService.saveOrder(request("c@example.com", 3));
+        // Rolled back for lack of stock, so no event either.
+        assertThrows(IllegalStateException.class, () -> orderService.saveOrder(request("d@example.com", 50)));
+
+        // Checkout only wrote the outbox rows; nothing was delivered yet.
+        assertEquals(3, outboxRepository.count());
+        assertTrue(consumer.received.isEmpty());
+
+        // The meters are shared by all tests of this class.
+        long delivered = registry.get("order.outbox.lag").timer().count();
+        double lowStock = registry.get("inventory.stock.low").counter().count();
+        orderOutbox.dispatch();
+
+        assertEquals(List.of(1, 2, 3), consumer.received.stream().map(event -> event.items().get(0).quantity()).toList());
+        OrderEvent event = consumer.received.get(0);
+        assertEquals(store.getId(), event.storeId());
+        assertEquals(List.of(new OrderEvent.Item(product.getId(), 1, 9.99)), event.items());
+        assertEquals(0, outboxRepository.count());
+        assertEquals(delivered + 3, registry.get("order.outbox.lag").timer().count());
+        assertEquals(3, registry.get("order.outbox.pending").gauge().value());
+
+        // Stock went 10 -> 9 -> 7 -> 4: below the threshold of 5, and reported once although all three orders see it.
+        assertEquals(lowStock + 1, registry.get("inventory.stock.low").counter().count());
+    }
+
+    @Test
+    void failedEventsAreRetriedAndThenKeptAsDeadLetters() {
+        consumer.failOnQuantity = 2;
+        orderService.saveOrder(request("a@example.com", 1));
+        orderService.saveOrder(request("b@example.com", 2));
+
+        orderOutbox.dispatch();
+        assertEquals(List.of(1), quantitiesReceived());
+        assertEquals(1, registry.get("order.outbox.failures").tag("consumer", "RecordingConsumer").counter().count());
+        assertEquals(1, outboxRepository.findAll().get(0).getAttempts());
+
+        // Retried on every run until order.outbox.max-attempts, then left alone.
+        orderOutbox.dispatch();
+        orderOutbox.dispatch();
+        orderOutbox.dispatch();
+        assertEquals(3, outboxRepository.findAll().get(0).getAttempts());
+        assertEquals(3, registry.get("order.outbox.failures").tag("consumer", "RecordingConsumer").counter().count());
+        assertEquals(1, registry.get("order.outbox.dead").gauge().value());
+        assertEquals(0, registry.get("order.outbox.pending").gauge().value());
+
+        // A dead letter is delivered again once its attempts are reset.
+        consumer.failOnQuantity = 0;
+        OrderOutboxEntry dead = outboxRepository.findAll().get(0);
+        dead.setAttempts(0);
+        outboxRepository.save(dead);
+        orderOutbox.dispatch();
+        assertEquals(List.of(1, 2), quantitiesReceived());
+        assertEquals(0, outboxRepository.count());
+    }
+
+    private List<Integer> quantitiesReceived() {
+        return consumer.received.stream().map(event -> event.items().get(0).quantity()).toList();
+    }
+
+    private PlaceOrderRequestDTO request(String email, int quantity) {
+        PlaceOrderRequestDTO request = new PlaceOrderRequestDTO();
+        request.setStoreId(store.getId());
+        request.setCustomerName("Customer");
+        request.setCustomerEmail(email);
+        request.setCustomerPhone("555-0100");
+        request.setTotalPrice(9.99 * quantity);
+
+        PurchaseProductDTO item = new PurchaseProductDTO();
+        item.setId(product.getId());
+        item.setQuantity(quantity);
+        List<PurchaseProductDTO> items = new ArrayList<>();
+        items.add(item);
+        request.setPurchaseProduct(items);
+        return request;
+    }
+
+    // Records the events it receives, and fails on orders of `failOnQuantity` units.
+    static class RecordingConsumer implements OrderEventConsumer {
+
+        private final List<OrderEvent> received = new ArrayList<>();
+
+        private int failOnQuantity;
+
+        @Override
+        public void onOrderPlaced(OrderEvent event) {
+            if (event.items().get(0).quantity() == failOnQuantity) {
+                throw new IllegalStateException("Consumer down");
+            }
+            received.add(event);
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package com.project.code.Service;
+
+import com.project.code.Model.*;
+import com.project.code.Repo.*;
+import com.project.code.config.CacheConfig;
+import com.project.code.config.LookupConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@Import({OrderService.class, OrderMetrics.class, CatalogVersions.class, ProductCache.class, CacheConfig.class, SimpleMeterRegistry.class, StoreShards.class, LookupConfig.class, OrderOutbox.class})
+// Every saveOrder call has to commit on its own so the worker threads really compete for the inventory row.
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class OrderServiceTests {
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private StoreRepository storeRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private InventoryRepository inventoryRepository;
+
+    @Autowired
+    private OrderDetailsRepository orderDetailsRepository;
+
+    @Autowired
+    private OrderItemRepository orderItemRepository;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    private Store store;
+
+    @BeforeEach
+    void setUp() {
+        orderItemRepository.deleteAll();
+        orderDetailsRepository.deleteAll();
+        inventoryRepository.deleteAll();
+        productRepository.deleteAll();
+        customerRepository.deleteAll();
+        storeRepository.deleteAll();
+
+        store = storeRepository.save(new Store("Main Street", "1 Main Street"));
+    }
+
+    @Test
+    void concurrentOrdersNeverOversell() throws Exception {
+        int stock = 50;
+        int threads = 8;
+        int ordersPerThread = 25;
+
+        Product product = saveProduct("Widget", "SKU-1", stock);
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger placed = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+        List<Future<?>> futures = new ArrayList<>();
+
+        for (int t = 0; t < threads; t++) {
+            int thread = t;
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < ordersPerThread; i++) {
+                    try {
+                        orderService.saveOrder(request("c" + thread + "-" + i + "@example.com", product.getId(), 1));
+                        placed.incrementAndGet();
+                    } catch (IllegalStateException e) {
+                        rejected.incrementAndGet();
+                    }
+                }
+                return null;
+            }));
+        }
+
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(60, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        assertEquals(stock, placed.get());
+        assertEquals(threads * ordersPerThread - stock, rejected.get());
+        assertEquals(0, stockLevel(product));
+        assertEquals(stock, orderItemRepository.count());
+        assertEquals(stock, orderDetailsRepository.count());
+    }
+
+    @Test
+    void insufficientStockRollsBackWholeOrder() {
+        Product first = saveProduct("First", "SKU-A", 10);
+        Product second = saveProduct("Second", "SKU-B", 1);
+
+        PlaceOrderRequestDTO request = request("buyer@example.com", first.getId(), 3);
+        request.getPurchaseProduct().add(item(second.getId(), 2));
+
+        assertThrows(IllegalStateException.class, () -> orderService.saveOrder(request));
+
+        assertEquals(10, stockLevel(first));
+        assertEquals(1, stockLevel(second));
+        assertEquals(0, orderDetailsRepository.count());
+        assertEquals(0, orderItemRepository.count());
+    }
+
+    private Product saveProduct(String name, String sku, int stock) {
+        Product product = new Product();
+        product.setName(name);
+        product.setCategory("Tools");
+        product.setPrice(9.99);
+        product.setSku(sku);
+        product = productRepository.save(product);
+
+        inventoryRepository.save(new Inventory(product, store, stock));
+        return product;
+    }
+
+    private int stockLevel(Product product) {
+        return inventoryRepository.findByProduct_IdAndStore_Id(product.getId(), store.getId()).getStockLevel();
+    }
+
+    private PlaceOrderRequestDTO request(String email, long productId, int quantity) {
+        PlaceOrderRequestDTO request = new PlaceOrderRequestDTO();
+        request.setStoreId(store.getId());
+        request.setCustomerName("Customer");
+        request.setCustomerEmail(email);
+        request.setCustomerPhone("555-0100");
+        request.setTotalPrice(9.99 * quantity);
+
+        List<PurchaseProductDTO> items = new ArrayList<>();
+        items.add(item(productId, quantity));
+        request.setPurchaseProduct(items);
+        return request;
+    }
+
+    private PurchaseProductDTO item(long productId, int quantity) {
+        PurchaseProductDTO item = new PurchaseProductDTO();
+        item.setId(productId);
+        item.setQuantity(quantity);
+        return item;
+    }
+}
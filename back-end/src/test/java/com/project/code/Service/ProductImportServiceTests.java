@@ -0,0 +1,131 @@
+package com.project.code.Service;
+
+import com.project.code.Model.BulkImportResult;
+import com.project.code.Model.Product;
+import com.project.code.Repo.InventoryRepository;
+import com.project.code.Repo.ProductRepository;
+import com.project.code.Repo.StoreRepository;
+import com.project.code.config.CacheConfig;
+import com.project.code.config.LookupConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@Import({ProductImportService.class, BulkRowReader.class, ProductCache.class, ProductSearchIndex.class, CatalogVersions.class, CacheConfig.class, StoreShards.class, LookupConfig.class})
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ProductImportServiceTests {
+
+    private static final MediaType CSV = MediaType.parseMediaType(BulkRowReader.TEXT_CSV);
+
+    private static final MediaType NDJSON = MediaType.parseMediaType(BulkRowReader.APPLICATION_NDJSON);
+
+    @Autowired
+    private ProductImportService productImportService;
+
+    @Autowired
+    private ProductSearchIndex productSearchIndex;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private InventoryRepository inventoryRepository;
+
+    @Autowired
+    private StoreRepository storeRepository;
+
+    private Product phone;
+
+    @BeforeEach
+    void setUp() {
+        inventoryRepository.deleteAll();
+        productRepository.deleteAll();
+        storeRepository.deleteAll();
+
+        phone = new Product();
+        phone.setName("Phone");
+        phone.setCategory("Mobile");
+        phone.setPrice(100.0);
+        phone.setSku("SKU-1");
+        phone = productRepository.save(phone);
+
+        productSearchIndex.rebuild();
+    }
+
+    @Test
+    void csvUpdatesKnownSkusAndCreatesNewOnes() throws IOException {
+        BulkImportResult result = productImportService.importProducts(body("""
+                sku,name,category,price
+                SKU-1,Smart Phone,Mobile,150.0
+                SKU-2,Laptop,Computers,900.0
+                """), CSV);
+
+        assertEquals(2, result.getRows());
+        assertEquals(1, result.getUpdated());
+        assertEquals(1, result.getCreated());
+        assertEquals(0, result.getRejected());
+
+        Product updated = productRepository.findBySku("SKU-1");
+        assertEquals(phone.getId(), updated.getId());
+        assertEquals("Smart Phone", updated.getName());
+        assertEquals(150.0, updated.getPrice());
+        Product created = productRepository.findBySku("SKU-2");
+        assertEquals("Laptop", created.getName());
+        assertEquals(2, productRepository.count());
+
+        assertEquals(List.of(created.getId()), productSearchIndex.search("laptop", null, 10).stream().map(p -> p.getId()).toList());
+        assertEquals(List.of(phone.getId()), productSearchIndex.search("smart", null, 10).stream().map(p -> p.getId()).toList());
+    }
+
+    @Test
+    void ndjsonKeepsTheLastRowForARepeatedSku() throws IOException {
+        BulkImportResult result = productImportService.importProducts(body("""
+                {"sku": "SKU-3", "name": "Tablet", "category": "Computers", "price": 300.0}
+                {"sku": "SKU-3", "name": "Tablet Pro", "category": "Computers", "price": 500.0}
+                """), NDJSON);
+
+        assertEquals(1, result.getCreated());
+        assertEquals(1, result.getUpdated());
+        assertEquals("Tablet Pro", productRepository.findBySku("SKU-3").getName());
+        assertEquals(2, productRepository.count());
+    }
+
+    @Test
+    void rejectsInvalidRowsAndImportsTheRest() throws IOException {
+        BulkImportResult result = productImportService.importProducts(body("""
+                sku,name,category,price
+                ,Nameless,Mobile,10.0
+                SKU-4,,Mobile,10.0
+                SKU-5,Charger,Mobile,-1
+                SKU-6,Cable,Mobile,cheap
+                SKU-7,Speaker,Audio,80.0
+                """), CSV);
+
+        assertEquals(5, result.getRows());
+        assertEquals(1, result.getCreated());
+        assertEquals(4, result.getRejected());
+        assertEquals(List.of(1L, 2L, 3L, 4L), result.getErrors().stream().map(BulkImportResult.RowError::row).toList());
+        assertEquals(2, productRepository.count());
+    }
+
+    private static InputStream body(String text) {
+        return new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8));
+    }
+}
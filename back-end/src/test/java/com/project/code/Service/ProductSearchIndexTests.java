@@ -0,0 +1,142 @@
+package com.project.code.Service;
+
+import com.project.code.Model.Inventory;
+import com.project.code.Model.Product;
+import com.project.code.Model.ProductSummary;
+import com.project.code.Model.Store;
+import com.project.code.Repo.InventoryRepository;
+import com.project.code.Repo.ProductRepository;
+import com.project.code.Repo.StoreRepository;
+import com.project.code.config.LookupConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@Import({ProductSearchIndex.class, StoreShards.class, LookupConfig.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ProductSearchIndexTests {
+
+    @Autowired
+    private ProductSearchIndex productSearchIndex;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private StoreRepository storeRepository;
+
+    @Autowired
+    private InventoryRepository inventoryRepository;
+
+    private Store store;
+
+    private Product iphone;
+
+    private Product phoneCase;
+
+    private Product headphones;
+
+    @BeforeEach
+    void setUp() {
+        inventoryRepository.deleteAll();
+        productRepository.deleteAll();
+        storeRepository.deleteAll();
+
+        store = storeRepository.save(new Store("Mobile World", "101 Mobile Blvd"));
+        iphone = saveProduct("iPhone 13", "SKU-PH-13");
+        phoneCase = saveProduct("Phone Case", "SKU-CASE-1");
+        headphones = saveProduct("Sony Headphones", "SKU-AUDIO-7");
+        inventoryRepository.save(new Inventory(phoneCase, store, 10));
+
+        productSearchIndex.rebuild();
+    }
+
+    @Test
+    void ranksPrefixMatchesBeforeMatchesInsideTheName() {
+        assertEquals(List.of(phoneCase.getId(), iphone.getId(), headphones.getId()), ids(productSearchIndex.search("PHONE", null, 10)));
+        assertEquals(List.of(phoneCase.getId()), ids(productSearchIndex.search("phone", null, 1)));
+        assertEquals(List.of(headphones.getId()), ids(productSearchIndex.search("audio", null, 10)));
+        assertEquals(List.of(phoneCase.getId()), ids(productSearchIndex.search("ph", null, 10)));
+        assertTrue(productSearchIndex.search("tablet", null, 10).isEmpty());
+    }
+
+    @Test
+    void storeSearchOnlyReturnsProductsTheStoreCarries() {
+        assertEquals(List.of(phoneCase.getId()), ids(productSearchIndex.search("phone", store.getId(), 10)));
+
+        productSearchIndex.addStore(iphone.getId(), store.getId());
+        assertEquals(List.of(phoneCase.getId(), iphone.getId()), ids(productSearchIndex.search("phone", store.getId(), 10)));
+    }
+
+    @Test
+    void followsRenamesAndDeletes() {
+        phoneCase.setName("Tablet Sleeve");
+        productSearchIndex.index(phoneCase);
+        productSearchIndex.remove(headphones.getId());
+
+        assertEquals(List.of(iphone.getId()), ids(productSearchIndex.search("phone", null, 10)));
+        assertEquals(List.of(phoneCase.getId()), ids(productSearchIndex.search("sleeve", store.getId(), 10)));
+    }
+
+    @Test
+    void renamedProductsNoLongerMatchTheirOldName() {
+        List<Product> phones = new ArrayList<>();
+        for (int i = 0; i < 60; i++) {
+            phones.add(saveProduct("Nokia Phone " + i, "SKU-NOKIA-" + i));
+        }
+        productSearchIndex.rebuild();
+
+        // Renames and deletes from the middle of the shared postings move other products around in them.
+        Set<Long> renamed = new HashSet<>();
+        Set<Long> kept = new HashSet<>();
+        for (int i = 0; i < phones.size(); i++) {
+            Product phone = phones.get(i);
+            if (i % 3 == 0) {
+                phone.setName("Nokia Tablet " + i);
+                productSearchIndex.index(phone);
+                renamed.add(phone.getId());
+            } else if (i % 7 == 0) {
+                productSearchIndex.remove(phone.getId());
+            } else {
+                kept.add(phone.getId());
+            }
+        }
+
+        assertEquals(kept, new HashSet<>(ids(productSearchIndex.search("nokia phone", null, 100))));
+        assertEquals(renamed, new HashSet<>(ids(productSearchIndex.search("nokia tablet", null, 100))));
+        assertTrue(productSearchIndex.search("nokia phone 3", null, 100).stream()
+                .noneMatch(product -> product.getName().equals("Nokia Phone 3")));
+
+        // Renaming one back makes it match its old name again, and only that.
+        Product phone = phones.get(3);
+        phone.setName("Nokia Phone 3");
+        productSearchIndex.index(phone);
+        assertEquals(List.of(phone.getId()), ids(productSearchIndex.search("nokia phone 3", null, 1)));
+        assertFalse(ids(productSearchIndex.search("nokia tablet", null, 100)).contains(phone.getId()));
+    }
+
+    private Product saveProduct(String name, String sku) {
+        Product product = new Product();
+        product.setName(name);
+        product.setCategory("Mobile");
+        product.setPrice(99.0);
+        product.setSku(sku);
+        return productRepository.save(product);
+    }
+
+    private List<Long> ids(List<ProductSummary> products) {
+        return products.stream().map(ProductSummary::getId).toList();
+    }
+}
@@ -0,0 +1,118 @@
+package com.project.code.Service;
+
+import com.project.code.Model.Review;
+import com.project.code.Model.ReviewRollup;
+import com.project.code.Repo.ReviewRepository;
+import com.project.code.Repo.ReviewRollupRepository;
+import de.bwaldvogel.mongo.MongoServer;
+import de.bwaldvogel.mongo.backend.memory.MemoryBackend;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.data.mongo.DataMongoTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.net.InetSocketAddress;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Runs against an in-memory MongoDB server (mongo-java-server), so the upserts and the rebuild pipeline really run.
+@DataMongoTest(properties = "mongodb.ensure-indexes=false")
+@Import(ReviewRollupService.class)
+class ReviewRollupServiceTests {
+
+    private static final MongoServer SERVER = new MongoServer(new MemoryBackend());
+
+    private static final String URI = "mongodb://" + hostAndPort(SERVER.bind()) + "/test";
+
+    @DynamicPropertySource
+    static void mongo(DynamicPropertyRegistry registry) {
+        registry.add("spring.data.mongodb.uri", () -> URI);
+    }
+
+    @AfterAll
+    static void stopServer() {
+        SERVER.shutdown();
+    }
+
+    @Autowired
+    private ReviewRollupService reviewRollupService;
+
+    @Autowired
+    private ReviewRepository reviewRepository;
+
+    @Autowired
+    private ReviewRollupRepository reviewRollupRepository;
+
+    @BeforeEach
+    void setUp() {
+        reviewRepository.deleteAll();
+        reviewRollupRepository.deleteAll();
+    }
+
+    @Test
+    void newReviewsUpdateTheAverageAndCount() {
+        addReview(1L, 10L, 5);
+        ReviewRollup rollup = rollup(1L, 10L);
+        assertEquals(1, rollup.getCount());
+        assertEquals(5.0, rollup.getAverage());
+
+        addReview(1L, 10L, 2);
+        addReview(1L, 10L, 2);
+        rollup = rollup(1L, 10L);
+        assertEquals(3, rollup.getCount());
+        assertEquals(3.0, rollup.getAverage());
+        assertArrayEquals(new long[]{0, 2, 0, 0, 1}, rollup.getHistogram());
+
+        // Other products and stores keep their own rollups.
+        addReview(2L, 10L, 4);
+        assertEquals(3, rollup(1L, 10L).getCount());
+        assertEquals(1, rollup(2L, 10L).getCount());
+        assertEquals(0, rollup(1L, 11L).getCount());
+    }
+
+    @Test
+    void rebuildReproducesTheRollupsFromTheReviews() {
+        addReview(1L, 10L, 5);
+        addReview(1L, 10L, 3);
+        addReview(1L, 10L, 4);
+        addReview(1L, 11L, 1);
+        addReview(2L, 10L, 2);
+        List<ReviewRollup> recorded = reviewRollupRepository.findAll();
+
+        // Drift: a rollup lost and one changed behind the service's back.
+        reviewRollupRepository.deleteById(ReviewRollup.key(1L, 11L));
+        ReviewRollup drifted = rollup(1L, 10L);
+        drifted.setCount(99);
+        reviewRollupRepository.save(drifted);
+
+        reviewRollupService.rebuild();
+
+        List<ReviewRollup> rebuilt = reviewRollupRepository.findAll();
+        assertEquals(recorded.size(), rebuilt.size());
+        for (ReviewRollup expected : recorded) {
+            ReviewRollup actual = rollup(expected.getStoreId(), expected.getProductId());
+            assertEquals(expected.getId(), actual.getId());
+            assertEquals(expected.getCount(), actual.getCount());
+            assertEquals(expected.getSum(), actual.getSum());
+            assertArrayEquals(expected.getHistogram(), actual.getHistogram());
+        }
+    }
+
+    private void addReview(Long storeId, Long productId, int rating) {
+        Review review = reviewRepository.save(new Review(100L, productId, storeId, rating));
+        reviewRollupService.recordReview(review);
+    }
+
+    private ReviewRollup rollup(Long storeId, Long productId) {
+        return reviewRollupService.getRollups(storeId, List.of(productId)).get(0);
+    }
+
+    private static String hostAndPort(InetSocketAddress address) {
+        return address.getHostString() + ":" + address.getPort();
+    }
+}
@@ -351,7 +351,7 @@ async function createData(products, storeId) {
 
         const stockLevel = document.createElement('td');
         stockLevel.classList.add('expandable');
-        stockLevel.textContent = product.inventory[0].stockLevel;
+        stockLevel.textContent = product.stockLevel;
 
         const reviewCol = document.createElement('td');
         const reviewBtn = document.createElement('button');
@@ -369,7 +369,7 @@ async function createData(products, storeId) {
         button.classList.add('btn', 'btn-warning');
         button.textContent = 'Edit';
         button.addEventListener('click', () => {
-            window.location = `edit-product.html?productId=${product.id}&storeId=${storeId}&stockLevel=${product.inventory[0].stockLevel}`;
+            window.location = `edit-product.html?productId=${product.id}&storeId=${storeId}&stockLevel=${product.stockLevel}`;
 
         });
         buttoncolumn.appendChild(button);
@@ -565,8 +565,9 @@ function addProductToInventory(event) {
 
 
 
-function viewProductList() {
-    let url = `${apiURL}/product`;
+function viewProductList(afterId) {
+    // The product list is paged by id; keep fetching pages until the server reports no next page.
+    let url = `${apiURL}/product?afterId=${afterId || 0}&limit=500`;
     fetch(url, {
         method: "GET",
         headers: { "content-type": "application/json" },
@@ -576,7 +577,10 @@ function viewProductList() {
         })
         .then(data => {
             if (data.products) {
-                showProductsInTable(data.products);
+                showProductsInTable(data.products, afterId !== undefined);
+                if (data.nextAfterId != null) {
+                    viewProductList(data.nextAfterId);
+                }
             }
             else {
                 alert("No data with product id: " + productId);
@@ -589,9 +593,11 @@ function viewProductList() {
         })
 }
 
-function showProductsInTable(products) {
+function showProductsInTable(products, append) {
     allProducts = document.getElementById('allProducts')
-    allProducts.innerHTML = "";
+    if (!append) {
+        allProducts.innerHTML = "";
+    }
     products.forEach(product => {
 
         const row = document.createElement('tr');
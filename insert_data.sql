@@ -183,807 +183,809 @@ INSERT INTO customer (name, email, phone) VALUES
 ('Joshua Young', 'joshua.young@example.com', '7788990011'),
 ('Luke Davis', 'luke.davis@example.com', '8899001122');
 
-INSERT INTO order_details (customer_id, store_id, total_price, date) 
-VALUES (1, 1, ROUND(RAND() * 300 + 100, 2), DATE_ADD('2024-03-31', INTERVAL FLOOR(RAND() * 365) DAY));
+INSERT INTO order_details (id, customer_id, store_id, total_price, date) 
+VALUES (1, 1, 1, ROUND(RAND() * 300 + 100, 2), DATE_ADD('2024-03-31', INTERVAL FLOOR(RAND() * 365) DAY));
 
 -- Order 2
-INSERT INTO order_details (customer_id, store_id, total_price, date) 
-VALUES (2, 2, ROUND(RAND() * 300 + 100, 2), DATE_ADD('2024-03-31', INTERVAL FLOOR(RAND() * 365) DAY));
+INSERT INTO order_details (id, customer_id, store_id, total_price, date) 
+VALUES (2, 2, 2, ROUND(RAND() * 300 + 100, 2), DATE_ADD('2024-03-31', INTERVAL FLOOR(RAND() * 365) DAY));
 
 -- Order 3
-INSERT INTO order_details (customer_id, store_id, total_price, date) 
-VALUES (3, 3, ROUND(RAND() * 300 + 100, 2), DATE_ADD('2024-03-31', INTERVAL FLOOR(RAND() * 365) DAY));
+INSERT INTO order_details (id, customer_id, store_id, total_price, date) 
+VALUES (3, 3, 3, ROUND(RAND() * 300 + 100, 2), DATE_ADD('2024-03-31', INTERVAL FLOOR(RAND() * 365) DAY));
 
 -- Order 4
-INSERT INTO order_details (customer_id, store_id, total_price, date) 
-VALUES (4, 4, ROUND(RAND() * 300 + 100, 2), DATE_ADD('2024-03-31', INTERVAL FLOOR(RAND() * 365) DAY));
+INSERT INTO order_details (id, customer_id, store_id, total_price, date) 
+VALUES (4, 4, 4, ROUND(RAND() * 300 + 100, 2), DATE_ADD('2024-03-31', INTERVAL FLOOR(RAND() * 365) DAY));
 
 -- Order 5
-INSERT INTO order_details (customer_id, store_id, total_price, date) 
-VALUES (5, 5, ROUND(RAND() * 300 + 100, 2), DATE_ADD('2024-03-31', INTERVAL FLOOR(RAND() * 365) DAY));
+INSERT INTO order_details (id, customer_id, store_id, total_price, date) 
+VALUES (5, 5, 5, ROUND(RAND() * 300 + 100, 2), DATE_ADD('2024-03-31', INTERVAL FLOOR(RAND() * 365) DAY));
 
 -- Order 6
-INSERT INTO order_details (customer_id, store_id, total_price, date) 
-VALUES (6, 6, ROUND(RAND() * 300 + 100, 2), DATE_ADD('2024-03-31', INTERVAL FLOOR(RAND() * 365) DAY));
+INSERT INTO order_details (id, customer_id, store_id, total_price, date) 
+VALUES (6, 6, 6, ROUND(RAND() * 300 + 100, 2), DATE_ADD('2024-03-31', INTERVAL FLOOR(RAND() * 365) DAY));
 
 -- Order 7
-INSERT INTO order_details (customer_id, store_id, total_price, date) 
-VALUES (7, 7, ROUND(RAND() * 300 + 100, 2), DATE_ADD('2024-03-31', INTERVAL FLOOR(RAND() * 365) DAY));
+INSERT INTO order_details (id, customer_id, store_id, total_price, date) 
+VALUES (7, 7, 7, ROUND(RAND() * 300 + 100, 2), DATE_ADD('2024-03-31', INTERVAL FLOOR(RAND() * 365) DAY));
 
 -- Order 8
-INSERT INTO order_details (customer_id, store_id, total_price, date) 
-VALUES (8, 8, ROUND(RAND() * 300 + 100, 2), DATE_ADD('2024-03-31', INTERVAL FLOOR(RAND() * 365) DAY));
+INSERT INTO order_details (id, customer_id, store_id, total_price, date) 
+VALUES (8, 8, 8, ROUND(RAND() * 300 + 100, 2), DATE_ADD('2024-03-31', INTERVAL FLOOR(RAND() * 365) DAY));
 
 -- Order 9
-INSERT INTO order_details (customer_id, store_id, total_price, date) 
-VALUES (9, 9, ROUND(RAND() * 300 + 100, 2), DATE_ADD('2024-03-31', INTERVAL FLOOR(RAND() * 365) DAY));
+INSERT INTO order_details (id, customer_id, store_id, total_price, date) 
+VALUES (9, 9, 9, ROUND(RAND() * 300 + 100, 2), DATE_ADD('2024-03-31', INTERVAL FLOOR(RAND() * 365) DAY));
 
 -- Order 10
-INSERT INTO order_details (customer_id, store_id, total_price, date) 
-VALUES (10, 10, ROUND(RAND() * 300 + 100, 2), DATE_ADD('2024-03-31', INTERVAL FLOOR(RAND() * 365) DAY));
+INSERT INTO order_details (id, customer_id, store_id, total_price, date) 
+VALUES (10, 10, 10, ROUND(RAND() * 300 + 100, 2), DATE_ADD('2024-03-31', INTERVAL FLOOR(RAND() * 365) DAY));
 
 -- Order 11
-INSERT INTO order_details (customer_id, store_id, total_price, date) 
-VALUES (11, 1, ROUND(RAND() * 300 + 100, 2), DATE_ADD('2024-03-31', INTERVAL FLOOR(RAND() * 365) DAY));
+INSERT INTO order_details (id, customer_id, store_id, total_price, date) 
+VALUES (11, 11, 1, ROUND(RAND() * 300 + 100, 2), DATE_ADD('2024-03-31', INTERVAL FLOOR(RAND() * 365) DAY));
 
 -- Order 12
-INSERT INTO order_details (customer_id, store_id, total_price, date) 
-VALUES (12, 2, ROUND(RAND() * 300 + 100, 2), DATE_ADD('2024-03-31', INTERVAL FLOOR(RAND() * 365) DAY));
+INSERT INTO order_details (id, customer_id, store_id, total_price, date) 
+VALUES (12, 12, 2, ROUND(RAND() * 300 + 100, 2), DATE_ADD('2024-03-31', INTERVAL FLOOR(RAND() * 365) DAY));
 
 -- Order 13
-INSERT INTO order_details (customer_id, store_id, total_price, date) 
-VALUES (13, 3, ROUND(RAND() * 300 + 100, 2), DATE_ADD('2024-03-31', INTERVAL FLOOR(RAND() * 365) DAY));
+INSERT INTO order_details (id, customer_id, store_id, total_price, date) 
+VALUES (13, 13, 3, ROUND(RAND() * 300 + 100, 2), DATE_ADD('2024-03-31', INTERVAL FLOOR(RAND() * 365) DAY));
 
 -- Order 14
-INSERT INTO order_details (customer_id, store_id, total_price, date) 
-VALUES (14, 4, ROUND(RAND() * 300 + 100, 2), DATE_ADD('2024-03-31', INTERVAL FLOOR(RAND() * 365) DAY));
+INSERT INTO order_details (id, customer_id, store_id, total_price, date) 
+VALUES (14, 14, 4, ROUND(RAND() * 300 + 100, 2), DATE_ADD('2024-03-31', INTERVAL FLOOR(RAND() * 365) DAY));
 
 -- Order 15
-INSERT INTO order_details (customer_id, store_id, total_price, date) 
-VALUES (15, 5, ROUND(RAND() * 300 + 100, 2), DATE_ADD('2024-03-31', INTERVAL FLOOR(RAND() * 365) DAY));
+INSERT INTO order_details (id, customer_id, store_id, total_price, date) 
+VALUES (15, 15, 5, ROUND(RAND() * 300 + 100, 2), DATE_ADD('2024-03-31', INTERVAL FLOOR(RAND() * 365) DAY));
 
 -- Order 16
-INSERT INTO order_details (customer_id, store_id, total_price, date) 
-VALUES (16, 6, ROUND(RAND() * 300 + 100, 2), DATE_ADD('2024-03-31', INTERVAL FLOOR(RAND() * 365) DAY));
+INSERT INTO order_details (id, customer_id, store_id, total_price, date) 
+VALUES (16, 16, 6, ROUND(RAND() * 300 + 100, 2), DATE_ADD('2024-03-31', INTERVAL FLOOR(RAND() * 365) DAY));
 
 -- Order 17
-INSERT INTO order_details (customer_id, store_id, total_price, date) 
-VALUES (17, 7, ROUND(RAND() * 300 + 100, 2), DATE_ADD('2024-03-31', INTERVAL FLOOR(RAND() * 365) DAY));
+INSERT INTO order_details (id, customer_id, store_id, total_price, date) 
+VALUES (17, 17, 7, ROUND(RAND() * 300 + 100, 2), DATE_ADD('2024-03-31', INTERVAL FLOOR(RAND() * 365) DAY));
 
 -- Order 18
-INSERT INTO order_details (customer_id, store_id, total_price, date) 
-VALUES (18, 8, ROUND(RAND() * 300 + 100, 2), DATE_ADD('2024-03-31', INTERVAL FLOOR(RAND() * 365) DAY));
+INSERT INTO order_details (id, customer_id, store_id, total_price, date) 
+VALUES (18, 18, 8, ROUND(RAND() * 300 + 100, 2), DATE_ADD('2024-03-31', INTERVAL FLOOR(RAND() * 365) DAY));
 
 -- Order 19
-INSERT INTO order_details (customer_id, store_id, total_price, date) 
-VALUES (19, 9, ROUND(RAND() * 300 + 100, 2), DATE_ADD('2024-03-31', INTERVAL FLOOR(RAND() * 365) DAY));
+INSERT INTO order_details (id, customer_id, store_id, total_price, date) 
+VALUES (19, 19, 9, ROUND(RAND() * 300 + 100, 2), DATE_ADD('2024-03-31', INTERVAL FLOOR(RAND() * 365) DAY));
 
 -- Order 20
-INSERT INTO order_details (customer_id, store_id, total_price, date) 
-VALUES (20, 10, ROUND(RAND() * 300 + 100, 2), DATE_ADD('2024-03-31', INTERVAL FLOOR(RAND() * 365) DAY));
+INSERT INTO order_details (id, customer_id, store_id, total_price, date) 
+VALUES (20, 20, 10, ROUND(RAND() * 300 + 100, 2), DATE_ADD('2024-03-31', INTERVAL FLOOR(RAND() * 365) DAY));
 
 -- Order 21
-INSERT INTO order_details (customer_id, store_id, total_price, date) 
-VALUES (21, 1, ROUND(RAND() * 300 + 100, 2), DATE_ADD('2024-03-31', INTERVAL FLOOR(RAND() * 365) DAY));
+INSERT INTO order_details (id, customer_id, store_id, total_price, date) 
+VALUES (21, 21, 1, ROUND(RAND() * 300 + 100, 2), DATE_ADD('2024-03-31', INTERVAL FLOOR(RAND() * 365) DAY));
 
 -- Order 22
-INSERT INTO order_details (customer_id, store_id, total_price, date) 
-VALUES (22, 2, ROUND(RAND() * 300 + 100, 2), DATE_ADD('2024-03-31', INTERVAL FLOOR(RAND() * 365) DAY));
+INSERT INTO order_details (id, customer_id, store_id, total_price, date) 
+VALUES (22, 22, 2, ROUND(RAND() * 300 + 100, 2), DATE_ADD('2024-03-31', INTERVAL FLOOR(RAND() * 365) DAY));
 
 -- Order 23
-INSERT INTO order_details (customer_id, store_id, total_price, date) 
-VALUES (23, 3, ROUND(RAND() * 300 + 100, 2), DATE_ADD('2024-03-31', INTERVAL FLOOR(RAND() * 365) DAY));
+INSERT INTO order_details (id, customer_id, store_id, total_price, date) 
+VALUES (23, 23, 3, ROUND(RAND() * 300 + 100, 2), DATE_ADD('2024-03-31', INTERVAL FLOOR(RAND() * 365) DAY));
 
 -- Order 24
-INSERT INTO order_details (customer_id, store_id, total_price, date) 
-VALUES (24, 4, ROUND(RAND() * 300 + 100, 2), DATE_ADD('2024-03-31', INTERVAL FLOOR(RAND() * 365) DAY));
+INSERT INTO order_details (id, customer_id, store_id, total_price, date) 
+VALUES (24, 24, 4, ROUND(RAND() * 300 + 100, 2), DATE_ADD('2024-03-31', INTERVAL FLOOR(RAND() * 365) DAY));
 
 -- Order 25
-INSERT INTO order_details (customer_id, store_id, total_price, date) 
-VALUES (25, 5, ROUND(RAND() * 300 + 100, 2), DATE_ADD('2024-03-31', INTERVAL FLOOR(RAND() * 365) DAY));
+INSERT INTO order_details (id, customer_id, store_id, total_price, date) 
+VALUES (25, 25, 5, ROUND(RAND() * 300 + 100, 2), DATE_ADD('2024-03-31', INTERVAL FLOOR(RAND() * 365) DAY));
 
 -- Order 26
-INSERT INTO order_details (customer_id, store_id, total_price, date) 
-VALUES (26, 6, ROUND(RAND() * 300 + 100, 2), DATE_ADD('2024-03-31', INTERVAL FLOOR(RAND() * 365) DAY));
+INSERT INTO order_details (id, customer_id, store_id, total_price, date) 
+VALUES (26, 26, 6, ROUND(RAND() * 300 + 100, 2), DATE_ADD('2024-03-31', INTERVAL FLOOR(RAND() * 365) DAY));
 
 -- Order 27
-INSERT INTO order_details (customer_id, store_id, total_price, date) 
-VALUES (27, 7, ROUND(RAND() * 300 + 100, 2), DATE_ADD('2024-03-31', INTERVAL FLOOR(RAND() * 365) DAY));
+INSERT INTO order_details (id, customer_id, store_id, total_price, date) 
+VALUES (27, 27, 7, ROUND(RAND() * 300 + 100, 2), DATE_ADD('2024-03-31', INTERVAL FLOOR(RAND() * 365) DAY));
 
 -- Order 28
-INSERT INTO order_details (customer_id, store_id, total_price, date) 
-VALUES (28, 8, ROUND(RAND() * 300 + 100, 2), DATE_ADD('2024-03-31', INTERVAL FLOOR(RAND() * 365) DAY));
+INSERT INTO order_details (id, customer_id, store_id, total_price, date) 
+VALUES (28, 28, 8, ROUND(RAND() * 300 + 100, 2), DATE_ADD('2024-03-31', INTERVAL FLOOR(RAND() * 365) DAY));
 
 -- Order 29
-INSERT INTO order_details (customer_id, store_id, total_price, date) 
-VALUES (29, 9, ROUND(RAND() * 300 + 100, 2), DATE_ADD('2024-03-31', INTERVAL FLOOR(RAND() * 365) DAY));
+INSERT INTO order_details (id, customer_id, store_id, total_price, date) 
+VALUES (29, 29, 9, ROUND(RAND() * 300 + 100, 2), DATE_ADD('2024-03-31', INTERVAL FLOOR(RAND() * 365) DAY));
 
 -- Order 30
-INSERT INTO order_details (customer_id, store_id, total_price, date) 
-VALUES (30, 10, ROUND(RAND() * 300 + 100, 2), DATE_ADD('2024-03-31', INTERVAL FLOOR(RAND() * 365) DAY));
+INSERT INTO order_details (id, customer_id, store_id, total_price, date) 
+VALUES (30, 30, 10, ROUND(RAND() * 300 + 100, 2), DATE_ADD('2024-03-31', INTERVAL FLOOR(RAND() * 365) DAY));
 
 -- Order 31
-INSERT INTO order_details (customer_id, store_id, total_price, date) 
-VALUES (31, 1, ROUND(RAND() * 300 + 100, 2), DATE_ADD('2024-03-31', INTERVAL FLOOR(RAND() * 365) DAY));
+INSERT INTO order_details (id, customer_id, store_id, total_price, date) 
+VALUES (31, 31, 1, ROUND(RAND() * 300 + 100, 2), DATE_ADD('2024-03-31', INTERVAL FLOOR(RAND() * 365) DAY));
 
 -- Order 32
-INSERT INTO order_details (customer_id, store_id, total_price, date) 
-VALUES (32, 2, ROUND(RAND() * 300 + 100, 2), DATE_ADD('2024-03-31', INTERVAL FLOOR(RAND() * 365) DAY));
+INSERT INTO order_details (id, customer_id, store_id, total_price, date) 
+VALUES (32, 32, 2, ROUND(RAND() * 300 + 100, 2), DATE_ADD('2024-03-31', INTERVAL FLOOR(RAND() * 365) DAY));
 
 -- Order 33
-INSERT INTO order_details (customer_id, store_id, total_price, date) 
-VALUES (33, 3, ROUND(RAND() * 300 + 100, 2), DATE_ADD('2024-03-31', INTERVAL FLOOR(RAND() * 365) DAY));
+INSERT INTO order_details (id, customer_id, store_id, total_price, date) 
+VALUES (33, 33, 3, ROUND(RAND() * 300 + 100, 2), DATE_ADD('2024-03-31', INTERVAL FLOOR(RAND() * 365) DAY));
 
 -- Order 34
-INSERT INTO order_details (customer_id, store_id, total_price, date) 
-VALUES (34, 4, ROUND(RAND() * 300 + 100, 2), DATE_ADD('2024-03-31', INTERVAL FLOOR(RAND() * 365) DAY));
+INSERT INTO order_details (id, customer_id, store_id, total_price, date) 
+VALUES (34, 34, 4, ROUND(RAND() * 300 + 100, 2), DATE_ADD('2024-03-31', INTERVAL FLOOR(RAND() * 365) DAY));
 
 -- Order 35
-INSERT INTO order_details (customer_id, store_id, total_price, date) 
-VALUES (35, 5, ROUND(RAND() * 300 + 100, 2), DATE_ADD('2024-03-31', INTERVAL FLOOR(RAND() * 365) DAY));
+INSERT INTO order_details (id, customer_id, store_id, total_price, date) 
+VALUES (35, 35, 5, ROUND(RAND() * 300 + 100, 2), DATE_ADD('2024-03-31', INTERVAL FLOOR(RAND() * 365) DAY));
 
 -- Order 36
-INSERT INTO order_details (customer_id, store_id, total_price, date) 
-VALUES (36, 6, ROUND(RAND() * 300 + 100, 2), DATE_ADD('2024-03-31', INTERVAL FLOOR(RAND() * 365) DAY));
+INSERT INTO order_details (id, customer_id, store_id, total_price, date) 
+VALUES (36, 36, 6, ROUND(RAND() * 300 + 100, 2), DATE_ADD('2024-03-31', INTERVAL FLOOR(RAND() * 365) DAY));
 
 -- Order 37
-INSERT INTO order_details (customer_id, store_id, total_price, date) 
-VALUES (37, 7, ROUND(RAND() * 300 + 100, 2), DATE_ADD('2024-03-31', INTERVAL FLOOR(RAND() * 365) DAY));
+INSERT INTO order_details (id, customer_id, store_id, total_price, date) 
+VALUES (37, 37, 7, ROUND(RAND() * 300 + 100, 2), DATE_ADD('2024-03-31', INTERVAL FLOOR(RAND() * 365) DAY));
 
 -- Order 38
-INSERT INTO order_details (customer_id, store_id, total_price, date) 
-VALUES (38, 8, ROUND(RAND() * 300 + 100, 2), DATE_ADD('2024-03-31', INTERVAL FLOOR(RAND() * 365) DAY));
+INSERT INTO order_details (id, customer_id, store_id, total_price, date) 
+VALUES (38, 38, 8, ROUND(RAND() * 300 + 100, 2), DATE_ADD('2024-03-31', INTERVAL FLOOR(RAND() * 365) DAY));
 
 -- Order 39
-INSERT INTO order_details (customer_id, store_id, total_price, date) 
-VALUES (39, 9, ROUND(RAND() * 300 + 100, 2), DATE_ADD('2024-03-31', INTERVAL FLOOR(RAND() * 365) DAY));
+INSERT INTO order_details (id, customer_id, store_id, total_price, date) 
+VALUES (39, 39, 9, ROUND(RAND() * 300 + 100, 2), DATE_ADD('2024-03-31', INTERVAL FLOOR(RAND() * 365) DAY));
 
 -- Order 40
-INSERT INTO order_details (customer_id, store_id, total_price, date) 
-VALUES (40, 10, ROUND(RAND() * 300 + 100, 2), DATE_ADD('2024-03-31', INTERVAL FLOOR(RAND() * 365) DAY));
+INSERT INTO order_details (id, customer_id, store_id, total_price, date) 
+VALUES (40, 40, 10, ROUND(RAND() * 300 + 100, 2), DATE_ADD('2024-03-31', INTERVAL FLOOR(RAND() * 365) DAY));
 
 -- Order 41
-INSERT INTO order_details (customer_id, store_id, total_price, date) 
-VALUES (41, 1, ROUND(RAND() * 300 + 100, 2), DATE_ADD('2024-03-31', INTERVAL FLOOR(RAND() * 365) DAY));
+INSERT INTO order_details (id, customer_id, store_id, total_price, date) 
+VALUES (41, 41, 1, ROUND(RAND() * 300 + 100, 2), DATE_ADD('2024-03-31', INTERVAL FLOOR(RAND() * 365) DAY));
 
 -- Order 42
-INSERT INTO order_details (customer_id, store_id, total_price, date) 
-VALUES (42, 2, ROUND(RAND() * 300 + 100, 2), DATE_ADD('2024-03-31', INTERVAL FLOOR(RAND() * 365) DAY));
+INSERT INTO order_details (id, customer_id, store_id, total_price, date) 
+VALUES (42, 42, 2, ROUND(RAND() * 300 + 100, 2), DATE_ADD('2024-03-31', INTERVAL FLOOR(RAND() * 365) DAY));
 
 -- Order 43
-INSERT INTO order_details (customer_id, store_id, total_price, date) 
-VALUES (43, 3, ROUND(RAND() * 300 + 100, 2), DATE_ADD('2024-03-31', INTERVAL FLOOR(RAND() * 365) DAY));
+INSERT INTO order_details (id, customer_id, store_id, total_price, date) 
+VALUES (43, 43, 3, ROUND(RAND() * 300 + 100, 2), DATE_ADD('2024-03-31', INTERVAL FLOOR(RAND() * 365) DAY));
 
 -- Order 44
-INSERT INTO order_details (customer_id, store_id, total_price, date) 
-VALUES (44, 4, ROUND(RAND() * 300 + 100, 2), DATE_ADD('2024-03-31', INTERVAL FLOOR(RAND() * 365) DAY));
+INSERT INTO order_details (id, customer_id, store_id, total_price, date) 
+VALUES (44, 44, 4, ROUND(RAND() * 300 + 100, 2), DATE_ADD('2024-03-31', INTERVAL FLOOR(RAND() * 365) DAY));
 
 -- Order 45
-INSERT INTO order_details (customer_id, store_id, total_price, date) 
-VALUES (45, 5, ROUND(RAND() * 300 + 100, 2), DATE_ADD('2024-03-31', INTERVAL FLOOR(RAND() * 365) DAY));
+INSERT INTO order_details (id, customer_id, store_id, total_price, date) 
+VALUES (45, 45, 5, ROUND(RAND() * 300 + 100, 2), DATE_ADD('2024-03-31', INTERVAL FLOOR(RAND() * 365) DAY));
 
 -- Order 46
-INSERT INTO order_details (customer_id, store_id, total_price, date) 
-VALUES (46, 6, ROUND(RAND() * 300 + 100, 2), DATE_ADD('2024-03-31', INTERVAL FLOOR(RAND() * 365) DAY));
+INSERT INTO order_details (id, customer_id, store_id, total_price, date) 
+VALUES (46, 46, 6, ROUND(RAND() * 300 + 100, 2), DATE_ADD('2024-03-31', INTERVAL FLOOR(RAND() * 365) DAY));
 
 -- Order 47
-INSERT INTO order_details (customer_id, store_id, total_price, date) 
-VALUES (47, 7, ROUND(RAND() * 300 + 100, 2), DATE_ADD('2024-03-31', INTERVAL FLOOR(RAND() * 365) DAY));
+INSERT INTO order_details (id, customer_id, store_id, total_price, date) 
+VALUES (47, 47, 7, ROUND(RAND() * 300 + 100, 2), DATE_ADD('2024-03-31', INTERVAL FLOOR(RAND() * 365) DAY));
 
 -- Order 48
-INSERT INTO order_details (customer_id, store_id, total_price, date) 
-VALUES (48, 8, ROUND(RAND() * 300 + 100, 2), DATE_ADD('2024-03-31', INTERVAL FLOOR(RAND() * 365) DAY));
+INSERT INTO order_details (id, customer_id, store_id, total_price, date) 
+VALUES (48, 48, 8, ROUND(RAND() * 300 + 100, 2), DATE_ADD('2024-03-31', INTERVAL FLOOR(RAND() * 365) DAY));
 
 -- Order 49
-INSERT INTO order_details (customer_id, store_id, total_price, date) 
-VALUES (49, 9, ROUND(RAND() * 300 + 100, 2), DATE_ADD('2024-03-31', INTERVAL FLOOR(RAND() * 365) DAY));
+INSERT INTO order_details (id, customer_id, store_id, total_price, date) 
+VALUES (49, 49, 9, ROUND(RAND() * 300 + 100, 2), DATE_ADD('2024-03-31', INTERVAL FLOOR(RAND() * 365) DAY));
 
 -- Order 50
-INSERT INTO order_details (customer_id, store_id, total_price, date) 
-VALUES (50, 10, ROUND(RAND() * 300 + 100, 2), DATE_ADD('2024-03-31', INTERVAL FLOOR(RAND() * 365) DAY));
+INSERT INTO order_details (id, customer_id, store_id, total_price, date) 
+VALUES (50, 50, 10, ROUND(RAND() * 300 + 100, 2), DATE_ADD('2024-03-31', INTERVAL FLOOR(RAND() * 365) DAY));
 
 
 -- Order 51
-INSERT INTO order_details (customer_id, store_id, total_price, date) 
-VALUES (51, 1, ROUND(RAND() * 300 + 100, 2), DATE_ADD('2024-03-31', INTERVAL FLOOR(RAND() * 365) DAY));
+INSERT INTO order_details (id, customer_id, store_id, total_price, date) 
+VALUES (51, 51, 1, ROUND(RAND() * 300 + 100, 2), DATE_ADD('2024-03-31', INTERVAL FLOOR(RAND() * 365) DAY));
 
 -- Order 52
-INSERT INTO order_details (customer_id, store_id, total_price, date) 
-VALUES (52, 2, ROUND(RAND() * 300 + 100, 2), DATE_ADD('2024-03-31', INTERVAL FLOOR(RAND() * 365) DAY));
+INSERT INTO order_details (id, customer_id, store_id, total_price, date) 
+VALUES (52, 52, 2, ROUND(RAND() * 300 + 100, 2), DATE_ADD('2024-03-31', INTERVAL FLOOR(RAND() * 365) DAY));
 
 -- Order 53
-INSERT INTO order_details (customer_id, store_id, total_price, date) 
-VALUES (53, 3, ROUND(RAND() * 300 + 100, 2), DATE_ADD('2024-03-31', INTERVAL FLOOR(RAND() * 365) DAY));
+INSERT INTO order_details (id, customer_id, store_id, total_price, date) 
+VALUES (53, 53, 3, ROUND(RAND() * 300 + 100, 2), DATE_ADD('2024-03-31', INTERVAL FLOOR(RAND() * 365) DAY));
 
 -- Order 54
-INSERT INTO order_details (customer_id, store_id, total_price, date) 
-VALUES (54, 4, ROUND(RAND() * 300 + 100, 2), DATE_ADD('2024-03-31', INTERVAL FLOOR(RAND() * 365) DAY));
+INSERT INTO order_details (id, customer_id, store_id, total_price, date) 
+VALUES (54, 54, 4, ROUND(RAND() * 300 + 100, 2), DATE_ADD('2024-03-31', INTERVAL FLOOR(RAND() * 365) DAY));
 
 -- Order 55
-INSERT INTO order_details (customer_id, store_id, total_price, date) 
-VALUES (55, 5, ROUND(RAND() * 300 + 100, 2), DATE_ADD('2024-03-31', INTERVAL FLOOR(RAND() * 365) DAY));
+INSERT INTO order_details (id, customer_id, store_id, total_price, date) 
+VALUES (55, 55, 5, ROUND(RAND() * 300 + 100, 2), DATE_ADD('2024-03-31', INTERVAL FLOOR(RAND() * 365) DAY));
 
 -- Order 56
-INSERT INTO order_details (customer_id, store_id, total_price, date) 
-VALUES (56, 6, ROUND(RAND() * 300 + 100, 2), DATE_ADD('2024-03-31', INTERVAL FLOOR(RAND() * 365) DAY));
+INSERT INTO order_details (id, customer_id, store_id, total_price, date) 
+VALUES (56, 56, 6, ROUND(RAND() * 300 + 100, 2), DATE_ADD('2024-03-31', INTERVAL FLOOR(RAND() * 365) DAY));
 
 -- Order 57
-INSERT INTO order_details (customer_id, store_id, total_price, date) 
-VALUES (57, 7, ROUND(RAND() * 300 + 100, 2), DATE_ADD('2024-03-31', INTERVAL FLOOR(RAND() * 365) DAY));
+INSERT INTO order_details (id, customer_id, store_id, total_price, date) 
+VALUES (57, 57, 7, ROUND(RAND() * 300 + 100, 2), DATE_ADD('2024-03-31', INTERVAL FLOOR(RAND() * 365) DAY));
 
 -- Order 58
-INSERT INTO order_details (customer_id, store_id, total_price, date) 
-VALUES (58, 8, ROUND(RAND() * 300 + 100, 2), DATE_ADD('2024-03-31', INTERVAL FLOOR(RAND() * 365) DAY));
+INSERT INTO order_details (id, customer_id, store_id, total_price, date) 
+VALUES (58, 58, 8, ROUND(RAND() * 300 + 100, 2), DATE_ADD('2024-03-31', INTERVAL FLOOR(RAND() * 365) DAY));
 
 -- Order 59
-INSERT INTO order_details (customer_id, store_id, total_price, date) 
-VALUES (59, 9, ROUND(RAND() * 300 + 100, 2), DATE_ADD('2024-03-31', INTERVAL FLOOR(RAND() * 365) DAY));
+INSERT INTO order_details (id, customer_id, store_id, total_price, date) 
+VALUES (59, 59, 9, ROUND(RAND() * 300 + 100, 2), DATE_ADD('2024-03-31', INTERVAL FLOOR(RAND() * 365) DAY));
 
 -- Order 60
-INSERT INTO order_details (customer_id, store_id, total_price, date) 
-VALUES (60, 10, ROUND(RAND() * 300 + 100, 2), DATE_ADD('2024-03-31', INTERVAL FLOOR(RAND() * 365) DAY));
+INSERT INTO order_details (id, customer_id, store_id, total_price, date) 
+VALUES (60, 60, 10, ROUND(RAND() * 300 + 100, 2), DATE_ADD('2024-03-31', INTERVAL FLOOR(RAND() * 365) DAY));
 
 -- Order 61
-INSERT INTO order_details (customer_id, store_id, total_price, date) 
-VALUES (61, 1, ROUND(RAND() * 300 + 100, 2), DATE_ADD('2024-03-31', INTERVAL FLOOR(RAND() * 365) DAY));
+INSERT INTO order_details (id, customer_id, store_id, total_price, date) 
+VALUES (61, 61, 1, ROUND(RAND() * 300 + 100, 2), DATE_ADD('2024-03-31', INTERVAL FLOOR(RAND() * 365) DAY));
 
 -- Order 62
-INSERT INTO order_details (customer_id, store_id, total_price, date) 
-VALUES (62, 2, ROUND(RAND() * 300 + 100, 2), DATE_ADD('2024-03-31', INTERVAL FLOOR(RAND() * 365) DAY));
+INSERT INTO order_details (id, customer_id, store_id, total_price, date) 
+VALUES (62, 62, 2, ROUND(RAND() * 300 + 100, 2), DATE_ADD('2024-03-31', INTERVAL FLOOR(RAND() * 365) DAY));
 
 -- Order 63
-INSERT INTO order_details (customer_id, store_id, total_price, date) 
-VALUES (63, 3, ROUND(RAND() * 300 + 100, 2), DATE_ADD('2024-03-31', INTERVAL FLOOR(RAND() * 365) DAY));
+INSERT INTO order_details (id, customer_id, store_id, total_price, date) 
+VALUES (63, 63, 3, ROUND(RAND() * 300 + 100, 2), DATE_ADD('2024-03-31', INTERVAL FLOOR(RAND() * 365) DAY));
 
 -- Order 64
-INSERT INTO order_details (customer_id, store_id, total_price, date) 
-VALUES (64, 4, ROUND(RAND() * 300 + 100, 2), DATE_ADD('2024-03-31', INTERVAL FLOOR(RAND() * 365) DAY));
+INSERT INTO order_details (id, customer_id, store_id, total_price, date) 
+VALUES (64, 64, 4, ROUND(RAND() * 300 + 100, 2), DATE_ADD('2024-03-31', INTERVAL FLOOR(RAND() * 365) DAY));
 
 -- Order 65
-INSERT INTO order_details (customer_id, store_id, total_price, date) 
-VALUES (65, 5, ROUND(RAND() * 300 + 100, 2), DATE_ADD('2024-03-31', INTERVAL FLOOR(RAND() * 365) DAY));
+INSERT INTO order_details (id, customer_id, store_id, total_price, date) 
+VALUES (65, 65, 5, ROUND(RAND() * 300 + 100, 2), DATE_ADD('2024-03-31', INTERVAL FLOOR(RAND() * 365) DAY));
 
 -- Order 66
-INSERT INTO order_details (customer_id, store_id, total_price, date) 
-VALUES (66, 6, ROUND(RAND() * 300 + 100, 2), DATE_ADD('2024-03-31', INTERVAL FLOOR(RAND() * 365) DAY));
+INSERT INTO order_details (id, customer_id, store_id, total_price, date) 
+VALUES (66, 66, 6, ROUND(RAND() * 300 + 100, 2), DATE_ADD('2024-03-31', INTERVAL FLOOR(RAND() * 365) DAY));
 
 -- Order 67
-INSERT INTO order_details (customer_id, store_id, total_price, date) 
-VALUES (67, 7, ROUND(RAND() * 300 + 100, 2), DATE_ADD('2024-03-31', INTERVAL FLOOR(RAND() * 365) DAY));
+INSERT INTO order_details (id, customer_id, store_id, total_price, date) 
+VALUES (67, 67, 7, ROUND(RAND() * 300 + 100, 2), DATE_ADD('2024-03-31', INTERVAL FLOOR(RAND() * 365) DAY));
 
 -- Order 68
-INSERT INTO order_details (customer_id, store_id, total_price, date) 
-VALUES (68, 8, ROUND(RAND() * 300 + 100, 2), DATE_ADD('2024-03-31', INTERVAL FLOOR(RAND() * 365) DAY));
+INSERT INTO order_details (id, customer_id, store_id, total_price, date) 
+VALUES (68, 68, 8, ROUND(RAND() * 300 + 100, 2), DATE_ADD('2024-03-31', INTERVAL FLOOR(RAND() * 365) DAY));
 
 -- Order 69
-INSERT INTO order_details (customer_id, store_id, total_price, date) 
-VALUES (69, 9, ROUND(RAND() * 300 + 100, 2), DATE_ADD('2024-03-31', INTERVAL FLOOR(RAND() * 365) DAY));
+INSERT INTO order_details (id, customer_id, store_id, total_price, date) 
+VALUES (69, 69, 9, ROUND(RAND() * 300 + 100, 2), DATE_ADD('2024-03-31', INTERVAL FLOOR(RAND() * 365) DAY));
 
 -- Order 70
-INSERT INTO order_details (customer_id, store_id, total_price, date) 
-VALUES (70, 10, ROUND(RAND() * 300 + 100, 2), DATE_ADD('2024-03-31', INTERVAL FLOOR(RAND() * 365) DAY));
+INSERT INTO order_details (id, customer_id, store_id, total_price, date) 
+VALUES (70, 70, 10, ROUND(RAND() * 300 + 100, 2), DATE_ADD('2024-03-31', INTERVAL FLOOR(RAND() * 365) DAY));
 
 -- Order 71
-INSERT INTO order_details (customer_id, store_id, total_price, date) 
-VALUES (71, 1, ROUND(RAND() * 300 + 100, 2), DATE_ADD('2024-03-31', INTERVAL FLOOR(RAND() * 365) DAY));
+INSERT INTO order_details (id, customer_id, store_id, total_price, date) 
+VALUES (71, 71, 1, ROUND(RAND() * 300 + 100, 2), DATE_ADD('2024-03-31', INTERVAL FLOOR(RAND() * 365) DAY));
 
 -- Order 72
-INSERT INTO order_details (customer_id, store_id, total_price, date) 
-VALUES (72, 2, ROUND(RAND() * 300 + 100, 2), DATE_ADD('2024-03-31', INTERVAL FLOOR(RAND() * 365) DAY));
+INSERT INTO order_details (id, customer_id, store_id, total_price, date) 
+VALUES (72, 72, 2, ROUND(RAND() * 300 + 100, 2), DATE_ADD('2024-03-31', INTERVAL FLOOR(RAND() * 365) DAY));
 
 -- Order 73
-INSERT INTO order_details (customer_id, store_id, total_price, date) 
-VALUES (73, 3, ROUND(RAND() * 300 + 100, 2), DATE_ADD('2024-03-31', INTERVAL FLOOR(RAND() * 365) DAY));
+INSERT INTO order_details (id, customer_id, store_id, total_price, date) 
+VALUES (73, 73, 3, ROUND(RAND() * 300 + 100, 2), DATE_ADD('2024-03-31', INTERVAL FLOOR(RAND() * 365) DAY));
 
 -- Order 74
-INSERT INTO order_details (customer_id, store_id, total_price, date) 
-VALUES (74, 4, ROUND(RAND() * 300 + 100, 2), DATE_ADD('2024-03-31', INTERVAL FLOOR(RAND() * 365) DAY));
+INSERT INTO order_details (id, customer_id, store_id, total_price, date) 
+VALUES (74, 74, 4, ROUND(RAND() * 300 + 100, 2), DATE_ADD('2024-03-31', INTERVAL FLOOR(RAND() * 365) DAY));
 
 -- Order 75
-INSERT INTO order_details (customer_id, store_id, total_price, date) 
-VALUES (75, 5, ROUND(RAND() * 300 + 100, 2), DATE_ADD('2024-03-31', INTERVAL FLOOR(RAND() * 365) DAY));
+INSERT INTO order_details (id, customer_id, store_id, total_price, date) 
+VALUES (75, 75, 5, ROUND(RAND() * 300 + 100, 2), DATE_ADD('2024-03-31', INTERVAL FLOOR(RAND() * 365) DAY));
 
 -- Order 76
-INSERT INTO order_details (customer_id, store_id, total_price, date) 
-VALUES (76, 6, ROUND(RAND() * 300 + 100, 2), DATE_ADD('2024-03-31', INTERVAL FLOOR(RAND() * 365) DAY));
+INSERT INTO order_details (id, customer_id, store_id, total_price, date) 
+VALUES (76, 76, 6, ROUND(RAND() * 300 + 100, 2), DATE_ADD('2024-03-31', INTERVAL FLOOR(RAND() * 365) DAY));
 
 -- Order 77
-INSERT INTO order_details (customer_id, store_id, total_price, date) 
-VALUES (77, 7, ROUND(RAND() * 300 + 100, 2), DATE_ADD('2024-03-31', INTERVAL FLOOR(RAND() * 365) DAY));
+INSERT INTO order_details (id, customer_id, store_id, total_price, date) 
+VALUES (77, 77, 7, ROUND(RAND() * 300 + 100, 2), DATE_ADD('2024-03-31', INTERVAL FLOOR(RAND() * 365) DAY));
 
 -- Order 78
-INSERT INTO order_details (customer_id, store_id, total_price, date) 
-VALUES (78, 8, ROUND(RAND() * 300 + 100, 2), DATE_ADD('2024-03-31', INTERVAL FLOOR(RAND() * 365) DAY));
+INSERT INTO order_details (id, customer_id, store_id, total_price, date) 
+VALUES (78, 78, 8, ROUND(RAND() * 300 + 100, 2), DATE_ADD('2024-03-31', INTERVAL FLOOR(RAND() * 365) DAY));
 
 -- Order 79
-INSERT INTO order_details (customer_id, store_id, total_price, date) 
-VALUES (79, 9, ROUND(RAND() * 300 + 100, 2), DATE_ADD('2024-03-31', INTERVAL FLOOR(RAND() * 365) DAY));
+INSERT INTO order_details (id, customer_id, store_id, total_price, date) 
+VALUES (79, 79, 9, ROUND(RAND() * 300 + 100, 2), DATE_ADD('2024-03-31', INTERVAL FLOOR(RAND() * 365) DAY));
 
 -- Order 80
-INSERT INTO order_details (customer_id, store_id, total_price, date) 
-VALUES (80, 10, ROUND(RAND() * 300 + 100, 2), DATE_ADD('2024-03-31', INTERVAL FLOOR(RAND() * 365) DAY));
+INSERT INTO order_details (id, customer_id, store_id, total_price, date) 
+VALUES (80, 80, 10, ROUND(RAND() * 300 + 100, 2), DATE_ADD('2024-03-31', INTERVAL FLOOR(RAND() * 365) DAY));
 
 -- Order 81
-INSERT INTO order_details (customer_id, store_id, total_price, date) 
-VALUES (81, 1, ROUND(RAND() * 300 + 100, 2), DATE_ADD('2024-03-31', INTERVAL FLOOR(RAND() * 365) DAY));
+INSERT INTO order_details (id, customer_id, store_id, total_price, date) 
+VALUES (81, 81, 1, ROUND(RAND() * 300 + 100, 2), DATE_ADD('2024-03-31', INTERVAL FLOOR(RAND() * 365) DAY));
 
 -- Order 82
-INSERT INTO order_details (customer_id, store_id, total_price, date) 
-VALUES (82, 2, ROUND(RAND() * 300 + 100, 2), DATE_ADD('2024-03-31', INTERVAL FLOOR(RAND() * 365) DAY));
+INSERT INTO order_details (id, customer_id, store_id, total_price, date) 
+VALUES (82, 82, 2, ROUND(RAND() * 300 + 100, 2), DATE_ADD('2024-03-31', INTERVAL FLOOR(RAND() * 365) DAY));
 
 -- Order 83
-INSERT INTO order_details (customer_id, store_id, total_price, date) 
-VALUES (83, 3, ROUND(RAND() * 300 + 100, 2), DATE_ADD('2024-03-31', INTERVAL FLOOR(RAND() * 365) DAY));
+INSERT INTO order_details (id, customer_id, store_id, total_price, date) 
+VALUES (83, 83, 3, ROUND(RAND() * 300 + 100, 2), DATE_ADD('2024-03-31', INTERVAL FLOOR(RAND() * 365) DAY));
 
 -- Order 84
-INSERT INTO order_details (customer_id, store_id, total_price, date) 
-VALUES (84, 4, ROUND(RAND() * 300 + 100, 2), DATE_ADD('2024-03-31', INTERVAL FLOOR(RAND() * 365) DAY));
+INSERT INTO order_details (id, customer_id, store_id, total_price, date) 
+VALUES (84, 84, 4, ROUND(RAND() * 300 + 100, 2), DATE_ADD('2024-03-31', INTERVAL FLOOR(RAND() * 365) DAY));
 
 -- Order 85
-INSERT INTO order_details (customer_id, store_id, total_price, date) 
-VALUES (85, 5, ROUND(RAND() * 300 + 100, 2), DATE_ADD('2024-03-31', INTERVAL FLOOR(RAND() * 365) DAY));
+INSERT INTO order_details (id, customer_id, store_id, total_price, date) 
+VALUES (85, 85, 5, ROUND(RAND() * 300 + 100, 2), DATE_ADD('2024-03-31', INTERVAL FLOOR(RAND() * 365) DAY));
 
 -- Order 86
-INSERT INTO order_details (customer_id, store_id, total_price, date) 
-VALUES (86, 6, ROUND(RAND() * 300 + 100, 2), DATE_ADD('2024-03-31', INTERVAL FLOOR(RAND() * 365) DAY));
+INSERT INTO order_details (id, customer_id, store_id, total_price, date) 
+VALUES (86, 86, 6, ROUND(RAND() * 300 + 100, 2), DATE_ADD('2024-03-31', INTERVAL FLOOR(RAND() * 365) DAY));
 
 -- Order 87
-INSERT INTO order_details (customer_id, store_id, total_price, date) 
-VALUES (87, 7, ROUND(RAND() * 300 + 100, 2), DATE_ADD('2024-03-31', INTERVAL FLOOR(RAND() * 365) DAY));
+INSERT INTO order_details (id, customer_id, store_id, total_price, date) 
+VALUES (87, 87, 7, ROUND(RAND() * 300 + 100, 2), DATE_ADD('2024-03-31', INTERVAL FLOOR(RAND() * 365) DAY));
 
 -- Order 88
-INSERT INTO order_details (customer_id, store_id, total_price, date) 
-VALUES (88, 8, ROUND(RAND() * 300 + 100, 2), DATE_ADD('2024-03-31', INTERVAL FLOOR(RAND() * 365) DAY));
+INSERT INTO order_details (id, customer_id, store_id, total_price, date) 
+VALUES (88, 88, 8, ROUND(RAND() * 300 + 100, 2), DATE_ADD('2024-03-31', INTERVAL FLOOR(RAND() * 365) DAY));
 
 -- Order 89
-INSERT INTO order_details (customer_id, store_id, total_price, date) 
-VALUES (89, 9, ROUND(RAND() * 300 + 100, 2), DATE_ADD('2024-03-31', INTERVAL FLOOR(RAND() * 365) DAY));
+INSERT INTO order_details (id, customer_id, store_id, total_price, date) 
+VALUES (89, 89, 9, ROUND(RAND() * 300 + 100, 2), DATE_ADD('2024-03-31', INTERVAL FLOOR(RAND() * 365) DAY));
 
 -- Order 90
-INSERT INTO order_details (customer_id, store_id, total_price, date) 
-VALUES (90, 10, ROUND(RAND() * 300 + 100, 2), DATE_ADD('2024-03-31', INTERVAL FLOOR(RAND() * 365) DAY));
+INSERT INTO order_details (id, customer_id, store_id, total_price, date) 
+VALUES (90, 90, 10, ROUND(RAND() * 300 + 100, 2), DATE_ADD('2024-03-31', INTERVAL FLOOR(RAND() * 365) DAY));
 
 -- Order 91
-INSERT INTO order_details (customer_id, store_id, total_price, date) 
-VALUES (91, 1, ROUND(RAND() * 300 + 100, 2), DATE_ADD('2024-03-31', INTERVAL FLOOR(RAND() * 365) DAY));
+INSERT INTO order_details (id, customer_id, store_id, total_price, date) 
+VALUES (91, 91, 1, ROUND(RAND() * 300 + 100, 2), DATE_ADD('2024-03-31', INTERVAL FLOOR(RAND() * 365) DAY));
 
 -- Order 92
-INSERT INTO order_details (customer_id, store_id, total_price, date) 
-VALUES (92, 2, ROUND(RAND() * 300 + 100, 2), DATE_ADD('2024-03-31', INTERVAL FLOOR(RAND() * 365) DAY));
+INSERT INTO order_details (id, customer_id, store_id, total_price, date) 
+VALUES (92, 92, 2, ROUND(RAND() * 300 + 100, 2), DATE_ADD('2024-03-31', INTERVAL FLOOR(RAND() * 365) DAY));
 
 -- Order 93
-INSERT INTO order_details (customer_id, store_id, total_price, date) 
-VALUES (93, 3, ROUND(RAND() * 300 + 100, 2), DATE_ADD('2024-03-31', INTERVAL FLOOR(RAND() * 365) DAY));
+INSERT INTO order_details (id, customer_id, store_id, total_price, date) 
+VALUES (93, 93, 3, ROUND(RAND() * 300 + 100, 2), DATE_ADD('2024-03-31', INTERVAL FLOOR(RAND() * 365) DAY));
 
 -- Order 94
-INSERT INTO order_details (customer_id, store_id, total_price, date) 
-VALUES (94, 4, ROUND(RAND() * 300 + 100, 2), DATE_ADD('2024-03-31', INTERVAL FLOOR(RAND() * 365) DAY));
+INSERT INTO order_details (id, customer_id, store_id, total_price, date) 
+VALUES (94, 94, 4, ROUND(RAND() * 300 + 100, 2), DATE_ADD('2024-03-31', INTERVAL FLOOR(RAND() * 365) DAY));
 
 -- Order 95
-INSERT INTO order_details (customer_id, store_id, total_price, date) 
-VALUES (95, 5, ROUND(RAND() * 300 + 100, 2), DATE_ADD('2024-03-31', INTERVAL FLOOR(RAND() * 365) DAY));
+INSERT INTO order_details (id, customer_id, store_id, total_price, date) 
+VALUES (95, 95, 5, ROUND(RAND() * 300 + 100, 2), DATE_ADD('2024-03-31', INTERVAL FLOOR(RAND() * 365) DAY));
 
 -- Order 96
-INSERT INTO order_details (customer_id, store_id, total_price, date) 
-VALUES (96, 6, ROUND(RAND() * 300 + 100, 2), DATE_ADD('2024-03-31', INTERVAL FLOOR(RAND() * 365) DAY));
+INSERT INTO order_details (id, customer_id, store_id, total_price, date) 
+VALUES (96, 96, 6, ROUND(RAND() * 300 + 100, 2), DATE_ADD('2024-03-31', INTERVAL FLOOR(RAND() * 365) DAY));
 
 -- Order 97
-INSERT INTO order_details (customer_id, store_id, total_price, date) 
-VALUES (97, 7, ROUND(RAND() * 300 + 100, 2), DATE_ADD('2024-03-31', INTERVAL FLOOR(RAND() * 365) DAY));
+INSERT INTO order_details (id, customer_id, store_id, total_price, date) 
+VALUES (97, 97, 7, ROUND(RAND() * 300 + 100, 2), DATE_ADD('2024-03-31', INTERVAL FLOOR(RAND() * 365) DAY));
 
 -- Order 98
-INSERT INTO order_details (customer_id, store_id, total_price, date) 
-VALUES (98, 8, ROUND(RAND() * 300 + 100, 2), DATE_ADD('2024-03-31', INTERVAL FLOOR(RAND() * 365) DAY));
+INSERT INTO order_details (id, customer_id, store_id, total_price, date) 
+VALUES (98, 98, 8, ROUND(RAND() * 300 + 100, 2), DATE_ADD('2024-03-31', INTERVAL FLOOR(RAND() * 365) DAY));
 
 -- Order 99
-INSERT INTO order_details (customer_id, store_id, total_price, date) 
-VALUES (99, 9, ROUND(RAND() * 300 + 100, 2), DATE_ADD('2024-03-31', INTERVAL FLOOR(RAND() * 365) DAY));
+INSERT INTO order_details (id, customer_id, store_id, total_price, date) 
+VALUES (99, 99, 9, ROUND(RAND() * 300 + 100, 2), DATE_ADD('2024-03-31', INTERVAL FLOOR(RAND() * 365) DAY));
 
 -- Order 100
-INSERT INTO order_details (customer_id, store_id, total_price, date) 
-VALUES (100, 10, ROUND(RAND() * 300 + 100, 2), DATE_ADD('2024-03-31', INTERVAL FLOOR(RAND() * 365) DAY));
+INSERT INTO order_details (id, customer_id, store_id, total_price, date) 
+VALUES (100, 100, 10, ROUND(RAND() * 300 + 100, 2), DATE_ADD('2024-03-31', INTERVAL FLOOR(RAND() * 365) DAY));
 
 -- Order Item for Order 1
-INSERT INTO order_item (order_id, product_id, quantity, price) VALUES (1, 1, 2, 29.99);
-INSERT INTO order_item (order_id, product_id, quantity, price) VALUES (1, 11, 1, 59.99);
+INSERT INTO order_item (id, order_id, product_id, quantity, price) VALUES (1, 1, 1, 2, 29.99);
+INSERT INTO order_item (id, order_id, product_id, quantity, price) VALUES (2, 1, 11, 1, 59.99);
 
 -- Order Item for Order 2
-INSERT INTO order_item (order_id, product_id, quantity, price) VALUES (2, 2, 3, 19.99);
-INSERT INTO order_item (order_id, product_id, quantity, price) VALUES (2, 12, 1, 79.99);
+INSERT INTO order_item (id, order_id, product_id, quantity, price) VALUES (3, 2, 2, 3, 19.99);
+INSERT INTO order_item (id, order_id, product_id, quantity, price) VALUES (4, 2, 12, 1, 79.99);
 
 -- Order Item for Order 3
-INSERT INTO order_item (order_id, product_id, quantity, price) VALUES (3, 3, 1, 49.99);
-INSERT INTO order_item (order_id, product_id, quantity, price) VALUES (3, 13, 2, 39.99);
+INSERT INTO order_item (id, order_id, product_id, quantity, price) VALUES (5, 3, 3, 1, 49.99);
+INSERT INTO order_item (id, order_id, product_id, quantity, price) VALUES (6, 3, 13, 2, 39.99);
 
 -- Order Item for Order 4
-INSERT INTO order_item (order_id, product_id, quantity, price) VALUES (4, 4, 1, 59.99);
-INSERT INTO order_item (order_id, product_id, quantity, price) VALUES (4, 14, 3, 79.99);
+INSERT INTO order_item (id, order_id, product_id, quantity, price) VALUES (7, 4, 4, 1, 59.99);
+INSERT INTO order_item (id, order_id, product_id, quantity, price) VALUES (8, 4, 14, 3, 79.99);
 
 -- Order Item for Order 5
-INSERT INTO order_item (order_id, product_id, quantity, price) VALUES (5, 5, 2, 29.99);
-INSERT INTO order_item (order_id, product_id, quantity, price) VALUES (5, 15, 1, 99.99);
+INSERT INTO order_item (id, order_id, product_id, quantity, price) VALUES (9, 5, 5, 2, 29.99);
+INSERT INTO order_item (id, order_id, product_id, quantity, price) VALUES (10, 5, 15, 1, 99.99);
 
 -- Order Item for Order 6
-INSERT INTO order_item (order_id, product_id, quantity, price) VALUES (6, 6, 3, 69.99);
-INSERT INTO order_item (order_id, product_id, quantity, price) VALUES (6, 16, 2, 49.99);
+INSERT INTO order_item (id, order_id, product_id, quantity, price) VALUES (11, 6, 6, 3, 69.99);
+INSERT INTO order_item (id, order_id, product_id, quantity, price) VALUES (12, 6, 16, 2, 49.99);
 
 -- Order Item for Order 7
-INSERT INTO order_item (order_id, product_id, quantity, price) VALUES (7, 7, 1, 19.99);
-INSERT INTO order_item (order_id, product_id, quantity, price) VALUES (7, 17, 2, 39.99);
+INSERT INTO order_item (id, order_id, product_id, quantity, price) VALUES (13, 7, 7, 1, 19.99);
+INSERT INTO order_item (id, order_id, product_id, quantity, price) VALUES (14, 7, 17, 2, 39.99);
 
 -- Order Item for Order 8
-INSERT INTO order_item (order_id, product_id, quantity, price) VALUES (8, 8, 2, 99.99);
-INSERT INTO order_item (order_id, product_id, quantity, price) VALUES (8, 18, 1, 79.99);
+INSERT INTO order_item (id, order_id, product_id, quantity, price) VALUES (15, 8, 8, 2, 99.99);
+INSERT INTO order_item (id, order_id, product_id, quantity, price) VALUES (16, 8, 18, 1, 79.99);
 
 -- Order Item for Order 9
-INSERT INTO order_item (order_id, product_id, quantity, price) VALUES (9, 9, 1, 29.99);
-INSERT INTO order_item (order_id, product_id, quantity, price) VALUES (9, 19, 3, 49.99);
+INSERT INTO order_item (id, order_id, product_id, quantity, price) VALUES (17, 9, 9, 1, 29.99);
+INSERT INTO order_item (id, order_id, product_id, quantity, price) VALUES (18, 9, 19, 3, 49.99);
 
 -- Order Item for Order 10
-INSERT INTO order_item (order_id, product_id, quantity, price) VALUES (10, 10, 2, 69.99);
-INSERT INTO order_item (order_id, product_id, quantity, price) VALUES (10, 20, 1, 59.99);
+INSERT INTO order_item (id, order_id, product_id, quantity, price) VALUES (19, 10, 10, 2, 69.99);
+INSERT INTO order_item (id, order_id, product_id, quantity, price) VALUES (20, 10, 20, 1, 59.99);
 
 -- Order Item for Order 11
-INSERT INTO order_item (order_id, product_id, quantity, price) VALUES (11, 1, 1, 39.99);
-INSERT INTO order_item (order_id, product_id, quantity, price) VALUES (11, 11, 2, 79.99);
+INSERT INTO order_item (id, order_id, product_id, quantity, price) VALUES (21, 11, 1, 1, 39.99);
+INSERT INTO order_item (id, order_id, product_id, quantity, price) VALUES (22, 11, 11, 2, 79.99);
 
 -- Order Item for Order 12
-INSERT INTO order_item (order_id, product_id, quantity, price) VALUES (12, 2, 3, 19.99);
-INSERT INTO order_item (order_id, product_id, quantity, price) VALUES (12, 12, 1, 89.99);
+INSERT INTO order_item (id, order_id, product_id, quantity, price) VALUES (23, 12, 2, 3, 19.99);
+INSERT INTO order_item (id, order_id, product_id, quantity, price) VALUES (24, 12, 12, 1, 89.99);
 
 -- Order Item for Order 13
-INSERT INTO order_item (order_id, product_id, quantity, price) VALUES (13, 3, 2, 49.99);
-INSERT INTO order_item (order_id, product_id, quantity, price) VALUES (13, 13, 1, 59.99);
+INSERT INTO order_item (id, order_id, product_id, quantity, price) VALUES (25, 13, 3, 2, 49.99);
+INSERT INTO order_item (id, order_id, product_id, quantity, price) VALUES (26, 13, 13, 1, 59.99);
 
 -- Order Item for Order 14
-INSERT INTO order_item (order_id, product_id, quantity, price) VALUES (14, 4, 1, 69.99);
-INSERT INTO order_item (order_id, product_id, quantity, price) VALUES (14, 14, 2, 99.99);
+INSERT INTO order_item (id, order_id, product_id, quantity, price) VALUES (27, 14, 4, 1, 69.99);
+INSERT INTO order_item (id, order_id, product_id, quantity, price) VALUES (28, 14, 14, 2, 99.99);
 
 -- Order Item for Order 15
-INSERT INTO order_item (order_id, product_id, quantity, price) VALUES (15, 5, 1, 29.99);
-INSERT INTO order_item (order_id, product_id, quantity, price) VALUES (15, 15, 3, 79.99);
+INSERT INTO order_item (id, order_id, product_id, quantity, price) VALUES (29, 15, 5, 1, 29.99);
+INSERT INTO order_item (id, order_id, product_id, quantity, price) VALUES (30, 15, 15, 3, 79.99);
 
 -- Order Item for Order 16
-INSERT INTO order_item (order_id, product_id, quantity, price) VALUES (16, 6, 2, 39.99);
-INSERT INTO order_item (order_id, product_id, quantity, price) VALUES (16, 16, 1, 69.99);
+INSERT INTO order_item (id, order_id, product_id, quantity, price) VALUES (31, 16, 6, 2, 39.99);
+INSERT INTO order_item (id, order_id, product_id, quantity, price) VALUES (32, 16, 16, 1, 69.99);
 
 -- Order Item for Order 17
-INSERT INTO order_item (order_id, product_id, quantity, price) VALUES (17, 7, 1, 49.99);
-INSERT INTO order_item (order_id, product_id, quantity, price) VALUES (17, 17, 3, 79.99);
+INSERT INTO order_item (id, order_id, product_id, quantity, price) VALUES (33, 17, 7, 1, 49.99);
+INSERT INTO order_item (id, order_id, product_id, quantity, price) VALUES (34, 17, 17, 3, 79.99);
 
 -- Order Item for Order 18
-INSERT INTO order_item (order_id, product_id, quantity, price) VALUES (18, 8, 2, 59.99);
-INSERT INTO order_item (order_id, product_id, quantity, price) VALUES (18, 18, 1, 99.99);
+INSERT INTO order_item (id, order_id, product_id, quantity, price) VALUES (35, 18, 8, 2, 59.99);
+INSERT INTO order_item (id, order_id, product_id, quantity, price) VALUES (36, 18, 18, 1, 99.99);
 
 -- Order Item for Order 19
-INSERT INTO order_item (order_id, product_id, quantity, price) VALUES (19, 9, 3, 29.99);
-INSERT INTO order_item (order_id, product_id, quantity, price) VALUES (19, 19, 1, 39.99);
+INSERT INTO order_item (id, order_id, product_id, quantity, price) VALUES (37, 19, 9, 3, 29.99);
+INSERT INTO order_item (id, order_id, product_id, quantity, price) VALUES (38, 19, 19, 1, 39.99);
 
 -- Order Item for Order 20
-INSERT INTO order_item (order_id, product_id, quantity, price) VALUES (20, 10, 2, 69.99);
-INSERT INTO order_item (order_id, product_id, quantity, price) VALUES (20, 20, 1, 49.99);
+INSERT INTO order_item (id, order_id, product_id, quantity, price) VALUES (39, 20, 10, 2, 69.99);
+INSERT INTO order_item (id, order_id, product_id, quantity, price) VALUES (40, 20, 20, 1, 49.99);
 
 -- Order Item for Order 21
-INSERT INTO order_item (order_id, product_id, quantity, price) VALUES (21, 1, 1, 39.99);
-INSERT INTO order_item (order_id, product_id, quantity, price) VALUES (21, 11, 2, 89.99);
+INSERT INTO order_item (id, order_id, product_id, quantity, price) VALUES (41, 21, 1, 1, 39.99);
+INSERT INTO order_item (id, order_id, product_id, quantity, price) VALUES (42, 21, 11, 2, 89.99);
 
 -- Order Item for Order 22
-INSERT INTO order_item (order_id, product_id, quantity, price) VALUES (22, 2, 3, 19.99);
-INSERT INTO order_item (order_id, product_id, quantity, price) VALUES (22, 12, 1, 79.99);
+INSERT INTO order_item (id, order_id, product_id, quantity, price) VALUES (43, 22, 2, 3, 19.99);
+INSERT INTO order_item (id, order_id, product_id, quantity, price) VALUES (44, 22, 12, 1, 79.99);
 
 -- Order Item for Order 23
-INSERT INTO order_item (order_id, product_id, quantity, price) VALUES (23, 3, 1, 59.99);
-INSERT INTO order_item (order_id, product_id, quantity, price) VALUES (23, 13, 2, 49.99);
+INSERT INTO order_item (id, order_id, product_id, quantity, price) VALUES (45, 23, 3, 1, 59.99);
+INSERT INTO order_item (id, order_id, product_id, quantity, price) VALUES (46, 23, 13, 2, 49.99);
 
 -- Order Item for Order 24
-INSERT INTO order_item (order_id, product_id, quantity, price) VALUES (24, 4, 1, 69.99);
-INSERT INTO order_item (order_id, product_id, quantity, price) VALUES (24, 14, 2, 79.99);
+INSERT INTO order_item (id, order_id, product_id, quantity, price) VALUES (47, 24, 4, 1, 69.99);
+INSERT INTO order_item (id, order_id, product_id, quantity, price) VALUES (48, 24, 14, 2, 79.99);
 
 -- Order Item for Order 25
-INSERT INTO order_item (order_id, product_id, quantity, price) VALUES (25, 5, 2, 39.99);
-INSERT INTO order_item (order_id, product_id, quantity, price) VALUES (25, 15, 1, 99.99);
+INSERT INTO order_item (id, order_id, product_id, quantity, price) VALUES (49, 25, 5, 2, 39.99);
+INSERT INTO order_item (id, order_id, product_id, quantity, price) VALUES (50, 25, 15, 1, 99.99);
 
 -- Order Item for Order 26
-INSERT INTO order_item (order_id, product_id, quantity, price) VALUES (26, 6, 3, 49.99);
-INSERT INTO order_item (order_id, product_id, quantity, price) VALUES (26, 16, 2, 59.99);
+INSERT INTO order_item (id, order_id, product_id, quantity, price) VALUES (51, 26, 6, 3, 49.99);
+INSERT INTO order_item (id, order_id, product_id, quantity, price) VALUES (52, 26, 16, 2, 59.99);
 
 -- Order Item for Order 27
-INSERT INTO order_item (order_id, product_id, quantity, price) VALUES (27, 7, 1, 29.99);
-INSERT INTO order_item (order_id, product_id, quantity, price) VALUES (27, 17, 2, 39.99);
+INSERT INTO order_item (id, order_id, product_id, quantity, price) VALUES (53, 27, 7, 1, 29.99);
+INSERT INTO order_item (id, order_id, product_id, quantity, price) VALUES (54, 27, 17, 2, 39.99);
 
 -- Order Item for Order 28
-INSERT INTO order_item (order_id, product_id, quantity, price) VALUES (28, 8, 2, 79.99);
-INSERT INTO order_item (order_id, product_id, quantity, price) VALUES (28, 18, 1, 69.99);
+INSERT INTO order_item (id, order_id, product_id, quantity, price) VALUES (55, 28, 8, 2, 79.99);
+INSERT INTO order_item (id, order_id, product_id, quantity, price) VALUES (56, 28, 18, 1, 69.99);
 
 -- Order Item for Order 29
-INSERT INTO order_item (order_id, product_id, quantity, price) VALUES (29, 9, 1, 59.99);
-INSERT INTO order_item (order_id, product_id, quantity, price) VALUES (29, 19, 3, 49.99);
+INSERT INTO order_item (id, order_id, product_id, quantity, price) VALUES (57, 29, 9, 1, 59.99);
+INSERT INTO order_item (id, order_id, product_id, quantity, price) VALUES (58, 29, 19, 3, 49.99);
 
 -- Order Item for Order 30
-INSERT INTO order_item (order_id, product_id, quantity, price) VALUES (30, 10, 2, 69.99);
-INSERT INTO order_item (order_id, product_id, quantity, price) VALUES (30, 20, 1, 79.99);
+INSERT INTO order_item (id, order_id, product_id, quantity, price) VALUES (59, 30, 10, 2, 69.99);
+INSERT INTO order_item (id, order_id, product_id, quantity, price) VALUES (60, 30, 20, 1, 79.99);
 
 -- Order Item for Order 31
-INSERT INTO order_item (order_id, product_id, quantity, price) VALUES (31, 1, 3, 29.99);
-INSERT INTO order_item (order_id, product_id, quantity, price) VALUES (31, 11, 1, 89.99);
+INSERT INTO order_item (id, order_id, product_id, quantity, price) VALUES (61, 31, 1, 3, 29.99);
+INSERT INTO order_item (id, order_id, product_id, quantity, price) VALUES (62, 31, 11, 1, 89.99);
 
 -- Order Item for Order 32
-INSERT INTO order_item (order_id, product_id, quantity, price) VALUES (32, 2, 2, 49.99);
-INSERT INTO order_item (order_id, product_id, quantity, price) VALUES (32, 12, 1, 59.99);
+INSERT INTO order_item (id, order_id, product_id, quantity, price) VALUES (63, 32, 2, 2, 49.99);
+INSERT INTO order_item (id, order_id, product_id, quantity, price) VALUES (64, 32, 12, 1, 59.99);
 
 -- Order Item for Order 33
-INSERT INTO order_item (order_id, product_id, quantity, price) VALUES (33, 3, 1, 39.99);
-INSERT INTO order_item (order_id, product_id, quantity, price) VALUES (33, 13, 2, 69.99);
+INSERT INTO order_item (id, order_id, product_id, quantity, price) VALUES (65, 33, 3, 1, 39.99);
+INSERT INTO order_item (id, order_id, product_id, quantity, price) VALUES (66, 33, 13, 2, 69.99);
 
 -- Order Item for Order 34
-INSERT INTO order_item (order_id, product_id, quantity, price) VALUES (34, 4, 1, 49.99);
-INSERT INTO order_item (order_id, product_id, quantity, price) VALUES (34, 14, 2, 99.99);
+INSERT INTO order_item (id, order_id, product_id, quantity, price) VALUES (67, 34, 4, 1, 49.99);
+INSERT INTO order_item (id, order_id, product_id, quantity, price) VALUES (68, 34, 14, 2, 99.99);
 
 -- Order Item for Order 35
-INSERT INTO order_item (order_id, product_id, quantity, price) VALUES (35, 5, 2, 79.99);
-INSERT INTO order_item (order_id, product_id, quantity, price) VALUES (35, 15, 1, 49.99);
+INSERT INTO order_item (id, order_id, product_id, quantity, price) VALUES (69, 35, 5, 2, 79.99);
+INSERT INTO order_item (id, order_id, product_id, quantity, price) VALUES (70, 35, 15, 1, 49.99);
 
 -- Order Item for Order 36
-INSERT INTO order_item (order_id, product_id, quantity, price) VALUES (36, 6, 2, 59.99);
-INSERT INTO order_item (order_id, product_id, quantity, price) VALUES (36, 16, 1, 69.99);
+INSERT INTO order_item (id, order_id, product_id, quantity, price) VALUES (71, 36, 6, 2, 59.99);
+INSERT INTO order_item (id, order_id, product_id, quantity, price) VALUES (72, 36, 16, 1, 69.99);
 
 -- Order Item for Order 37
-INSERT INTO order_item (order_id, product_id, quantity, price) VALUES (37, 7, 1, 29.99);
-INSERT INTO order_item (order_id, product_id, quantity, price) VALUES (37, 17, 2, 49.99);
+INSERT INTO order_item (id, order_id, product_id, quantity, price) VALUES (73, 37, 7, 1, 29.99);
+INSERT INTO order_item (id, order_id, product_id, quantity, price) VALUES (74, 37, 17, 2, 49.99);
 
 -- Order Item for Order 38
-INSERT INTO order_item (order_id, product_id, quantity, price) VALUES (38, 8, 3, 39.99);
-INSERT INTO order_item (order_id, product_id, quantity, price) VALUES (38, 18, 1, 79.99);
+INSERT INTO order_item (id, order_id, product_id, quantity, price) VALUES (75, 38, 8, 3, 39.99);
+INSERT INTO order_item (id, order_id, product_id, quantity, price) VALUES (76, 38, 18, 1, 79.99);
 
 -- Order Item for Order 39
-INSERT INTO order_item (order_id, product_id, quantity, price) VALUES (39, 9, 1, 69.99);
-INSERT INTO order_item (order_id, product_id, quantity, price) VALUES (39, 19, 2, 49.99);
+INSERT INTO order_item (id, order_id, product_id, quantity, price) VALUES (77, 39, 9, 1, 69.99);
+INSERT INTO order_item (id, order_id, product_id, quantity, price) VALUES (78, 39, 19, 2, 49.99);
 
 -- Order Item for Order 40
-INSERT INTO order_item (order_id, product_id, quantity, price) VALUES (40, 10, 1, 59.99);
-INSERT INTO order_item (order_id, product_id, quantity, price) VALUES (40, 20, 3, 89.99);
+INSERT INTO order_item (id, order_id, product_id, quantity, price) VALUES (79, 40, 10, 1, 59.99);
+INSERT INTO order_item (id, order_id, product_id, quantity, price) VALUES (80, 40, 20, 3, 89.99);
 
 -- Order Item for Order 41
-INSERT INTO order_item (order_id, product_id, quantity, price) VALUES (41, 1, 2, 79.99);
-INSERT INTO order_item (order_id, product_id, quantity, price) VALUES (41, 11, 1, 69.99);
+INSERT INTO order_item (id, order_id, product_id, quantity, price) VALUES (81, 41, 1, 2, 79.99);
+INSERT INTO order_item (id, order_id, product_id, quantity, price) VALUES (82, 41, 11, 1, 69.99);
 
 -- Order Item for Order 42
-INSERT INTO order_item (order_id, product_id, quantity, price) VALUES (42, 2, 1, 39.99);
-INSERT INTO order_item (order_id, product_id, quantity, price) VALUES (42, 12, 3, 99.99);
+INSERT INTO order_item (id, order_id, product_id, quantity, price) VALUES (83, 42, 2, 1, 39.99);
+INSERT INTO order_item (id, order_id, product_id, quantity, price) VALUES (84, 42, 12, 3, 99.99);
 
 -- Order Item for Order 43
-INSERT INTO order_item (order_id, product_id, quantity, price) VALUES (43, 3, 2, 69.99);
-INSERT INTO order_item (order_id, product_id, quantity, price) VALUES (43, 13, 1, 79.99);
+INSERT INTO order_item (id, order_id, product_id, quantity, price) VALUES (85, 43, 3, 2, 69.99);
+INSERT INTO order_item (id, order_id, product_id, quantity, price) VALUES (86, 43, 13, 1, 79.99);
 
 -- Order Item for Order 44
-INSERT INTO order_item (order_id, product_id, quantity, price) VALUES (44, 4, 1, 59.99);
-INSERT INTO order_item (order_id, product_id, quantity, price) VALUES (44, 14, 2, 69.99);
+INSERT INTO order_item (id, order_id, product_id, quantity, price) VALUES (87, 44, 4, 1, 59.99);
+INSERT INTO order_item (id, order_id, product_id, quantity, price) VALUES (88, 44, 14, 2, 69.99);
 
 -- Order Item for Order 45
-INSERT INTO order_item (order_id, product_id, quantity, price) VALUES (45, 5, 3, 29.99);
-INSERT INTO order_item (order_id, product_id, quantity, price) VALUES (45, 15, 2, 49.99);
+INSERT INTO order_item (id, order_id, product_id, quantity, price) VALUES (89, 45, 5, 3, 29.99);
+INSERT INTO order_item (id, order_id, product_id, quantity, price) VALUES (90, 45, 15, 2, 49.99);
 
 -- Order Item for Order 46
-INSERT INTO order_item (order_id, product_id, quantity, price) VALUES (46, 6, 1, 49.99);
-INSERT INTO order_item (order_id, product_id, quantity, price) VALUES (46, 16, 2, 69.99);
+INSERT INTO order_item (id, order_id, product_id, quantity, price) VALUES (91, 46, 6, 1, 49.99);
+INSERT INTO order_item (id, order_id, product_id, quantity, price) VALUES (92, 46, 16, 2, 69.99);
 
 -- Order Item for Order 47
-INSERT INTO order_item (order_id, product_id, quantity, price) VALUES (47, 7, 3, 59.99);
-INSERT INTO order_item (order_id, product_id, quantity, price) VALUES (47, 17, 1, 39.99);
+INSERT INTO order_item (id, order_id, product_id, quantity, price) VALUES (93, 47, 7, 3, 59.99);
+INSERT INTO order_item (id, order_id, product_id, quantity, price) VALUES (94, 47, 17, 1, 39.99);
 
 -- Order Item for Order 48
-INSERT INTO order_item (order_id, product_id, quantity, price) VALUES (48, 8, 1, 69.99);
-INSERT INTO order_item (order_id, product_id, quantity, price) VALUES (48, 18, 2, 49.99);
+INSERT INTO order_item (id, order_id, product_id, quantity, price) VALUES (95, 48, 8, 1, 69.99);
+INSERT INTO order_item (id, order_id, product_id, quantity, price) VALUES (96, 48, 18, 2, 49.99);
 
 -- Order Item for Order 49
-INSERT INTO order_item (order_id, product_id, quantity, price) VALUES (49, 9, 1, 59.99);
-INSERT INTO order_item (order_id, product_id, quantity, price) VALUES (49, 19, 3, 79.99);
+INSERT INTO order_item (id, order_id, product_id, quantity, price) VALUES (97, 49, 9, 1, 59.99);
+INSERT INTO order_item (id, order_id, product_id, quantity, price) VALUES (98, 49, 19, 3, 79.99);
 
 -- Order Item for Order 50
-INSERT INTO order_item (order_id, product_id, quantity, price) VALUES (50, 10, 2, 49.99);
-INSERT INTO order_item (order_id, product_id, quantity, price) VALUES (50, 20, 1, 69.99);
+INSERT INTO order_item (id, order_id, product_id, quantity, price) VALUES (99, 50, 10, 2, 49.99);
+INSERT INTO order_item (id, order_id, product_id, quantity, price) VALUES (100, 50, 20, 1, 69.99);
 
 
 -- Order Item 51
-INSERT INTO order_item (order_id, product_id, quantity, price) VALUES (51, 1, 2, 49.99);
-INSERT INTO order_item (order_id, product_id, quantity, price) VALUES (51, 5, 1, 69.99);
-INSERT INTO order_item (order_id, product_id, quantity, price) VALUES (51, 13, 3, 29.99);
+INSERT INTO order_item (id, order_id, product_id, quantity, price) VALUES (101, 51, 1, 2, 49.99);
+INSERT INTO order_item (id, order_id, product_id, quantity, price) VALUES (102, 51, 5, 1, 69.99);
+INSERT INTO order_item (id, order_id, product_id, quantity, price) VALUES (103, 51, 13, 3, 29.99);
 
 -- Order Item 52
-INSERT INTO order_item (order_id, product_id, quantity, price) VALUES (52, 2, 1, 19.99);
-INSERT INTO order_item (order_id, product_id, quantity, price) VALUES (52, 6, 2, 79.99);
+INSERT INTO order_item (id, order_id, product_id, quantity, price) VALUES (104, 52, 2, 1, 19.99);
+INSERT INTO order_item (id, order_id, product_id, quantity, price) VALUES (105, 52, 6, 2, 79.99);
 
 -- Order Item 53
-INSERT INTO order_item (order_id, product_id, quantity, price) VALUES (53, 3, 1, 39.99);
-INSERT INTO order_item (order_id, product_id, quantity, price) VALUES (53, 12, 2, 89.99);
+INSERT INTO order_item (id, order_id, product_id, quantity, price) VALUES (106, 53, 3, 1, 39.99);
+INSERT INTO order_item (id, order_id, product_id, quantity, price) VALUES (107, 53, 12, 2, 89.99);
 
 -- Order Item 54
-INSERT INTO order_item (order_id, product_id, quantity, price) VALUES (54, 4, 3, 19.99);
-INSERT INTO order_item (order_id, product_id, quantity, price) VALUES (54, 14, 1, 59.99);
+INSERT INTO order_item (id, order_id, product_id, quantity, price) VALUES (108, 54, 4, 3, 19.99);
+INSERT INTO order_item (id, order_id, product_id, quantity, price) VALUES (109, 54, 14, 1, 59.99);
 
 -- Order Item 55
-INSERT INTO order_item (order_id, product_id, quantity, price) VALUES (55, 5, 2, 49.99);
-INSERT INTO order_item (order_id, product_id, quantity, price) VALUES (55, 11, 1, 99.99);
+INSERT INTO order_item (id, order_id, product_id, quantity, price) VALUES (110, 55, 5, 2, 49.99);
+INSERT INTO order_item (id, order_id, product_id, quantity, price) VALUES (111, 55, 11, 1, 99.99);
 
 -- Order Item 56
-INSERT INTO order_item (order_id, product_id, quantity, price) VALUES (56, 6, 1, 59.99);
-INSERT INTO order_item (order_id, product_id, quantity, price) VALUES (56, 8, 3, 69.99);
+INSERT INTO order_item (id, order_id, product_id, quantity, price) VALUES (112, 56, 6, 1, 59.99);
+INSERT INTO order_item (id, order_id, product_id, quantity, price) VALUES (113, 56, 8, 3, 69.99);
 
 -- Order Item 57
-INSERT INTO order_item (order_id, product_id, quantity, price) VALUES (57, 7, 2, 79.99);
-INSERT INTO order_item (order_id, product_id, quantity, price) VALUES (57, 9, 1, 89.99);
+INSERT INTO order_item (id, order_id, product_id, quantity, price) VALUES (114, 57, 7, 2, 79.99);
+INSERT INTO order_item (id, order_id, product_id, quantity, price) VALUES (115, 57, 9, 1, 89.99);
 
 -- Order Item 58
-INSERT INTO order_item (order_id, product_id, quantity, price) VALUES (58, 8, 1, 69.99);
-INSERT INTO order_item (order_id, product_id, quantity, price) VALUES (58, 10, 3, 39.99);
+INSERT INTO order_item (id, order_id, product_id, quantity, price) VALUES (116, 58, 8, 1, 69.99);
+INSERT INTO order_item (id, order_id, product_id, quantity, price) VALUES (117, 58, 10, 3, 39.99);
 
 -- Order Item 59
-INSERT INTO order_item (order_id, product_id, quantity, price) VALUES (59, 9, 2, 59.99);
-INSERT INTO order_item (order_id, product_id, quantity, price) VALUES (59, 11, 1, 79.99);
+INSERT INTO order_item (id, order_id, product_id, quantity, price) VALUES (118, 59, 9, 2, 59.99);
+INSERT INTO order_item (id, order_id, product_id, quantity, price) VALUES (119, 59, 11, 1, 79.99);
 
 -- Order Item 60
-INSERT INTO order_item (order_id, product_id, quantity, price) VALUES (60, 10, 3, 49.99);
-INSERT INTO order_item (order_id, product_id, quantity, price) VALUES (60, 12, 2, 89.99);
+INSERT INTO order_item (id, order_id, product_id, quantity, price) VALUES (120, 60, 10, 3, 49.99);
+INSERT INTO order_item (id, order_id, product_id, quantity, price) VALUES (121, 60, 12, 2, 89.99);
 
 -- Order Item 61
-INSERT INTO order_item (order_id, product_id, quantity, price) VALUES (61, 11, 1, 99.99);
-INSERT INTO order_item (order_id, product_id, quantity, price) VALUES (61, 13, 2, 29.99);
+INSERT INTO order_item (id, order_id, product_id, quantity, price) VALUES (122, 61, 11, 1, 99.99);
+INSERT INTO order_item (id, order_id, product_id, quantity, price) VALUES (123, 61, 13, 2, 29.99);
 
 -- Order Item 62
-INSERT INTO order_item (order_id, product_id, quantity, price) VALUES (62, 12, 3, 69.99);
-INSERT INTO order_item (order_id, product_id, quantity, price) VALUES (62, 14, 1, 39.99);
+INSERT INTO order_item (id, order_id, product_id, quantity, price) VALUES (124, 62, 12, 3, 69.99);
+INSERT INTO order_item (id, order_id, product_id, quantity, price) VALUES (125, 62, 14, 1, 39.99);
 
 -- Order Item 63
-INSERT INTO order_item (order_id, product_id, quantity, price) VALUES (63, 13, 2, 49.99);
-INSERT INTO order_item (order_id, product_id, quantity, price) VALUES (63, 15, 1, 59.99);
+INSERT INTO order_item (id, order_id, product_id, quantity, price) VALUES (126, 63, 13, 2, 49.99);
+INSERT INTO order_item (id, order_id, product_id, quantity, price) VALUES (127, 63, 15, 1, 59.99);
 
 -- Order Item 64
-INSERT INTO order_item (order_id, product_id, quantity, price) VALUES (64, 14, 1, 79.99);
-INSERT INTO order_item (order_id, product_id, quantity, price) VALUES (64, 16, 2, 89.99);
+INSERT INTO order_item (id, order_id, product_id, quantity, price) VALUES (128, 64, 14, 1, 79.99);
+INSERT INTO order_item (id, order_id, product_id, quantity, price) VALUES (129, 64, 16, 2, 89.99);
 
 -- Order Item 65
-INSERT INTO order_item (order_id, product_id, quantity, price) VALUES (65, 15, 3, 19.99);
-INSERT INTO order_item (order_id, product_id, quantity, price) VALUES (65, 17, 2, 69.99);
+INSERT INTO order_item (id, order_id, product_id, quantity, price) VALUES (130, 65, 15, 3, 19.99);
+INSERT INTO order_item (id, order_id, product_id, quantity, price) VALUES (131, 65, 17, 2, 69.99);
 
 -- Order Item 66
-INSERT INTO order_item (order_id, product_id, quantity, price) VALUES (66, 16, 2, 49.99);
-INSERT INTO order_item (order_id, product_id, quantity, price) VALUES (66, 18, 1, 79.99);
+INSERT INTO order_item (id, order_id, product_id, quantity, price) VALUES (132, 66, 16, 2, 49.99);
+INSERT INTO order_item (id, order_id, product_id, quantity, price) VALUES (133, 66, 18, 1, 79.99);
 
 -- Order Item 67
-INSERT INTO order_item (order_id, product_id, quantity, price) VALUES (67, 17, 1, 39.99);
-INSERT INTO order_item (order_id, product_id, quantity, price) VALUES (67, 19, 3, 59.99);
+INSERT INTO order_item (id, order_id, product_id, quantity, price) VALUES (134, 67, 17, 1, 39.99);
+INSERT INTO order_item (id, order_id, product_id, quantity, price) VALUES (135, 67, 19, 3, 59.99);
 
 -- Order Item 68
-INSERT INTO order_item (order_id, product_id, quantity, price) VALUES (68, 18, 2, 69.99);
-INSERT INTO order_item (order_id, product_id, quantity, price) VALUES (68, 20, 1, 99.99);
+INSERT INTO order_item (id, order_id, product_id, quantity, price) VALUES (136, 68, 18, 2, 69.99);
+INSERT INTO order_item (id, order_id, product_id, quantity, price) VALUES (137, 68, 20, 1, 99.99);
 
 -- Order Item 69
-INSERT INTO order_item (order_id, product_id, quantity, price) VALUES (69, 19, 1, 59.99);
-INSERT INTO order_item (order_id, product_id, quantity, price) VALUES (69, 21, 3, 39.99);
+INSERT INTO order_item (id, order_id, product_id, quantity, price) VALUES (138, 69, 19, 1, 59.99);
+INSERT INTO order_item (id, order_id, product_id, quantity, price) VALUES (139, 69, 21, 3, 39.99);
 
 -- Order Item 70
-INSERT INTO order_item (order_id, product_id, quantity, price) VALUES (70, 20, 2, 49.99);
-INSERT INTO order_item (order_id, product_id, quantity, price) VALUES (70, 22, 1, 79.99);
+INSERT INTO order_item (id, order_id, product_id, quantity, price) VALUES (140, 70, 20, 2, 49.99);
+INSERT INTO order_item (id, order_id, product_id, quantity, price) VALUES (141, 70, 22, 1, 79.99);
 
 -- Order Item 71
-INSERT INTO order_item (order_id, product_id, quantity, price) VALUES (71, 21, 3, 69.99);
-INSERT INTO order_item (order_id, product_id, quantity, price) VALUES (71, 23, 1, 59.99);
+INSERT INTO order_item (id, order_id, product_id, quantity, price) VALUES (142, 71, 21, 3, 69.99);
+INSERT INTO order_item (id, order_id, product_id, quantity, price) VALUES (143, 71, 23, 1, 59.99);
 
 -- Order Item 72
-INSERT INTO order_item (order_id, product_id, quantity, price) VALUES (72, 22, 2, 79.99);
-INSERT INTO order_item (order_id, product_id, quantity, price) VALUES (72, 24, 1, 89.99);
+INSERT INTO order_item (id, order_id, product_id, quantity, price) VALUES (144, 72, 22, 2, 79.99);
+INSERT INTO order_item (id, order_id, product_id, quantity, price) VALUES (145, 72, 24, 1, 89.99);
 
 -- Order Item 73
-INSERT INTO order_item (order_id, product_id, quantity, price) VALUES (73, 23, 1, 39.99);
-INSERT INTO order_item (order_id, product_id, quantity, price) VALUES (73, 25, 2, 49.99);
+INSERT INTO order_item (id, order_id, product_id, quantity, price) VALUES (146, 73, 23, 1, 39.99);
+INSERT INTO order_item (id, order_id, product_id, quantity, price) VALUES (147, 73, 25, 2, 49.99);
 
 -- Order Item 74
-INSERT INTO order_item (order_id, product_id, quantity, price) VALUES (74, 24, 2, 59.99);
-INSERT INTO order_item (order_id, product_id, quantity, price) VALUES (74, 26, 1, 69.99);
+INSERT INTO order_item (id, order_id, product_id, quantity, price) VALUES (148, 74, 24, 2, 59.99);
+INSERT INTO order_item (id, order_id, product_id, quantity, price) VALUES (149, 74, 26, 1, 69.99);
 
 -- Order Item 75
-INSERT INTO order_item (order_id, product_id, quantity, price) VALUES (75, 25, 3, 49.99);
-INSERT INTO order_item (order_id, product_id, quantity, price) VALUES (75, 27, 1, 79.99);
+INSERT INTO order_item (id, order_id, product_id, quantity, price) VALUES (150, 75, 25, 3, 49.99);
+INSERT INTO order_item (id, order_id, product_id, quantity, price) VALUES (151, 75, 27, 1, 79.99);
 
 -- Order Item 76
-INSERT INTO order_item (order_id, product_id, quantity, price) VALUES (76, 26, 1, 89.99);
-INSERT INTO order_item (order_id, product_id, quantity, price) VALUES (76, 28, 2, 39.99);
+INSERT INTO order_item (id, order_id, product_id, quantity, price) VALUES (152, 76, 26, 1, 89.99);
+INSERT INTO order_item (id, order_id, product_id, quantity, price) VALUES (153, 76, 28, 2, 39.99);
 
 -- Order Item 77
-INSERT INTO order_item (order_id, product_id, quantity, price) VALUES (77, 27, 1, 79.99);
-INSERT INTO order_item (order_id, product_id, quantity, price) VALUES (77, 29, 3, 59.99);
+INSERT INTO order_item (id, order_id, product_id, quantity, price) VALUES (154, 77, 27, 1, 79.99);
+INSERT INTO order_item (id, order_id, product_id, quantity, price) VALUES (155, 77, 29, 3, 59.99);
 
 -- Order Item 78
-INSERT INTO order_item (order_id, product_id, quantity, price) VALUES (78, 28, 2, 69.99);
-INSERT INTO order_item (order_id, product_id, quantity, price) VALUES (78, 30, 1, 99.99);
+INSERT INTO order_item (id, order_id, product_id, quantity, price) VALUES (156, 78, 28, 2, 69.99);
+INSERT INTO order_item (id, order_id, product_id, quantity, price) VALUES (157, 78, 30, 1, 99.99);
 
 -- Order Item 79
-INSERT INTO order_item (order_id, product_id, quantity, price) VALUES (79, 29, 1, 39.99);
-INSERT INTO order_item (order_id, product_id, quantity, price) VALUES (79, 31, 2, 49.99);
+INSERT INTO order_item (id, order_id, product_id, quantity, price) VALUES (158, 79, 29, 1, 39.99);
+INSERT INTO order_item (id, order_id, product_id, quantity, price) VALUES (159, 79, 31, 2, 49.99);
 
 -- Order Item 80
-INSERT INTO order_item (order_id, product_id, quantity, price) VALUES (80, 30, 2, 59.99);
-INSERT INTO order_item (order_id, product_id, quantity, price) VALUES (80, 32, 1, 69.99);
+INSERT INTO order_item (id, order_id, product_id, quantity, price) VALUES (160, 80, 30, 2, 59.99);
+INSERT INTO order_item (id, order_id, product_id, quantity, price) VALUES (161, 80, 32, 1, 69.99);
 
 -- Order Item 81
-INSERT INTO order_item (order_id, product_id, quantity, price) VALUES (81, 31, 3, 49.99);
-INSERT INTO order_item (order_id, product_id, quantity, price) VALUES (81, 33, 2, 59.99);
+INSERT INTO order_item (id, order_id, product_id, quantity, price) VALUES (162, 81, 31, 3, 49.99);
+INSERT INTO order_item (id, order_id, product_id, quantity, price) VALUES (163, 81, 33, 2, 59.99);
 
 -- Order Item 82
-INSERT INTO order_item (order_id, product_id, quantity, price) VALUES (82, 32, 1, 69.99);
-INSERT INTO order_item (order_id, product_id, quantity, price) VALUES (82, 34, 3, 79.99);
+INSERT INTO order_item (id, order_id, product_id, quantity, price) VALUES (164, 82, 32, 1, 69.99);
+INSERT INTO order_item (id, order_id, product_id, quantity, price) VALUES (165, 82, 34, 3, 79.99);
 
 -- Order Item 83
-INSERT INTO order_item (order_id, product_id, quantity, price) VALUES (83, 33, 2, 89.99);
-INSERT INTO order_item (order_id, product_id, quantity, price) VALUES (83, 35, 1, 99.99);
+INSERT INTO order_item (id, order_id, product_id, quantity, price) VALUES (166, 83, 33, 2, 89.99);
+INSERT INTO order_item (id, order_id, product_id, quantity, price) VALUES (167, 83, 35, 1, 99.99);
 
 -- Order Item 84
-INSERT INTO order_item (order_id, product_id, quantity, price) VALUES (84, 34, 2, 39.99);
-INSERT INTO order_item (order_id, product_id, quantity, price) VALUES (84, 36, 1, 49.99);
+INSERT INTO order_item (id, order_id, product_id, quantity, price) VALUES (168, 84, 34, 2, 39.99);
+INSERT INTO order_item (id, order_id, product_id, quantity, price) VALUES (169, 84, 36, 1, 49.99);
 
 -- Order Item 85
-INSERT INTO order_item (order_id, product_id, quantity, price) VALUES (85, 35, 1, 59.99);
-INSERT INTO order_item (order_id, product_id, quantity, price) VALUES (85, 37, 2, 69.99);
+INSERT INTO order_item (id, order_id, product_id, quantity, price) VALUES (170, 85, 35, 1, 59.99);
+INSERT INTO order_item (id, order_id, product_id, quantity, price) VALUES (171, 85, 37, 2, 69.99);
 
 -- Order Item 86
-INSERT INTO order_item (order_id, product_id, quantity, price) VALUES (86, 36, 3, 79.99);
-INSERT INTO order_item (order_id, product_id, quantity, price) VALUES (86, 38, 2, 89.99);
+INSERT INTO order_item (id, order_id, product_id, quantity, price) VALUES (172, 86, 36, 3, 79.99);
+INSERT INTO order_item (id, order_id, product_id, quantity, price) VALUES (173, 86, 38, 2, 89.99);
 
 -- Order Item 87
-INSERT INTO order_item (order_id, product_id, quantity, price) VALUES (87, 37, 1, 99.99);
-INSERT INTO order_item (order_id, product_id, quantity, price) VALUES (87, 39, 3, 49.99);
+INSERT INTO order_item (id, order_id, product_id, quantity, price) VALUES (174, 87, 37, 1, 99.99);
+INSERT INTO order_item (id, order_id, product_id, quantity, price) VALUES (175, 87, 39, 3, 49.99);
 
 -- Order Item 88
-INSERT INTO order_item (order_id, product_id, quantity, price) VALUES (88, 38, 1, 59.99);
-INSERT INTO order_item (order_id, product_id, quantity, price) VALUES (88, 40, 2, 69.99);
+INSERT INTO order_item (id, order_id, product_id, quantity, price) VALUES (176, 88, 38, 1, 59.99);
+INSERT INTO order_item (id, order_id, product_id, quantity, price) VALUES (177, 88, 40, 2, 69.99);
 
 -- Order Item 89
-INSERT INTO order_item (order_id, product_id, quantity, price) VALUES (89, 39, 2, 79.99);
-INSERT INTO order_item (order_id, product_id, quantity, price) VALUES (89, 41, 1, 89.99);
+INSERT INTO order_item (id, order_id, product_id, quantity, price) VALUES (178, 89, 39, 2, 79.99);
+INSERT INTO order_item (id, order_id, product_id, quantity, price) VALUES (179, 89, 41, 1, 89.99);
 
 -- Order Item 90
-INSERT INTO order_item (order_id, product_id, quantity, price) VALUES (90, 40, 3, 99.99);
-INSERT INTO order_item (order_id, product_id, quantity, price) VALUES (90, 42, 2, 59.99);
+INSERT INTO order_item (id, order_id, product_id, quantity, price) VALUES (180, 90, 40, 3, 99.99);
+INSERT INTO order_item (id, order_id, product_id, quantity, price) VALUES (181, 90, 42, 2, 59.99);
 
 -- Order Item 91
-INSERT INTO order_item (order_id, product_id, quantity, price) VALUES (91, 41, 1, 69.99);
-INSERT INTO order_item (order_id, product_id, quantity, price) VALUES (91, 43, 3, 49.99);
+INSERT INTO order_item (id, order_id, product_id, quantity, price) VALUES (182, 91, 41, 1, 69.99);
+INSERT INTO order_item (id, order_id, product_id, quantity, price) VALUES (183, 91, 43, 3, 49.99);
 
 -- Order Item 92
-INSERT INTO order_item (order_id, product_id, quantity, price) VALUES (92, 42, 2, 39.99);
-INSERT INTO order_item (order_id, product_id, quantity, price) VALUES (92, 44, 1, 79.99);
+INSERT INTO order_item (id, order_id, product_id, quantity, price) VALUES (184, 92, 42, 2, 39.99);
+INSERT INTO order_item (id, order_id, product_id, quantity, price) VALUES (185, 92, 44, 1, 79.99);
 
 -- Order Item 93
-INSERT INTO order_item (order_id, product_id, quantity, price) VALUES (93, 43, 3, 59.99);
-INSERT INTO order_item (order_id, product_id, quantity, price) VALUES (93, 45, 2, 69.99);
+INSERT INTO order_item (id, order_id, product_id, quantity, price) VALUES (186, 93, 43, 3, 59.99);
+INSERT INTO order_item (id, order_id, product_id, quantity, price) VALUES (187, 93, 45, 2, 69.99);
 
 -- Order Item 94
-INSERT INTO order_item (order_id, product_id, quantity, price) VALUES (94, 44, 1, 79.99);
-INSERT INTO order_item (order_id, product_id, quantity, price) VALUES (94, 46, 3, 49.99);
+INSERT INTO order_item (id, order_id, product_id, quantity, price) VALUES (188, 94, 44, 1, 79.99);
+INSERT INTO order_item (id, order_id, product_id, quantity, price) VALUES (189, 94, 46, 3, 49.99);
 
 -- Order Item 95
-INSERT INTO order_item (order_id, product_id, quantity, price) VALUES (95, 45, 2, 59.99);
-INSERT INTO order_item (order_id, product_id, quantity, price) VALUES (95, 47, 1, 99.99);
+INSERT INTO order_item (id, order_id, product_id, quantity, price) VALUES (190, 95, 45, 2, 59.99);
+INSERT INTO order_item (id, order_id, product_id, quantity, price) VALUES (191, 95, 47, 1, 99.99);
 
 -- Order Item 96
-INSERT INTO order_item (order_id, product_id, quantity, price) VALUES (96, 46, 1, 39.99);
-INSERT INTO order_item (order_id, product_id, quantity, price) VALUES (96, 48, 2, 69.99);
+INSERT INTO order_item (id, order_id, product_id, quantity, price) VALUES (192, 96, 46, 1, 39.99);
+INSERT INTO order_item (id, order_id, product_id, quantity, price) VALUES (193, 96, 48, 2, 69.99);
 
 -- Order Item 97
-INSERT INTO order_item (order_id, product_id, quantity, price) VALUES (97, 47, 3, 79.99);
-INSERT INTO order_item (order_id, product_id, quantity, price) VALUES (97, 49, 2, 89.99);
+INSERT INTO order_item (id, order_id, product_id, quantity, price) VALUES (194, 97, 47, 3, 79.99);
+INSERT INTO order_item (id, order_id, product_id, quantity, price) VALUES (195, 97, 49, 2, 89.99);
 
 -- Order Item 98
-INSERT INTO order_item (order_id, product_id, quantity, price) VALUES (98, 48, 2, 59.99);
-INSERT INTO order_item (order_id, product_id, quantity, price) VALUES (98, 50, 1, 69.99);
+INSERT INTO order_item (id, order_id, product_id, quantity, price) VALUES (196, 98, 48, 2, 59.99);
+INSERT INTO order_item (id, order_id, product_id, quantity, price) VALUES (197, 98, 50, 1, 69.99);
 
 -- Order Item 99
-INSERT INTO order_item (order_id, product_id, quantity, price) VALUES (99, 49, 1, 39.99);
-INSERT INTO order_item (order_id, product_id, quantity, price) VALUES (99, 50, 3, 49.99);
+INSERT INTO order_item (id, order_id, product_id, quantity, price) VALUES (198, 99, 49, 1, 39.99);
+INSERT INTO order_item (id, order_id, product_id, quantity, price) VALUES (199, 99, 50, 3, 49.99);
 
 -- Order Item 100
-INSERT INTO order_item (order_id, product_id, quantity, price) VALUES (100, 50, 2, 59.99);
-INSERT INTO order_item (order_id, product_id, quantity, price) VALUES (100, 1, 1, 79.99);
-
-
+INSERT INTO order_item (id, order_id, product_id, quantity, price) VALUES (200, 100, 50, 2, 59.99);
+INSERT INTO order_item (id, order_id, product_id, quantity, price) VALUES (201, 100, 1, 1, 79.99);
 
+-- order_details and order_item ids come from pooled sequences (allocationSize = 50), which Hibernate
+-- emulates on MySQL with single-row tables. Move them past the seeded ids so new orders don't collide.
+UPDATE order_details_seq SET next_val = 151;
+UPDATE order_item_seq SET next_val = 252;